@@ -4,19 +4,80 @@ import com.example.demo.order.domain.Order;
 import com.example.demo.order.port.out.OrderRepository;
 import com.example.demo.shared.domain.Platform;
 import lombok.RequiredArgsConstructor;
-import org.hibernate.Session;
-import org.hibernate.SessionFactory;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
 
+    private static final String INSERT = """
+            INSERT INTO orders (id, seller_id, platform_order_id, order_date, platform, status, created_at, updated_at)
+            VALUES\s""";
+
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 8;
+
+    // Events arrive out of order; the WHERE keeps an older status from overwriting a newer one
+    private static final String ON_CONFLICT = """
+
+            ON CONFLICT (seller_id, platform_order_id) DO UPDATE
+            SET status = EXCLUDED.status,
+                order_date = COALESCE(EXCLUDED.order_date, orders.order_date),
+                updated_at = EXCLUDED.updated_at
+            WHERE EXCLUDED.updated_at > orders.updated_at
+            """;
+
+    private static final String UPSERT = INSERT + ROW + ON_CONFLICT;
+
+    private static final String FIND_BY_SELLER_AND_PLATFORM_ORDER_IDS = """
+            SELECT id, seller_id, platform_order_id, order_date, platform, status, created_at, updated_at
+            FROM orders
+            WHERE seller_id = ? AND platform_order_id = ANY(?)
+            """;
+
+    // Shopee orders were once stored without a seller key; the first write keyed by the shop takes the row over
+    private static final String ADOPT_UNKEYED_SHOPEE_ORDERS = """
+            UPDATE orders o
+            SET seller_id = k.shop_id
+            FROM unnest(?::varchar[], ?::varchar[]) AS k(platform_order_id, shop_id)
+            WHERE o.platform = 'SHOPEE'
+              AND o.seller_id = ''
+              AND o.platform_order_id = k.platform_order_id
+              AND NOT EXISTS (SELECT 1 FROM orders t
+                              WHERE t.seller_id = k.shop_id AND t.platform_order_id = k.platform_order_id)
+            """;
+
+    // Events published before pushes carried the shop id write to the shop the order is already stored under
+    private static final String FIND_SHOPEE_SHOP_IDS = """
+            SELECT platform_order_id, seller_id
+            FROM orders
+            WHERE platform = 'SHOPEE' AND seller_id <> '' AND platform_order_id = ANY(?)
+            """;
+
+    // Keeps the bind parameters of one statement well below the 32767 Postgres accepts
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
     private final OrderSpringDataRepository springDataOrdersRepository;
-    private final SessionFactory session;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Order findById(UUID id) {
@@ -36,21 +97,129 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    public Order update(Order order) {
-        OrderEntity orderEntity = OrderMapper.INSTANCE.toEntity(order);
-        OrderEntity updated = session.openSession().merge(orderEntity);
-        return OrderMapper.INSTANCE.toDomain(updated);
+    public List<Order> findBySellerIdAndPlatformOrderIds(String sellerId, Collection<String> platformOrderIds) {
+        if (platformOrderIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Order> orders = new ArrayList<>(platformOrderIds.size());
+        List<String> ids = List.copyOf(platformOrderIds);
+        for (int from = 0; from < ids.size(); from += MAX_ROWS_PER_STATEMENT) {
+            Object[] chunk = ids.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, ids.size())).toArray();
+            orders.addAll(jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(FIND_BY_SELLER_AND_PLATFORM_ORDER_IDS);
+                ps.setString(1, sellerId);
+                ps.setArray(2, connection.createArrayOf("varchar", chunk));
+                return ps;
+            }, (rs, rowNum) -> toOrder(rs)));
+        }
+        return orders;
     }
 
     @Override
-    public OrderEntity findByPlatform(Platform platform, String platformOrderId, String sellerId) {
-        return session
-                .openSession()
-                .createSelectionQuery("from OrderEntity where platform = :platform and platformOrderId = :platformOrderId and sellerId = :sellerId", OrderEntity.class)
-                .setParameter("platform", platform)
-                .setParameter("platformOrderId", platformOrderId)
-                .setParameter("sellerId", sellerId)
-                .getSingleResultOrNull();
+    @Transactional
+    public boolean upsert(Order order) {
+        keyShopeeOrdersByShop(List.of(order));
+        return jdbcTemplate.update(UPSERT, ps -> bind(ps, 0, order, Instant.now())) > 0;
     }
 
+    @Override
+    @Transactional
+    public int upsertAll(Collection<Order> orders) {
+        List<Order> rows = keyShopeeOrdersByShop(orders);
+        Instant now = Instant.now();
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Order> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            String sql = INSERT + String.join(", ", Collections.nCopies(chunk.size(), ROW)) + ON_CONFLICT;
+            written += jdbcTemplate.update(sql, ps -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    bind(ps, i * COLUMNS, chunk.get(i), now);
+                }
+            });
+        }
+        return written;
+    }
+
+    // Moves unkeyed Shopee rows to the shop of the incoming orders and keys unkeyed incoming orders by the shop
+    // their row is stored under; orders that end up with the same key are reduced to the latest
+    private List<Order> keyShopeeOrdersByShop(Collection<Order> orders) {
+        List<Order> keyed = new ArrayList<>();
+        List<Order> unkeyed = new ArrayList<>();
+        for (Order order : orders) {
+            if (order.getPlatform() == Platform.SHOPEE) {
+                (Strings.isEmpty(order.getSellerId()) ? unkeyed : keyed).add(order);
+            }
+        }
+        if (keyed.isEmpty() && unkeyed.isEmpty()) {
+            return List.copyOf(orders);
+        }
+
+        if (!keyed.isEmpty()) {
+            Object[] orderIds = keyed.stream().map(Order::getPlatformOrderId).toArray();
+            Object[] shopIds = keyed.stream().map(Order::getSellerId).toArray();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(ADOPT_UNKEYED_SHOPEE_ORDERS);
+                ps.setArray(1, connection.createArrayOf("varchar", orderIds));
+                ps.setArray(2, connection.createArrayOf("varchar", shopIds));
+                return ps;
+            });
+        }
+        if (!unkeyed.isEmpty()) {
+            Object[] orderIds = unkeyed.stream().map(Order::getPlatformOrderId).toArray();
+            Map<String, String> shopIds = new HashMap<>();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(FIND_SHOPEE_SHOP_IDS);
+                ps.setArray(1, connection.createArrayOf("varchar", orderIds));
+                return ps;
+            }, rs -> {
+                shopIds.put(rs.getString("platform_order_id"), rs.getString("seller_id"));
+            });
+            unkeyed.forEach(order -> order.setSellerId(
+                    shopIds.getOrDefault(order.getPlatformOrderId(), order.getSellerId())));
+        }
+
+        Map<String, Order> latest = new LinkedHashMap<>();
+        for (Order order : orders) {
+            latest.merge(order.getSellerId() + "|" + order.getPlatformOrderId(), order,
+                    (a, b) -> isAfter(b.getUpdatedAt(), a.getUpdatedAt()) ? b : a);
+        }
+        return List.copyOf(latest.values());
+    }
+
+    private boolean isAfter(Instant value, Instant other) {
+        return value != null && (other == null || value.isAfter(other));
+    }
+
+    private Order toOrder(ResultSet rs) throws SQLException {
+        Order order = new Order();
+        order.setId(rs.getObject("id", UUID.class).toString());
+        order.setSellerId(rs.getString("seller_id"));
+        order.setPlatformOrderId(rs.getString("platform_order_id"));
+        order.setOrderDate(toInstant(rs.getObject("order_date", OffsetDateTime.class)));
+        order.setPlatform(Platform.valueOf(rs.getString("platform")));
+        order.setStatus(rs.getString("status"));
+        order.setCreatedAt(toInstant(rs.getObject("created_at", OffsetDateTime.class)));
+        order.setUpdatedAt(toInstant(rs.getObject("updated_at", OffsetDateTime.class)));
+        return order;
+    }
+
+    private Instant toInstant(OffsetDateTime value) {
+        return value != null ? value.toInstant() : null;
+    }
+
+    private void bind(PreparedStatement ps, int offset, Order order, Instant now) throws SQLException {
+        Instant updatedAt = order.getUpdatedAt() != null ? order.getUpdatedAt() : now;
+        OffsetDateTime orderDate = order.getOrderDate() != null
+                ? OffsetDateTime.ofInstant(order.getOrderDate(), ZoneOffset.UTC)
+                : null;
+        ps.setObject(offset + 1, order.getId() != null ? UUID.fromString(order.getId()) : UUID.randomUUID());
+        ps.setString(offset + 2, order.getSellerId());
+        ps.setString(offset + 3, order.getPlatformOrderId());
+        ps.setObject(offset + 4, orderDate, Types.TIMESTAMP_WITH_TIMEZONE);
+        ps.setString(offset + 5, order.getPlatform().name());
+        ps.setString(offset + 6, order.getStatus());
+        ps.setObject(offset + 7, OffsetDateTime.ofInstant(now, ZoneOffset.UTC));
+        ps.setObject(offset + 8, OffsetDateTime.ofInstant(updatedAt, ZoneOffset.UTC));
+    }
 }
@@ -0,0 +1,231 @@
+package com.example.demo.order.application;
+
+import com.example.demo.order.configuration.OrderIngestionProperties;
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.port.out.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers order updates and writes them in micro-batches.
+ * <p>
+ * Updates for the same order collapse to the most recent one while buffered. A batch is written as soon as
+ * {@code order.ingestion.batch-size} distinct orders are waiting, otherwise after {@code flush-interval}. When
+ * {@code max-pending} orders are buffered, {@link #submit} blocks until the writer catches up. Whatever is
+ * buffered at shutdown is written before the writer stops. The future returned by {@link #submit} completes once
+ * the order, or a newer update of it, has been written.
+ */
+@Component
+@Slf4j
+public class OrderEventBatcher implements SmartLifecycle {
+
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
+    private final OrderRepository orderRepository;
+    private final OrderIngestionProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final LinkedHashMap<OrderKey, Pending> pending = new LinkedHashMap<>();
+
+    private final Counter received;
+    private final Counter collapsed;
+    private final Counter flushed;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public OrderEventBatcher(OrderRepository orderRepository, OrderIngestionProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+        this.received = meterRegistry.counter("order.ingestion.updates", "result", "received");
+        this.collapsed = meterRegistry.counter("order.ingestion.updates", "result", "collapsed");
+        this.flushed = meterRegistry.counter("order.ingestion.updates", "result", "flushed");
+        Gauge.builder("order.ingestion.pending", this, OrderEventBatcher::pendingCount).register(meterRegistry);
+    }
+
+    // Matches the unique key of the orders table
+    private record OrderKey(String sellerId, String platformOrderId) {
+    }
+
+    // Callers waiting on collapsed updates are completed with the update that replaced theirs
+    private record Pending(Order order, List<CompletableFuture<Void>> waiters) {
+    }
+
+    public CompletableFuture<Void> submit(Order order) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        received.increment();
+        lock.lock();
+        try {
+            while (running && pending.size() >= properties.getMaxPending()) {
+                notFull.await();
+            }
+            if (running) {
+                OrderKey key = new OrderKey(order.getSellerId(), order.getPlatformOrderId());
+                Pending previous = pending.get(key);
+                if (previous == null) {
+                    List<CompletableFuture<Void>> waiters = new ArrayList<>(1);
+                    waiters.add(written);
+                    pending.put(key, new Pending(order, waiters));
+                } else {
+                    previous.waiters().add(written);
+                    if (isNewer(order, previous.order())) {
+                        pending.put(key, new Pending(order, previous.waiters()));
+                    }
+                    collapsed.increment();
+                }
+                if (pending.size() >= properties.getBatchSize()) {
+                    flushRequested.signal();
+                }
+                return written;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+
+        // Not running or interrupted while waiting: write through so the update is not lost
+        write(List.of(new Pending(order, List.of(written))));
+        return written;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofVirtual().name("order-event-batcher").start(this::runWriter);
+    }
+
+    @Override
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            flushRequested.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (writer == null) {
+            return;
+        }
+        try {
+            if (!writer.join(Duration.ofSeconds(STOP_TIMEOUT_SECONDS))) {
+                log.warn("Order event writer did not finish within {}s, {} orders not written",
+                        STOP_TIMEOUT_SECONDS, pendingCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the PartitionedOrderExecutor so events still queued on its lanes can be written
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        while (true) {
+            List<Pending> batch;
+            lock.lock();
+            try {
+                if (running && pending.size() < properties.getBatchSize()) {
+                    flushRequested.awaitNanos(intervalNanos);
+                }
+                if (pending.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                // An interrupted writer drains what is left and exits
+                running = false;
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            write(batch);
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<Pending> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            try {
+                orderRepository.upsertAll(chunk.stream().map(Pending::order).toList());
+                flushed.increment(chunk.size());
+                chunk.forEach(entry -> complete(entry, null));
+            } catch (Exception e) {
+                // One bad order must not sink the rest of the batch
+                log.warn("Batched order upsert of {} orders failed, writing them one by one: {}",
+                        chunk.size(), e.getMessage());
+                for (Pending entry : chunk) {
+                    Order order = entry.order();
+                    try {
+                        orderRepository.upsert(order);
+                        flushed.increment();
+                        complete(entry, null);
+                    } catch (Exception rowFailure) {
+                        log.error("Failed to write {} order {}: {}", order.getPlatform(), order.getPlatformOrderId(),
+                                rowFailure.getMessage(), rowFailure);
+                        complete(entry, rowFailure);
+                    }
+                }
+            }
+        }
+    }
+
+    private void complete(Pending entry, Exception failure) {
+        for (CompletableFuture<Void> waiter : entry.waiters()) {
+            if (failure == null) {
+                waiter.complete(null);
+            } else {
+                waiter.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private boolean isNewer(Order candidate, Order current) {
+        Instant candidateTime = candidate.getUpdatedAt();
+        Instant currentTime = current.getUpdatedAt();
+        return currentTime == null || (candidateTime != null && !candidateTime.isBefore(currentTime));
+    }
+}
@@ -1,86 +1,71 @@
 package com.example.demo.order.application;
 
 import com.example.demo.shared.domain.Platform;
-import com.example.demo.order.adapter.out.persistence.OrderEntity;
-import com.example.demo.order.port.out.OrderRepository;
 import com.example.demo.webhook.events.LazadaTradeOrderEvent;
 import com.example.demo.webhook.events.ShopeeOrderEvent;
 import com.example.demo.order.domain.Order;
-import com.example.demo.order.adapter.out.persistence.OrderMapper;
 
 import java.time.Instant;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class OrderManagement {
 
-    private final OrderRepository orderRepository; // Assuming you have an OrderRepository to handle database operations
+    private final OrderEventBatcher orderEventBatcher;
+    private final PartitionedOrderExecutor partitionedOrderExecutor;
 
-    @Async
-    @EventListener
-    void onLazadaOrderEvent(LazadaTradeOrderEvent data) {
-        log.info("Received Lazada Trade Order Data: {}", data);
-        OrderEntity orderEntityOpt = orderRepository.findByPlatform(
-                Platform.LAZADA,
-                data.tradeOrderId(),
-                data.sellerId()
-        );
-        Order order;
-        if (Objects.nonNull(orderEntityOpt)) {
+    // Publications are recorded in the event publication registry and only marked completed once the returned
+    // future completes, that is once the order is written, so an event lost to a crash or a failed write is
+    // resubmitted. The listener runs on the committing thread and only hands the event to the order's lane, so
+    // events for one order reach the lane in the order they were committed and no thread waits for the write.
+    @TransactionalEventListener
+    CompletableFuture<Void> onLazadaOrderEvent(LazadaTradeOrderEvent data) {
+        return partitionedOrderExecutor.submit(Platform.LAZADA, data.sellerId(), data.tradeOrderId(),
+                        () -> orderEventBatcher.submit(toOrder(data)))
+                .thenCompose(written -> written);
+    }
 
-            Order ord = new Order();
-            ord.setPlatform(Platform.LAZADA);
-            ord.setUpdatedAt(Instant.ofEpochMilli(data.statusUpdateTime()));
-            ord.setPlatformOrderId(data.tradeOrderId());
-            ord.setSellerId(data.sellerId());
-            ord.setStatus(data.orderStatus());
-            order = orderRepository.update(ord);
-        } else {
-            Order ord = new Order();
-            ord.setUpdatedAt(Instant.ofEpochMilli(data.statusUpdateTime()));
-            ord.setPlatform(Platform.LAZADA);
-            ord.setPlatformOrderId(data.tradeOrderId());
-            ord.setSellerId(data.sellerId());
-            ord.setStatus(data.orderStatus());
-            order = orderRepository.save(ord);
-        }
+    @TransactionalEventListener
+    CompletableFuture<Void> onShopeeOrderEvent(ShopeeOrderEvent data) {
+        return partitionedOrderExecutor.submit(Platform.SHOPEE, shopeeSellerId(data), data.orderId(),
+                        () -> orderEventBatcher.submit(toOrder(data)))
+                .thenCompose(written -> written);
     }
 
-    @Async
-    @EventListener
-    void onShopeeOrderEvent(ShopeeOrderEvent data) {
+    // Push update times are epoch seconds, the same instants the reconciliation poller reads from the platform APIs
+    static Order toOrder(LazadaTradeOrderEvent data) {
+        log.info("Received Lazada Trade Order Data: {}", data);
+        Order order = new Order();
+        order.setPlatform(Platform.LAZADA);
+        order.setUpdatedAt(Instant.ofEpochSecond(data.statusUpdateTime()));
+        order.setPlatformOrderId(data.tradeOrderId());
+        order.setSellerId(data.sellerId());
+        order.setStatus(data.orderStatus());
+        return order;
+    }
+
+    static Order toOrder(ShopeeOrderEvent data) {
         log.info("Received Shopee Order Data: {}", data);
-        OrderEntity orderEntityOpt =
-                orderRepository.findByPlatform(
-                        Platform.SHOPEE,
-                        data.orderId(),
-                        Strings.EMPTY
-                );
-        Order order;
-        if (Objects.nonNull(orderEntityOpt)) {
-            Order ord = new Order();
-            ord.setPlatform(Platform.SHOPEE);
-            ord.setUpdatedAt(Instant.ofEpochMilli(data.updateTime()));
-            ord.setPlatformOrderId(data.orderId());
-            ord.setStatus(data.orderStatus());
-            order = orderRepository.update(ord);
-        } else {
-            Order ord = new Order();
-            ord.setPlatform(Platform.SHOPEE);
-            ord.setUpdatedAt(Instant.ofEpochMilli(data.updateTime()));
-            ord.setPlatformOrderId(data.orderId());
-            ord.setStatus(data.orderStatus());
-            order = orderRepository.save(ord);
-        }
+        Order order = new Order();
+        order.setPlatform(Platform.SHOPEE);
+        order.setUpdatedAt(Instant.ofEpochSecond(data.updateTime()));
+        order.setPlatformOrderId(data.orderId());
+        order.setSellerId(shopeeSellerId(data));
+        order.setStatus(data.orderStatus());
+        return order;
+    }
+
+    // Shopee orders are keyed by shop, which is all a Shopee order push identifies. Events published before pushes
+    // carried the shop id stay unkeyed; the repository writes them to the shop the order is stored under
+    private static String shopeeSellerId(ShopeeOrderEvent data) {
+        return data.shopId() != null ? data.shopId() : Strings.EMPTY;
     }
 }
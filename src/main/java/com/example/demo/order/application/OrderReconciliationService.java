@@ -0,0 +1,74 @@
+package com.example.demo.order.application;
+
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.port.in.FetchedOrder;
+import com.example.demo.order.port.in.OrderReconciliationUseCase;
+import com.example.demo.order.port.out.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies orders fetched from a platform API against the stored ones. Orders that are stored with the same status
+ * and order date are skipped, so a reconciliation pass over mostly unchanged orders writes next to nothing.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderReconciliationService implements OrderReconciliationUseCase {
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    public int reconcile(String sellerId, Collection<FetchedOrder> orders) {
+        // Pages overlap when orders change while they are walked; the latest version of each order wins
+        Map<String, Order> latest = new LinkedHashMap<>();
+        for (FetchedOrder fetched : orders) {
+            Order order = toOrder(fetched);
+            latest.merge(order.getPlatformOrderId(), order, (current, candidate) ->
+                    isBefore(current.getUpdatedAt(), candidate.getUpdatedAt()) ? candidate : current);
+        }
+        if (latest.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Order> stored = orderRepository.findBySellerIdAndPlatformOrderIds(sellerId, latest.keySet())
+                .stream()
+                .collect(Collectors.toMap(Order::getPlatformOrderId, Function.identity()));
+
+        List<Order> changed = latest.values().stream()
+                .filter(order -> hasChanged(order, stored.get(order.getPlatformOrderId())))
+                .toList();
+        return changed.isEmpty() ? 0 : orderRepository.upsertAll(changed);
+    }
+
+    private Order toOrder(FetchedOrder fetched) {
+        Order order = new Order();
+        order.setPlatform(fetched.platform());
+        order.setSellerId(fetched.sellerId());
+        order.setPlatformOrderId(fetched.platformOrderId());
+        order.setStatus(fetched.status());
+        order.setOrderDate(fetched.orderDate());
+        order.setUpdatedAt(fetched.updatedAt());
+        return order;
+    }
+
+    private boolean hasChanged(Order fetched, Order stored) {
+        if (stored == null) {
+            return true;
+        }
+        return !Objects.equals(fetched.getStatus(), stored.getStatus())
+                || (fetched.getOrderDate() != null && !fetched.getOrderDate().equals(stored.getOrderDate()));
+    }
+
+    private boolean isBefore(Instant current, Instant candidate) {
+        return current == null || (candidate != null && candidate.isAfter(current));
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.demo.order.application;
+
+import com.example.demo.order.configuration.OrderIngestionProperties;
+import com.example.demo.shared.adapter.out.ConnectionBudget;
+import com.example.demo.shared.domain.Platform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs order event handling on a fixed set of serial lanes, each drained by its own virtual thread.
+ * <p>
+ * The lane is picked from the platform, seller and order id, so events for one order run one after another in
+ * the order they were submitted while different orders proceed in parallel. When a lane has
+ * {@code order.ingestion.lane-capacity} events queued, {@link #submit} blocks until it catches up. Queued events
+ * are run before the lanes stop. Each event waits for a permit of the {@link ConnectionBudget} before it runs.
+ */
+@Component
+@Slf4j
+public class PartitionedOrderExecutor implements SmartLifecycle {
+
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final BlockingQueue<Runnable>[] queues;
+    private final Thread[] workers;
+    private final ConnectionBudget connectionBudget;
+
+    private final Counter executed;
+    private final Counter failed;
+    private final Counter blocked;
+
+    private volatile boolean running;
+
+    @SuppressWarnings("unchecked")
+    public PartitionedOrderExecutor(OrderIngestionProperties properties, MeterRegistry meterRegistry,
+                                    ConnectionBudget connectionBudget) {
+        this.connectionBudget = connectionBudget;
+        int lanes = properties.getLanes();
+        this.queues = new BlockingQueue[lanes];
+        this.workers = new Thread[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(properties.getLaneCapacity());
+            queues[lane] = queue;
+            Gauge.builder("order.ingestion.lane.depth", queue, BlockingQueue::size)
+                    .tag("lane", Integer.toString(lane))
+                    .register(meterRegistry);
+        }
+
+        this.executed = meterRegistry.counter("order.ingestion.lane.tasks", "result", "executed");
+        this.failed = meterRegistry.counter("order.ingestion.lane.tasks", "result", "failed");
+        this.blocked = meterRegistry.counter("order.ingestion.lane.tasks", "result", "blocked");
+    }
+
+    // The returned future completes with the task's result once it has run on the order's lane
+    public <T> CompletableFuture<T> submit(Platform platform, String sellerId, String platformOrderId,
+                                           Supplier<T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                result.complete(action.get());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+                throw e;
+            }
+        };
+
+        BlockingQueue<Runnable> queue = queues[lane(platform, sellerId, platformOrderId)];
+        if (running) {
+            try {
+                boolean queued = queue.offer(task);
+                if (!queued) {
+                    // Backpressure: wait for the lane, but stop waiting once it is shutting down
+                    blocked.increment();
+                    while (running && !queued) {
+                        queued = queue.offer(task, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    }
+                }
+                if (queued) {
+                    return result;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Not running, or interrupted while waiting: run on the caller so the event is not lost
+        run(task);
+        return result;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int lane = 0; lane < workers.length; lane++) {
+            BlockingQueue<Runnable> queue = queues[lane];
+            workers[lane] = Thread.ofVirtual().name("order-lane-" + lane).start(() -> drain(queue));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STOP_TIMEOUT_SECONDS);
+        try {
+            for (Thread worker : workers) {
+                if (worker == null) {
+                    continue;
+                }
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                if (!worker.join(Duration.ofNanos(remaining))) {
+                    log.warn("Order lane {} did not finish within {}s", worker.getName(), STOP_TIMEOUT_SECONDS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Events queued while the lanes were exiting
+        for (BlockingQueue<Runnable> queue : queues) {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                run(task);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private int lane(Platform platform, String sellerId, String platformOrderId) {
+        int hash = platform.ordinal();
+        hash = 31 * hash + (sellerId != null ? sellerId.hashCode() : 0);
+        hash = 31 * hash + (platformOrderId != null ? platformOrderId.hashCode() : 0);
+        // Spreads the low bits so similar order ids do not crowd one lane
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, queues.length);
+    }
+
+    private void drain(BlockingQueue<Runnable> queue) {
+        while (true) {
+            Runnable task;
+            try {
+                task = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // An interrupted lane leaves what is still queued to stop()
+                return;
+            }
+            if (task == null) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            run(task);
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            connectionBudget.run(task);
+            executed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.error("Order event handling failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.order.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "order.ingestion")
+public class OrderIngestionProperties {
+
+    // Orders written per upsert statement; a full batch is flushed without waiting for the interval
+    private int batchSize = 500;
+
+    // Longest time an order event waits in the buffer before it is written
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // Distinct orders buffered before event listeners block until the writer catches up
+    private int maxPending = 20_000;
+
+    // Serial lanes order events are spread over; events of one order always land on the same lane
+    private int lanes = 16;
+
+    // Events queued per lane before event listeners block until the lane catches up
+    private int laneCapacity = 1_000;
+}
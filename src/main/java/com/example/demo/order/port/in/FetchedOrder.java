@@ -0,0 +1,18 @@
+package com.example.demo.order.port.in;
+
+import com.example.demo.shared.domain.Platform;
+import org.springframework.modulith.NamedInterface;
+
+import java.time.Instant;
+
+// An order as a platform API returned it, handed to the order module for reconciliation
+@NamedInterface("reconciliation")
+public record FetchedOrder(
+        Platform platform,
+        String sellerId,
+        String platformOrderId,
+        String status,
+        Instant orderDate,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.demo.order.port.in;
+
+import org.springframework.modulith.NamedInterface;
+
+import java.util.Collection;
+
+// Exposed to the platform module, which fetches orders from the platform APIs
+@NamedInterface("reconciliation")
+public interface OrderReconciliationUseCase {
+    // Writes the orders of one seller that are missing or differ from the stored ones; returns the rows written
+    int reconcile(String sellerId, Collection<FetchedOrder> orders);
+}
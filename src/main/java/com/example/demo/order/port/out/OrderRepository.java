@@ -1,17 +1,21 @@
 package com.example.demo.order.port.out;
 
-import com.example.demo.order.adapter.out.persistence.OrderEntity;
 import com.example.demo.order.domain.Order;
-import com.example.demo.shared.domain.Platform;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository {
     Order findById(UUID id);
     List<Order> findAll();
     Order save(Order order);
-    Order update(Order order);
-    OrderEntity findByPlatform(Platform platform, String platformOrderId, String sellerId);
+    // Stored orders of the seller among the given platform order ids; ids without a stored order are left out
+    List<Order> findBySellerIdAndPlatformOrderIds(String sellerId, Collection<String> platformOrderIds);
+    // Inserts the order or updates the stored one with the same seller and platform order id, unless the stored
+    // one was updated at the same time or later; returns whether a row was written
+    boolean upsert(Order order);
+    // Same as upsert for many orders with multi-row statements; at most one order per seller and platform order id,
+    // returns the number of rows written
+    int upsertAll(Collection<Order> orders);
 }
@@ -1,15 +1,24 @@
 package com.example.demo.platform.adapter.in.web;
 
+import com.example.demo.platform.domain.BarcodeGenerationJob;
 import com.example.demo.platform.domain.BarcodeGenerationLog;
+import com.example.demo.platform.domain.BarcodeLabel;
 import com.example.demo.platform.domain.Product;
+import com.example.demo.platform.port.in.BarcodeLabelUseCase;
 import com.example.demo.platform.port.in.BarcodeManagementUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +31,7 @@ import java.util.UUID;
 public class BarcodeController {
 
     private final BarcodeManagementUseCase barcodeManagementUseCase;
+    private final BarcodeLabelUseCase barcodeLabelUseCase;
 
     @PostMapping("/products/{productId}/generate")
     @Operation(summary = "Generate barcode for product")
@@ -63,7 +73,7 @@ public class BarcodeController {
     @GetMapping("/lookup/{barcode}")
     @Operation(summary = "Find product by barcode")
     public ResponseEntity<ProductLookupResponse> lookupProduct(@PathVariable String barcode) {
-        log.info("Looking up product with barcode: {}", barcode);
+        log.debug("Looking up product with barcode: {}", barcode);
 
         Optional<Product> product = barcodeManagementUseCase.findProductByBarcode(barcode);
 
@@ -92,6 +102,17 @@ public class BarcodeController {
                 .build());
     }
 
+    @PostMapping(value = "/validate/batch", consumes = {"text/csv", "text/plain"})
+    @Operation(summary = "Validate a CSV of barcodes, first column, and report invalid, repeated and assigned ones")
+    public ResponseEntity<BatchBarcodeValidationResponse> validateBarcodes(
+            @RequestParam Product.BarcodeType type,
+            @RequestParam(defaultValue = "false") boolean skipHeader,
+            InputStream csv) throws IOException {
+
+        return ResponseEntity.ok(BatchBarcodeValidationResponse.from(
+                barcodeManagementUseCase.validateBarcodes(csv, type, skipHeader)));
+    }
+
     @GetMapping("/organizations/{orgId}/missing")
     @Operation(summary = "Get products without barcodes")
     public ResponseEntity<List<ProductWithoutBarcodeResponse>> getProductsWithoutBarcodes(
@@ -109,19 +130,13 @@ public class BarcodeController {
     @PostMapping("/organizations/{orgId}/generate-missing")
     @Operation(summary = "Generate barcodes for all products without barcodes")
     public ResponseEntity<BulkBarcodeGenerationResponse> generateMissingBarcodes(
-            @PathVariable UUID orgId) {
-
-        List<Product> productsWithoutBarcodes = barcodeManagementUseCase.findProductsWithoutBarcodes(orgId);
-        List<UUID> productIds = productsWithoutBarcodes.stream()
-                .map(Product::getId)
-                .toList();
+            @PathVariable UUID orgId,
+            @RequestParam(required = false) Product.BarcodeType type) {
 
-        barcodeManagementUseCase.generateBarcodesForProducts(productIds);
+        BarcodeGenerationJob job = barcodeManagementUseCase.startBarcodeGenerationForOrganization(
+                orgId, type != null ? type : Product.BarcodeType.CODE128);
 
-        return ResponseEntity.ok(BulkBarcodeGenerationResponse.builder()
-                .totalProducts(productIds.size())
-                .message("Barcode generation initiated for " + productIds.size() + " products")
-                .build());
+        return ResponseEntity.accepted().body(toBulkResponse(job));
     }
 
     @GetMapping("/products/{productId}/history")
@@ -141,11 +156,61 @@ public class BarcodeController {
     public ResponseEntity<BulkBarcodeGenerationResponse> bulkGenerateBarcodes(
             @RequestBody BulkGenerateBarcodeRequest request) {
 
-        barcodeManagementUseCase.generateBarcodesForProducts(request.getProductIds());
+        BarcodeGenerationJob job = barcodeManagementUseCase.startBarcodeGeneration(
+                request.getProductIds(),
+                request.getBarcodeType() != null ? request.getBarcodeType() : Product.BarcodeType.CODE128);
 
-        return ResponseEntity.ok(BulkBarcodeGenerationResponse.builder()
-                .totalProducts(request.getProductIds().size())
-                .message("Barcode generation initiated for " + request.getProductIds().size() + " products")
-                .build());
+        return ResponseEntity.accepted().body(toBulkResponse(job));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Get progress of a bulk barcode generation job")
+    public ResponseEntity<BarcodeGenerationJobResponse> getGenerationJob(@PathVariable UUID jobId) {
+        return barcodeManagementUseCase.getBarcodeGenerationJob(jobId)
+                .map(BarcodeGenerationJobResponse::from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/products/{productId}/label")
+    @Operation(summary = "Render barcode label for product as SVG or PNG")
+    public ResponseEntity<byte[]> getLabel(
+            @PathVariable UUID productId,
+            @RequestParam(defaultValue = "SVG") BarcodeLabel.Format format,
+            WebRequest request) {
+
+        Optional<BarcodeLabel> label = barcodeLabelUseCase.renderProductLabel(productId, format);
+        if (label.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // The label hash changes with anything that changes the rendering, so it doubles as the ETag
+        if (request.checkNotModified(label.get().hash())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(label.get().format().contentType()))
+                .eTag(label.get().hash())
+                .cacheControl(CacheControl.noCache())
+                .body(label.get().content());
+    }
+
+    @PostMapping("/labels/sheet")
+    @Operation(summary = "Stream an SVG print sheet with the labels of the given products")
+    public ResponseEntity<StreamingResponseBody> getLabelSheet(@RequestBody LabelSheetRequest request) {
+        List<UUID> productIds = request.getProductIds() != null ? request.getProductIds() : List.of();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(BarcodeLabel.Format.SVG.contentType()))
+                .body(out -> barcodeLabelUseCase.writeLabelSheet(productIds, out));
+    }
+
+    private BulkBarcodeGenerationResponse toBulkResponse(BarcodeGenerationJob job) {
+        return BulkBarcodeGenerationResponse.builder()
+                .jobId(job.getId())
+                .totalProducts(job.getTotalProducts())
+                .message("Barcode generation initiated for " + job.getTotalProducts() + " products")
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.example.demo.platform.adapter.in.web;
+
+import com.example.demo.platform.domain.BarcodeGenerationJob;
+import com.example.demo.platform.domain.Product;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class BarcodeGenerationJobResponse {
+    private final UUID jobId;
+    private final UUID orgId;
+    private final Product.BarcodeType barcodeType;
+    private final BarcodeGenerationJob.Status status;
+    private final int totalProducts;
+    private final int productsProcessed;
+    private final int barcodesGenerated;
+    private final int productsSkipped;
+    private final String errorMessage;
+    private final Instant startedAt;
+    private final Instant completedAt;
+    private final Instant updatedAt;
+
+    public static BarcodeGenerationJobResponse from(BarcodeGenerationJob job) {
+        return BarcodeGenerationJobResponse.builder()
+                .jobId(job.getId())
+                .orgId(job.getOrgId())
+                .barcodeType(job.getBarcodeType())
+                .status(job.getStatus())
+                .totalProducts(job.getTotalProducts())
+                .productsProcessed(job.getProductsProcessed())
+                .barcodesGenerated(job.getBarcodesGenerated())
+                .productsSkipped(job.getProductsSkipped())
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
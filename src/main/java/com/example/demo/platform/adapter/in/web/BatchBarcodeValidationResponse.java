@@ -0,0 +1,30 @@
+package com.example.demo.platform.adapter.in.web;
+
+import com.example.demo.platform.domain.BarcodeBatchValidation;
+import com.example.demo.platform.domain.Product;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BatchBarcodeValidationResponse {
+    private final Product.BarcodeType barcodeType;
+    private final int total;
+    private final int valid; // Usable codes: valid format, not repeated and not assigned yet
+    private final List<BarcodeBatchValidation.InvalidCode> invalid;
+    private final List<String> duplicates;
+    private final List<String> alreadyAssigned;
+
+    public static BatchBarcodeValidationResponse from(BarcodeBatchValidation validation) {
+        return BatchBarcodeValidationResponse.builder()
+                .barcodeType(validation.getBarcodeType())
+                .total(validation.getTotal())
+                .valid(validation.getValid())
+                .invalid(validation.getInvalid())
+                .duplicates(validation.getDuplicates())
+                .alreadyAssigned(validation.getAlreadyAssigned())
+                .build();
+    }
+}
@@ -3,9 +3,12 @@ package com.example.demo.platform.adapter.in.web;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.UUID;
+
 @Getter
 @Builder
 public class BulkBarcodeGenerationResponse {
+    private final UUID jobId; // Poll /api/v1/barcodes/jobs/{jobId} for progress
     private final int totalProducts;
     private final String message;
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.example.demo.platform.adapter.in.web;
 
+import com.example.demo.platform.domain.Product;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,4 +11,5 @@ import java.util.UUID;
 @Setter
 public class BulkGenerateBarcodeRequest {
     private List<UUID> productIds;
-}
\ No newline at end of file
+    private Product.BarcodeType barcodeType; // Defaults to CODE128
+}
@@ -0,0 +1,13 @@
+package com.example.demo.platform.adapter.in.web;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class LabelSheetRequest {
+    private List<UUID> productIds; // Labels are laid out in this order
+}
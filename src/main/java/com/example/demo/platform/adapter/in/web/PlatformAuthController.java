@@ -152,6 +152,23 @@ public class PlatformAuthController {
         return ResponseEntity.accepted().build();
     }
 
+    @GetMapping("/integrations/{integrationId}/sync")
+    @Operation(summary = "Get product sync progress for integration")
+    public ResponseEntity<ProductSyncProgressResponse> getSyncProgress(@PathVariable UUID integrationId) {
+        User authenticatedUser = getCurrentUser();
+        PlatformIntegration integration = authorizationUseCase.getIntegration(integrationId);
+
+        // Ensure user can only view integrations from their organization
+        if (!integration.getOrgId().equals(authenticatedUser.getOrgId())) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return productSyncUseCase.getSyncProgress(integrationId)
+                .map(ProductSyncProgressResponse::from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     private User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -0,0 +1,42 @@
+package com.example.demo.platform.adapter.in.web;
+
+import com.example.demo.platform.domain.ProductSyncCheckpoint;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class ProductSyncProgressResponse {
+    private final UUID integrationId;
+    private final ProductSyncCheckpoint.Status status;
+    private final int chunksCommitted;
+    private final int productsProcessed;
+    private final int productsCreated;
+    private final int productsMatched;
+    private final int productsUpdated;
+    private final int productsFailed;
+    private final String errorMessage;
+    private final Instant startedAt;
+    private final Instant completedAt;
+    private final Instant updatedAt;
+
+    public static ProductSyncProgressResponse from(ProductSyncCheckpoint checkpoint) {
+        return ProductSyncProgressResponse.builder()
+                .integrationId(checkpoint.getIntegrationId())
+                .status(checkpoint.getStatus())
+                .chunksCommitted(checkpoint.getChunksCommitted())
+                .productsProcessed(checkpoint.getProductsProcessed())
+                .productsCreated(checkpoint.getProductsCreated())
+                .productsMatched(checkpoint.getProductsMatched())
+                .productsUpdated(checkpoint.getProductsUpdated())
+                .productsFailed(checkpoint.getProductsFailed())
+                .errorMessage(checkpoint.getErrorMessage())
+                .startedAt(checkpoint.getStartedAt())
+                .completedAt(checkpoint.getCompletedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .build();
+    }
+}
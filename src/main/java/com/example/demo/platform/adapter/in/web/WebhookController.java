@@ -1,11 +1,14 @@
 package com.example.demo.platform.adapter.in.web;
 
 import com.example.demo.platform.port.in.WebhookHandlerUseCase;
+import com.example.demo.platform.port.in.WebhookRejectedException;
+import com.example.demo.shared.adapter.in.web.CachedBodyFilter;
 import com.example.demo.shared.domain.Platform;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,78 +30,30 @@ public class WebhookController {
     @Operation(summary = "Handle Shopee webhooks")
     public ResponseEntity<?> handleShopeeWebhook(
             @PathVariable String integrationId,
-            @RequestBody Map<String, Object> payload,
             HttpServletRequest request) {
 
         log.info("Received Shopee webhook for integration: {}", integrationId);
-
-        try {
-            Map<String, String> headers = getHeaders(request);
-            webhookHandler.processWebhook(
-                    Platform.SHOPEE,
-                    integrationId,
-                    payload,
-                    headers
-            );
-
-            return ResponseEntity.ok(Collections.singletonMap("status", "success"));
-
-        } catch (Exception e) {
-            log.error("Failed to process Shopee webhook for integration {}: {}", integrationId, e.getMessage());
-            return ResponseEntity.ok(Collections.singletonMap("status", "error"));
-        }
+        return enqueue(Platform.SHOPEE, integrationId, request);
     }
 
     @PostMapping("/lazada/{integrationId}")
     @Operation(summary = "Handle Lazada webhooks")
     public ResponseEntity<?> handleLazadaWebhook(
             @PathVariable String integrationId,
-            @RequestBody Map<String, Object> payload,
             HttpServletRequest request) {
 
         log.info("Received Lazada webhook for integration: {}", integrationId);
-
-        try {
-            Map<String, String> headers = getHeaders(request);
-            webhookHandler.processWebhook(
-                    Platform.LAZADA,
-                    integrationId,
-                    payload,
-                    headers
-            );
-
-            return ResponseEntity.ok(Collections.singletonMap("status", "success"));
-
-        } catch (Exception e) {
-            log.error("Failed to process Lazada webhook for integration {}: {}", integrationId, e.getMessage());
-            return ResponseEntity.ok(Collections.singletonMap("status", "error"));
-        }
+        return enqueue(Platform.LAZADA, integrationId, request);
     }
 
     @PostMapping("/tiktok/{integrationId}")
     @Operation(summary = "Handle TikTok Shop webhooks")
     public ResponseEntity<?> handleTikTokWebhook(
             @PathVariable String integrationId,
-            @RequestBody Map<String, Object> payload,
             HttpServletRequest request) {
 
         log.info("Received TikTok webhook for integration: {}", integrationId);
-
-        try {
-            Map<String, String> headers = getHeaders(request);
-            webhookHandler.processWebhook(
-                    Platform.TIKTOK,
-                    integrationId,
-                    payload,
-                    headers
-            );
-
-            return ResponseEntity.ok(Collections.singletonMap("status", "success"));
-
-        } catch (Exception e) {
-            log.error("Failed to process TikTok webhook for integration {}: {}", integrationId, e.getMessage());
-            return ResponseEntity.ok(Collections.singletonMap("status", "error"));
-        }
+        return enqueue(Platform.TIKTOK, integrationId, request);
     }
 
     @GetMapping("/shopee/{integrationId}/verify")
@@ -146,6 +101,26 @@ public class WebhookController {
         return ResponseEntity.ok("Webhook endpoint verified");
     }
 
+    // Acknowledges as soon as the webhook is stored; processing happens in the inbox worker
+    private ResponseEntity<?> enqueue(Platform platform, String integrationId, HttpServletRequest request) {
+        try {
+            webhookHandler.receiveWebhook(platform, integrationId, request.getRequestURL().toString(),
+                    CachedBodyFilter.body(request), getHeaders(request));
+            return ResponseEntity.ok(Collections.singletonMap("status", "success"));
+
+        } catch (WebhookRejectedException e) {
+            log.warn("Rejected {} webhook: {}", platform, e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Collections.singletonMap("status", "error"));
+
+        } catch (Exception e) {
+            // Not stored, so let the platform redeliver
+            log.error("Failed to queue {} webhook for integration {}: {}", platform, integrationId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Collections.singletonMap("status", "error"));
+        }
+    }
+
     private Map<String, String> getHeaders(HttpServletRequest request) {
         return Collections.list(request.getHeaderNames())
                 .stream()
@@ -0,0 +1,73 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.example.demo.platform.configuration.PlatformApiProperties;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket whose refill rate follows AIMD.
+ * <p>
+ * Callers reserve a permit and sleep until it becomes available, so waiters are served in order
+ * without spinning. Every success adds {@code additiveIncrease / rate} to the rate, which grows it by
+ * about {@code additiveIncrease} per second at full speed; a throttled call cuts it by
+ * {@code decreaseFactor}, at most once per refill interval so one burst of 429s counts once.
+ */
+public class AdaptiveRateLimiter {
+
+    private final PlatformApiProperties.RateLimit config;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+
+    public AdaptiveRateLimiter(PlatformApiProperties.RateLimit config) {
+        this.config = config;
+        this.rate = config.getInitialRate();
+        this.tokens = config.getBurst();
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // Returns how long the caller must wait for its permit, or -1 without reserving if that exceeds maxWaitNanos
+    public synchronized long reserve(long maxWaitNanos) {
+        refill(System.nanoTime());
+
+        long waitNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    public synchronized void onSuccess() {
+        refill(System.nanoTime());
+        rate = Math.min(config.getMaxRate(), rate + config.getAdditiveIncrease() / rate);
+    }
+
+    public synchronized void onThrottle() {
+        long now = System.nanoTime();
+        if (decreased && now - lastDecreaseNanos < TimeUnit.SECONDS.toNanos(1) / rate) {
+            return;
+        }
+
+        refill(now);
+        rate = Math.max(config.getMinRate(), rate * config.getDecreaseFactor());
+        // Drop the accumulated burst so the slower rate applies immediately
+        tokens = Math.min(tokens, 0);
+        lastDecreaseNanos = now;
+        decreased = true;
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(config.getBurst(), tokens + elapsedSeconds * rate);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.example.demo.platform.configuration.PlatformApiProperties;
+
+/**
+ * Consecutive-failure circuit breaker.
+ * <p>
+ * Opens after {@code failureThreshold} failures in a row and rejects calls for {@code openDuration}.
+ * Afterwards a single trial call is let through: success closes the circuit, failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final PlatformApiProperties.CircuitBreaker config;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(PlatformApiProperties.CircuitBreaker config) {
+        this.config = config;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= config.getOpenDuration().toNanos()) {
+            state = State.HALF_OPEN;
+        }
+
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= config.getFailureThreshold()) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+        trialInFlight = false;
+    }
+
+    // Gives back a permit whose call ended without telling anything about the platform's health
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
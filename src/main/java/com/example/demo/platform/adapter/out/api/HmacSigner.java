@@ -0,0 +1,53 @@
+package com.example.demo.platform.adapter.out.api;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * HMAC-SHA256 signer with the key initialized once.
+ * <p>
+ * Each signature clones a prototype {@link Mac} instead of looking up the provider and initializing
+ * the key again. Clones are independent, so one signer can be shared across threads.
+ */
+public class HmacSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Mac prototype;
+
+    public HmacSigner(String secret) {
+        if (secret == null) {
+            throw new IllegalArgumentException("Signing secret is missing");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.prototype = newMac();
+    }
+
+    // Lowercase hex HMAC-SHA256 of the UTF-8 message
+    public String sign(String message) {
+        return HexFormat.of().formatHex(mac().doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac mac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // Providers are not required to support cloning
+            return newMac();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+}
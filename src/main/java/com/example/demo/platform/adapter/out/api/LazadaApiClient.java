@@ -1,9 +1,15 @@
 package com.example.demo.platform.adapter.out.api;
 
+import com.example.demo.platform.configuration.PlatformApiProperties;
 import com.example.demo.platform.domain.PlatformIntegration;
 import com.example.demo.platform.port.out.PlatformApiClient;
+import com.example.demo.platform.port.out.PlatformApiException;
 import com.example.demo.platform.port.out.PlatformOrderData;
+import com.example.demo.platform.port.out.PlatformOrderPage;
 import com.example.demo.platform.port.out.PlatformProductData;
+import com.example.demo.platform.port.out.PlatformProductPage;
+import com.example.demo.platform.port.out.PlatformRateLimitException;
+import com.example.demo.shared.domain.Platform;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +17,6 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -21,6 +25,7 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 public class LazadaApiClient implements PlatformApiClient {
@@ -28,27 +33,50 @@ public class LazadaApiClient implements PlatformApiClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final PlatformIntegration integration;
-
-    public LazadaApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, PlatformIntegration integration) {
+    private final PlatformFetchExecutor fetchExecutor;
+    private final PlatformApiProperties apiProperties;
+    private final PlatformCallGuard callGuard;
+    private final PlatformResponseReader responseReader;
+    private final String appKey;
+    private final HmacSigner signer;
+
+    public LazadaApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, PlatformIntegration integration,
+                           PlatformFetchExecutor fetchExecutor, PlatformApiProperties apiProperties,
+                           PlatformCallGuard callGuard, PlatformResponseReader responseReader) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.integration = integration;
+        this.fetchExecutor = fetchExecutor;
+        this.apiProperties = apiProperties;
+        this.callGuard = callGuard;
+        this.responseReader = responseReader;
+
+        // Credentials are parsed and the signing key initialized once per client
+        Map<String, Object> credentials = readCredentials();
+        this.appKey = String.valueOf(credentials.get("app_key"));
+        this.signer = new HmacSigner(String.valueOf(credentials.get("app_secret")));
     }
 
-    private static final String LAZADA_BASE_URL = "https://api.lazada.co.th/rest";
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss+07:00");
 
 
     @Override
-    public List<PlatformProductData> fetchAllProducts() {
-        log.info("Fetching all products from Lazada for seller: {}", integration.getSellerId() != null ? integration.getSellerId() : "<not set>");
+    public Stream<PlatformProductPage> streamProductPages(String startCursor) {
+        log.info("Streaming products from Lazada for seller: {}", integration.getSellerId() != null ? integration.getSellerId() : "<not set>");
+        return fetchExecutor.streamPages(startCursor, this::fetchProductPage, PlatformProductPage::getNextCursor);
+    }
 
+    private PlatformProductPage fetchProductPage(String cursor) {
         try {
+            int offset = cursor != null ? Integer.parseInt(cursor) : 0;
+            int limit = apiProperties.getPageSize();
+
             String path = "/products/get";
             Map<String, String> params = new HashMap<>();
             params.put("filter", "all");
-            params.put("offset", "0");
-            params.put("limit", "100");
+            params.put("offset", String.valueOf(offset));
+            params.put("limit", String.valueOf(limit));
 
             String url = buildSignedUrl(path, params);
 
@@ -56,29 +84,45 @@ public class LazadaApiClient implements PlatformApiClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            PlatformResponseReader.Decoded<LazadaResponse<LazadaResponse.ProductList>> decoded =
+                    exchange(url, HttpMethod.GET, entity, LazadaResponse.ProductList.class);
+            LazadaResponse<LazadaResponse.ProductList> response = decoded.value();
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
-
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch products from Lazada: " + responseBody);
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch products from Lazada: " + response);
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> products = (List<Map<String, Object>>) data.get("products");
+            LazadaResponse.ProductList data = response.data();
+            List<LazadaResponse.Product> products = data != null ? data.products() : null;
 
             if (products == null || products.isEmpty()) {
-                log.info("No products found in Lazada shop: {}", integration.getSellerId() != null ? integration.getSellerId() : "<not set>");
-                return new ArrayList<>();
+                log.info("No more products found in Lazada shop {} at offset {}", integration.getSellerId() != null ? integration.getSellerId() : "<not set>", offset);
+                return PlatformProductPage.builder()
+                        .items(new ArrayList<>())
+                        .cursor(cursor)
+                        .build();
             }
 
-            return products.stream()
-                    .map(this::mapToProductData)
-                    .collect(Collectors.toList());
+            // Lazada has no next-page flag, a short page or reaching total_products ends the catalog
+            int nextOffset = offset + products.size();
+            Integer totalProducts = data.totalProducts();
+            boolean hasMore = products.size() >= limit
+                    && (totalProducts == null || nextOffset < totalProducts);
+
+            List<byte[]> raw = responseReader.rawElements(decoded, "data", "products");
+            List<PlatformProductData> items = new ArrayList<>(products.size());
+            for (int i = 0; i < products.size(); i++) {
+                items.add(mapToProductData(products.get(i), PlatformResponseReader.rawAt(raw, i)));
+            }
 
+            return PlatformProductPage.builder()
+                    .items(items)
+                    .cursor(cursor)
+                    .nextCursor(hasMore ? String.valueOf(nextOffset) : null)
+                    .build();
+
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching products from Lazada: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch products from Lazada", e);
@@ -100,20 +144,19 @@ public class LazadaApiClient implements PlatformApiClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
+            PlatformResponseReader.Decoded<LazadaResponse<LazadaResponse.Product>> decoded =
+                    exchange(url, HttpMethod.GET, entity, LazadaResponse.Product.class);
+            LazadaResponse<LazadaResponse.Product> response = decoded.value();
 
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch product from Lazada: " + responseBody);
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch product from Lazada: " + response);
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-
-            return mapToProductData(data);
+            return mapToProductData(response.data(),
+                    PlatformResponseReader.rawAt(responseReader.rawElements(decoded, "data"), 0));
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching product {} from Lazada: {}", productId, e.getMessage(), e);
             throw new RuntimeException("Failed to fetch product from Lazada", e);
@@ -121,17 +164,35 @@ public class LazadaApiClient implements PlatformApiClient {
     }
 
     @Override
-    public List<PlatformOrderData> fetchOrders(String since) {
-        log.info("Fetching orders from Lazada since: {}", since);
+    public List<PlatformProductData> fetchProductsByIds(List<String> productIds) {
+        // No batch detail endpoint, so fetch the products concurrently
+        return fetchExecutor.mapConcurrently(productIds, this::fetchProductById).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<PlatformOrderPage> streamOrderPages(Instant updatedFrom, Instant updatedTo) {
+        log.info("Streaming orders from Lazada for seller {} updated from {} to {}",
+                integration.getSellerId(), updatedFrom, updatedTo);
+        return fetchExecutor.streamPages(null, cursor -> fetchOrderPage(updatedFrom, updatedTo, cursor),
+                PlatformOrderPage::getNextCursor);
+    }
 
+    private PlatformOrderPage fetchOrderPage(Instant updatedFrom, Instant updatedTo, String cursor) {
         try {
+            int offset = cursor != null ? Integer.parseInt(cursor) : 0;
+            int limit = Math.min(apiProperties.getPageSize(), MAX_ORDER_PAGE_SIZE);
+
             String path = "/orders/get";
             Map<String, String> params = new HashMap<>();
-            params.put("status", "ready_to_ship");
-            params.put("created_after", formatTimestamp(Long.parseLong(since)));
-            params.put("created_before", formatTimestamp(Instant.now().getEpochSecond()));
-            params.put("offset", "0");
-            params.put("limit", "100");
+            params.put("update_after", formatTimestamp(updatedFrom.getEpochSecond()));
+            params.put("update_before", formatTimestamp(updatedTo.getEpochSecond()));
+            // Oldest first, so orders updated while paging move behind the cursor instead of shifting pages
+            params.put("sort_by", "updated_at");
+            params.put("sort_direction", "ASC");
+            params.put("offset", String.valueOf(offset));
+            params.put("limit", String.valueOf(limit));
 
             String url = buildSignedUrl(path, params);
 
@@ -139,24 +200,36 @@ public class LazadaApiClient implements PlatformApiClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            PlatformResponseReader.Decoded<LazadaResponse<LazadaResponse.OrderList>> decoded =
+                    exchange(url, HttpMethod.GET, entity, LazadaResponse.OrderList.class);
+            LazadaResponse<LazadaResponse.OrderList> response = decoded.value();
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch orders from Lazada: " + response);
+            }
 
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch orders from Lazada: " + responseBody);
+            List<LazadaResponse.Order> orders = response.data() != null ? response.data().orders() : null;
+            if (orders == null || orders.isEmpty()) {
+                return PlatformOrderPage.builder()
+                        .items(new ArrayList<>())
+                        .cursor(cursor)
+                        .build();
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> orders = (List<Map<String, Object>>) data.get("orders");
+            List<byte[]> raw = responseReader.rawElements(decoded, "data", "orders");
+            List<PlatformOrderData> result = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                result.add(mapToOrderData(orders.get(i), PlatformResponseReader.rawAt(raw, i)));
+            }
 
-            return orders.stream()
-                    .map(this::mapToOrderData)
-                    .collect(Collectors.toList());
+            return PlatformOrderPage.builder()
+                    .items(result)
+                    .cursor(cursor)
+                    .nextCursor(orders.size() >= limit ? String.valueOf(offset + orders.size()) : null)
+                    .build();
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching orders from Lazada: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch orders from Lazada", e);
@@ -178,20 +251,19 @@ public class LazadaApiClient implements PlatformApiClient {
             headers.setContentType(MediaType.APPLICATION_JSON);
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            PlatformResponseReader.Decoded<LazadaResponse<LazadaResponse.Order>> decoded =
+                    exchange(url, HttpMethod.GET, entity, LazadaResponse.Order.class);
+            LazadaResponse<LazadaResponse.Order> response = decoded.value();
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
-
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch order from Lazada: " + responseBody);
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch order from Lazada: " + response);
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-
-            return mapToOrderData(data);
+            return mapToOrderData(response.data(),
+                    PlatformResponseReader.rawAt(responseReader.rawElements(decoded, "data"), 0));
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching order {} from Lazada: {}", orderId, e.getMessage(), e);
             throw new RuntimeException("Failed to fetch order from Lazada", e);
@@ -201,7 +273,7 @@ public class LazadaApiClient implements PlatformApiClient {
     @Override
     public boolean validateWebhookSignature(String payload, String signature, String secret) {
         try {
-            String expectedSignature = generateLazadaSignature(payload, secret);
+            String expectedSignature = new HmacSigner(secret).sign(payload).toUpperCase();
             return expectedSignature.equals(signature);
         } catch (Exception e) {
             log.error("Error validating Lazada webhook signature: {}", e.getMessage());
@@ -209,45 +281,45 @@ public class LazadaApiClient implements PlatformApiClient {
         }
     }
 
-    private PlatformProductData mapToProductData(Map<String, Object> product) {
+    private PlatformProductData mapToProductData(LazadaResponse.Product product, byte[] rawData) {
         return PlatformProductData.builder()
-                .id(String.valueOf(product.get("item_id")))
-                .sku(String.valueOf(product.get("seller_sku")))
+                .id(String.valueOf(product.itemId()))
+                .sku(product.sellerSku())
                 .name(extractAttributeValue(product, "name"))
                 .description(extractAttributeValue(product, "short_description"))
-                .category(extractCategoryName(product))
+                .category(product.primaryCategory() != null ? "Category_" + product.primaryCategory() : "")
                 .brand(extractAttributeValue(product, "brand"))
                 .price(extractPrice(product))
                 .currency("THB") // Lazada Thailand
                 .stockQuantity(extractStock(product))
-                .status(String.valueOf(product.get("status")))
-                .imageUrls(extractImageUrls(product))
-                .attributes(extractAttributes(product))
-                .rawData(product)
+                .status(product.status())
+                .imageUrls(product.images() != null ? product.images() : new ArrayList<>())
+                .attributes(product.attributes() != null ? product.attributes() : new HashMap<>())
+                .rawData(rawData)
                 .build();
     }
 
-    private PlatformOrderData mapToOrderData(Map<String, Object> order) {
+    private PlatformOrderData mapToOrderData(LazadaResponse.Order order, byte[] rawData) {
         return PlatformOrderData.builder()
-                .id(String.valueOf(order.get("order_id")))
+                .id(String.valueOf(order.orderId()))
                 .sellerId(integration.getSellerId() != null ? integration.getSellerId() : "unknown")
-                .status(String.valueOf(order.get("statuses")))
-                .orderDate(parseTimestamp(String.valueOf(order.get("created_at"))))
+                .status(order.statuses() != null ? String.join(",", order.statuses()) : null)
+                .orderDate(parseTimestamp(order.createdAt()))
+                .updatedAt(order.updatedAt() != null ? parseTimestamp(order.updatedAt()) : null)
                 .customerName(extractCustomerName(order))
                 .customerPhone(extractAddressBillingValue(order, "phone"))
-                .customerEmail(String.valueOf(order.getOrDefault("customer_email", "")))
-                .shippingAddress(extractShippingAddress(order))
-                .totalAmount(extractTotalAmount(order))
+                .customerEmail(order.customerEmail() != null ? order.customerEmail() : "")
+                .shippingAddress(order.addressShipping() != null ? order.addressShipping() : new HashMap<>())
+                .totalAmount(order.price() != null ? order.price() : BigDecimal.ZERO)
                 .currency("THB")
                 .items(extractOrderItems(order))
-                .rawData(order)
+                .rawData(rawData)
                 .build();
     }
 
     private String buildSignedUrl(String path, Map<String, String> params) {
         long timestamp = System.currentTimeMillis();
         String accessToken = integration.getAccessToken();
-        String appKey = extractAppKey();
 
         // Add required parameters
         params.put("app_key", appKey);
@@ -269,8 +341,7 @@ public class LazadaApiClient implements PlatformApiClient {
         }
 
         // Generate signature
-        String appSecret = getAppSecret();
-        String signature = generateLazadaSignature(paramString.toString(), appSecret);
+        String signature = signer.sign(paramString.toString()).toUpperCase();
         params.put("sign", signature);
 
         // Build final URL
@@ -278,97 +349,55 @@ public class LazadaApiClient implements PlatformApiClient {
                 .map(entry -> entry.getKey() + "=" + urlEncode(entry.getValue()))
                 .collect(Collectors.joining("&"));
 
-        return LAZADA_BASE_URL + path + "?" + queryString;
+        return apiProperties.getLazadaBaseUrl() + path + "?" + queryString;
     }
 
-    private String generateLazadaSignature(String message, String secret) {
-        try {
-            Mac sha256Hmac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            sha256Hmac.init(secretKey);
-
-            byte[] hash = sha256Hmac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash).toUpperCase();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate Lazada signature", e);
-        }
-    }
-
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder result = new StringBuilder();
-        for (byte b : bytes) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
-    }
-
-    private boolean isSuccessResponse(Map<String, Object> response) {
-        return response != null &&
-               response.containsKey("code") &&
-               "0".equals(String.valueOf(response.get("code")));
+    private <T> PlatformResponseReader.Decoded<LazadaResponse<T>> exchange(String url, HttpMethod method,
+                                                                          HttpEntity<?> entity, Class<T> payloadType) {
+        return callGuard.call(integration, () -> {
+            byte[] body = restTemplate.exchange(url, method, entity, byte[].class).getBody();
+            PlatformResponseReader.Decoded<LazadaResponse<T>> response =
+                    responseReader.decode(body, LazadaResponse.class, payloadType);
+            if (isRateLimited(response.value())) {
+                throw new PlatformRateLimitException(Platform.LAZADA, "Lazada rate limit exceeded: " + response.value().message());
+            }
+            return response;
+        });
     }
 
-    private String extractAppKey() {
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> credentials = objectMapper.readValue(integration.getApiCredentials(), Map.class);
-            return String.valueOf(credentials.get("app_key"));
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to extract app key from credentials", e);
-        }
+    // ApiCallLimit, AppCallLimit and SellerCallLimit are returned with HTTP 200
+    private boolean isRateLimited(LazadaResponse<?> response) {
+        return response != null && response.code() != null && response.code().endsWith("CallLimit");
     }
 
-    private String getAppSecret() {
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readCredentials() {
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> credentials = objectMapper.readValue(integration.getApiCredentials(), Map.class);
-            return String.valueOf(credentials.get("app_secret"));
+            return objectMapper.readValue(integration.getApiCredentials(), Map.class);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to extract app secret from credentials", e);
+            throw new RuntimeException("Failed to read API credentials", e);
         }
     }
 
     // Helper methods for data extraction
-    private String extractCategoryName(Map<String, Object> product) {
-        Number categoryId = (Number) product.get("primary_category");
-        return categoryId != null ? "Category_" + categoryId : "";
-    }
-
-    private BigDecimal extractPrice(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> skus = (List<Map<String, Object>>) product.get("skus");
-        if (skus != null && !skus.isEmpty()) {
-            Number price = (Number) skus.get(0).get("price");
-            return price != null ? BigDecimal.valueOf(price.doubleValue()) : BigDecimal.ZERO;
+    private BigDecimal extractPrice(LazadaResponse.Product product) {
+        List<LazadaResponse.Sku> skus = product.skus();
+        if (skus != null && !skus.isEmpty() && skus.get(0).price() != null) {
+            return skus.get(0).price();
         }
         return BigDecimal.ZERO;
     }
 
-    private Integer extractStock(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> skus = (List<Map<String, Object>>) product.get("skus");
-        if (skus != null && !skus.isEmpty()) {
-            Number stock = (Number) skus.get(0).get("quantity");
-            return stock != null ? stock.intValue() : 0;
+    private Integer extractStock(LazadaResponse.Product product) {
+        List<LazadaResponse.Sku> skus = product.skus();
+        if (skus != null && !skus.isEmpty() && skus.get(0).quantity() != null) {
+            return skus.get(0).quantity();
         }
         return 0;
     }
 
-    private List<String> extractImageUrls(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<String> images = (List<String>) product.get("images");
-        return images != null ? images : new ArrayList<>();
-    }
-
-    private Map<String, Object> extractAttributes(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> attributes = (Map<String, Object>) product.get("attributes");
-        return attributes != null ? attributes : new HashMap<>();
-    }
-
-    private String extractCustomerName(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> shippingAddress = (Map<String, Object>) order.get("address_shipping");
+    private String extractCustomerName(LazadaResponse.Order order) {
+        Map<String, Object> shippingAddress = order.addressShipping();
         if (shippingAddress != null) {
             return String.valueOf(shippingAddress.get("first_name")) + " " +
                    String.valueOf(shippingAddress.get("last_name"));
@@ -376,33 +405,20 @@ public class LazadaApiClient implements PlatformApiClient {
         return "";
     }
 
-    private Map<String, Object> extractShippingAddress(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> shippingAddress = (Map<String, Object>) order.get("address_shipping");
-        return shippingAddress != null ? shippingAddress : new HashMap<>();
-    }
-
-    private BigDecimal extractTotalAmount(Map<String, Object> order) {
-        Number price = (Number) order.get("price");
-        return price != null ? BigDecimal.valueOf(price.doubleValue()) : BigDecimal.ZERO;
-    }
-
-    private List<PlatformOrderData.PlatformOrderItem> extractOrderItems(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> items = (List<Map<String, Object>>) order.get("order_items");
-
-        if (items == null) {
+    private List<PlatformOrderData.PlatformOrderItem> extractOrderItems(LazadaResponse.Order order) {
+        if (order.orderItems() == null) {
             return new ArrayList<>();
         }
 
-        return items.stream()
+        // Lazada lists every unit as its own order item
+        return order.orderItems().stream()
                 .map(item -> PlatformOrderData.PlatformOrderItem.builder()
-                        .productId(String.valueOf(item.get("product_id")))
-                        .sku(String.valueOf(item.get("sku")))
-                        .name(String.valueOf(item.get("name")))
-                        .quantity(((Number) item.get("quantity")).intValue())
-                        .unitPrice(BigDecimal.valueOf(((Number) item.get("item_price")).doubleValue()))
-                        .attributes(item)
+                        .productId(String.valueOf(item.productId()))
+                        .sku(item.sku())
+                        .name(item.name())
+                        .quantity(item.quantity() != null ? item.quantity() : 1)
+                        .unitPrice(item.itemPrice())
+                        .attributes(item.variation() != null ? Map.of("variation", item.variation()) : Map.of())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -430,15 +446,13 @@ public class LazadaApiClient implements PlatformApiClient {
         }
     }
 
-    private String extractAttributeValue(Map<String, Object> product, String attributeName) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> attributes = (Map<String, Object>) product.getOrDefault("attributes", new HashMap<>());
+    private String extractAttributeValue(LazadaResponse.Product product, String attributeName) {
+        Map<String, Object> attributes = product.attributes() != null ? product.attributes() : Map.of();
         return String.valueOf(attributes.getOrDefault(attributeName, ""));
     }
 
-    private String extractAddressBillingValue(Map<String, Object> order, String fieldName) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> addressBilling = (Map<String, Object>) order.getOrDefault("address_billing", new HashMap<>());
+    private String extractAddressBillingValue(LazadaResponse.Order order, String fieldName) {
+        Map<String, Object> addressBilling = order.addressBilling() != null ? order.addressBilling() : Map.of();
         return String.valueOf(addressBilling.getOrDefault(fieldName, ""));
     }
 }
\ No newline at end of file
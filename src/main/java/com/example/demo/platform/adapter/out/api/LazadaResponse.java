@@ -0,0 +1,52 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+// Lazada Open Platform envelope; code is "0" on success
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LazadaResponse<T>(String code, String message, T data) {
+
+    public boolean isSuccess() {
+        return "0".equals(code);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record ProductList(List<Product> products, Integer totalProducts) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Product(Long itemId, String sellerSku, Long primaryCategory, String status,
+                          Map<String, Object> attributes, List<Sku> skus, List<String> images) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Sku(String sellerSku, BigDecimal price, Integer quantity) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record OrderList(List<Order> orders) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Order(Long orderId, List<String> statuses, String createdAt, String updatedAt, String customerEmail,
+                        BigDecimal price, Map<String, Object> addressShipping,
+                        Map<String, Object> addressBilling, List<OrderItem> orderItems) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record OrderItem(Long productId, String sku, String name, String variation, Integer quantity,
+                            BigDecimal itemPrice) {
+    }
+}
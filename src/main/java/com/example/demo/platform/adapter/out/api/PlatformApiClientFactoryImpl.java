@@ -1,35 +1,113 @@
 package com.example.demo.platform.adapter.out.api;
 
+import com.example.demo.platform.configuration.PlatformApiProperties;
 import com.example.demo.platform.domain.PlatformIntegration;
 import com.example.demo.platform.port.out.PlatformApiClient;
 import com.example.demo.platform.port.out.PlatformApiClientFactory;
 import com.example.demo.shared.domain.Platform;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates platform API clients and keeps one per integration.
+ * <p>
+ * A cached client is reused while the integration still carries the credentials it was built from.
+ * Refreshed tokens or rotated credentials are detected on lookup, and {@link #invalidate(UUID)}
+ * drops a client as soon as its integration changes on this instance.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class PlatformApiClientFactoryImpl implements PlatformApiClientFactory {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final PlatformFetchExecutor fetchExecutor;
+    private final PlatformApiProperties apiProperties;
+    private final PlatformCallGuard callGuard;
+    private final PlatformResponseReader responseReader;
+
+    private final Map<UUID, CachedClient> clients = new ConcurrentHashMap<>();
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public PlatformApiClientFactoryImpl(RestTemplate restTemplate, ObjectMapper objectMapper,
+                                        PlatformFetchExecutor fetchExecutor, PlatformApiProperties apiProperties,
+                                        PlatformCallGuard callGuard, PlatformResponseReader responseReader,
+                                        MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchExecutor = fetchExecutor;
+        this.apiProperties = apiProperties;
+        this.callGuard = callGuard;
+        this.responseReader = responseReader;
+
+        this.cacheHits = Counter.builder("platform.api.client.cache")
+                .tag("result", "hit")
+                .description("Platform API client lookups served from the cache")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("platform.api.client.cache")
+                .tag("result", "miss")
+                .description("Platform API client lookups that built a new client")
+                .register(meterRegistry);
+        Gauge.builder("platform.api.client.cache.size", clients, Map::size)
+                .description("Platform API clients currently cached")
+                .register(meterRegistry);
+    }
 
     @Override
     public PlatformApiClient createClient(Platform platform, PlatformIntegration integration) {
-        log.info("Creating API client for platform: {} and integration: {}", platform, integration.getId());
-
         if (!integration.isAuthorized()) {
             throw new IllegalStateException("Integration is not authorized: " + integration.getId());
         }
 
+        ClientKey key = ClientKey.of(platform, integration);
+
+        CachedClient cached = clients.get(integration.getId());
+        if (cached != null && cached.key().equals(key)) {
+            cacheHits.increment();
+            return cached.client();
+        }
+
+        cacheMisses.increment();
+        CachedClient created = clients.compute(integration.getId(), (id, current) ->
+                current != null && current.key().equals(key) ? current : new CachedClient(key, newClient(platform, integration)));
+        return created.client();
+    }
+
+    @Override
+    public void invalidate(UUID integrationId) {
+        if (clients.remove(integrationId) != null) {
+            log.debug("Evicted cached API client for integration: {}", integrationId);
+        }
+    }
+
+    private PlatformApiClient newClient(Platform platform, PlatformIntegration integration) {
+        log.info("Creating API client for platform: {} and integration: {}", platform, integration.getId());
+
         return switch (platform) {
-            case SHOPEE -> new ShopeeApiClient(restTemplate, objectMapper, integration);
-            case LAZADA -> new LazadaApiClient(restTemplate, objectMapper, integration);
-            case TIKTOK -> new TikTokShopApiClient(restTemplate, objectMapper, integration);
+            case SHOPEE -> new ShopeeApiClient(restTemplate, objectMapper, integration, fetchExecutor, apiProperties, callGuard, responseReader);
+            case LAZADA -> new LazadaApiClient(restTemplate, objectMapper, integration, fetchExecutor, apiProperties, callGuard, responseReader);
+            case TIKTOK -> new TikTokShopApiClient(restTemplate, objectMapper, integration, fetchExecutor, apiProperties, callGuard, responseReader);
         };
     }
-}
\ No newline at end of file
+
+    // Everything a client reads from its integration; any change requires a new client
+    private record ClientKey(Platform platform, String accessToken, String apiCredentials, String shopId, String sellerId) {
+        static ClientKey of(Platform platform, PlatformIntegration integration) {
+            return new ClientKey(platform, integration.getAccessToken(), integration.getApiCredentials(),
+                    integration.getShopId(), integration.getSellerId());
+        }
+    }
+
+    private record CachedClient(ClientKey key, PlatformApiClient client) {
+    }
+}
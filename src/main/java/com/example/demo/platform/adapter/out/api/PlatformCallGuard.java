@@ -0,0 +1,154 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.example.demo.platform.configuration.PlatformApiProperties;
+import com.example.demo.platform.domain.PlatformIntegration;
+import com.example.demo.platform.port.out.PlatformApiException;
+import com.example.demo.platform.port.out.PlatformRateLimitException;
+import com.example.demo.platform.port.out.PlatformUnavailableException;
+import com.example.demo.shared.domain.Platform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Outbound call layer shared by the marketplace API clients.
+ * <p>
+ * Every call takes a permit from the adaptive rate limiter of its (platform, shop) and passes the
+ * circuit breaker of its integration. 429 responses and platform quota errors slow the limiter down;
+ * server errors and connection failures count towards opening the circuit.
+ */
+@Component
+@Slf4j
+public class PlatformCallGuard {
+
+    private final PlatformApiProperties properties;
+
+    private final Map<String, AdaptiveRateLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<UUID, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<Platform, AtomicInteger> queued = new EnumMap<>(Platform.class);
+    private final Map<Platform, Timer> permitWait = new EnumMap<>(Platform.class);
+    private final Map<Platform, Counter> throttled = new EnumMap<>(Platform.class);
+    private final Map<Platform, Counter> rejected = new EnumMap<>(Platform.class);
+
+    public PlatformCallGuard(PlatformApiProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        for (Platform platform : Platform.values()) {
+            String tag = platform.name();
+            AtomicInteger waiting = new AtomicInteger();
+            queued.put(platform, waiting);
+            Gauge.builder("platform.api.permit.queued", waiting, AtomicInteger::get)
+                    .tag("platform", tag)
+                    .description("Calls waiting for a rate limit permit")
+                    .register(meterRegistry);
+            permitWait.put(platform, Timer.builder("platform.api.permit.wait")
+                    .tag("platform", tag)
+                    .description("Time spent waiting for a rate limit permit")
+                    .register(meterRegistry));
+            throttled.put(platform, Counter.builder("platform.api.throttled")
+                    .tag("platform", tag)
+                    .description("Calls rejected by the platform for exceeding its quota")
+                    .register(meterRegistry));
+            rejected.put(platform, Counter.builder("platform.api.circuit.rejected")
+                    .tag("platform", tag)
+                    .description("Calls short-circuited by an open circuit breaker")
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T call(PlatformIntegration integration, Supplier<T> request) {
+        Platform platform = integration.getPlatform();
+
+        CircuitBreaker breaker = breakers.computeIfAbsent(integration.getId(),
+                id -> new CircuitBreaker(properties.getCircuitBreaker()));
+        if (!breaker.tryAcquire()) {
+            rejected.get(platform).increment();
+            throw new PlatformUnavailableException(platform,
+                    "Circuit open for " + platform + " integration " + integration.getId());
+        }
+
+        AdaptiveRateLimiter limiter = limiters.computeIfAbsent(limiterKey(integration), this::newLimiter);
+        try {
+            awaitPermit(platform, limiter);
+        } catch (RuntimeException e) {
+            breaker.release();
+            throw e;
+        }
+
+        try {
+            T result = request.get();
+            limiter.onSuccess();
+            breaker.onSuccess();
+            return result;
+
+        } catch (HttpClientErrorException.TooManyRequests | PlatformRateLimitException e) {
+            limiter.onThrottle();
+            breaker.release();
+            throttled.get(platform).increment();
+            log.warn("{} throttled calls for integration {}, rate lowered to {}/s",
+                    platform, integration.getId(), String.format("%.2f", limiter.getRate()));
+            throw e instanceof PlatformRateLimitException rateLimit ? rateLimit
+                    : new PlatformRateLimitException(platform, platform + " rate limit exceeded", e);
+
+        } catch (HttpServerErrorException | ResourceAccessException e) {
+            breaker.onFailure();
+            throw new PlatformApiException(platform, platform + " API call failed: " + e.getMessage(), e);
+
+        } catch (RuntimeException e) {
+            // The platform answered, so client errors say nothing about its health
+            breaker.release();
+            throw e;
+        }
+    }
+
+    private void awaitPermit(Platform platform, AdaptiveRateLimiter limiter) {
+        long waitNanos = limiter.reserve(properties.getRateLimit().getMaxWait().toNanos());
+        if (waitNanos < 0) {
+            throw new PlatformRateLimitException(platform, "No " + platform + " rate limit permit within "
+                    + properties.getRateLimit().getMaxWait());
+        }
+
+        permitWait.get(platform).record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos == 0) {
+            return;
+        }
+
+        AtomicInteger waiting = queued.get(platform);
+        waiting.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PlatformApiException(platform, "Interrupted while waiting for a rate limit permit", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private AdaptiveRateLimiter newLimiter(String key) {
+        log.debug("Creating rate limiter for {}", key);
+        return new AdaptiveRateLimiter(properties.getRateLimit());
+    }
+
+    // Quotas apply per shop, so integrations of the same shop share one limiter
+    private String limiterKey(PlatformIntegration integration) {
+        String shop = integration.getShopId() != null ? integration.getShopId()
+                : integration.getSellerId() != null ? integration.getSellerId()
+                : integration.getId().toString();
+        return integration.getPlatform() + ":" + shop;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.example.demo.platform.configuration.PlatformApiProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs marketplace API calls on virtual threads with bounded concurrency.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlatformFetchExecutor {
+
+    private final PlatformApiProperties properties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Applies the task to every input with at most maxConcurrency calls in flight, preserving input order
+    public <T, R> List<R> mapConcurrently(List<T> inputs, Function<T, R> task) {
+        if (inputs.size() <= 1) {
+            return inputs.stream().map(task).toList();
+        }
+
+        Semaphore permits = new Semaphore(properties.getMaxConcurrency());
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+
+        try {
+            for (T input : inputs) {
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return task.apply(input);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<R> results = new ArrayList<>(inputs.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching from platform", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw propagate(e.getCause());
+        }
+    }
+
+    // Streams pages lazily, fetching the next page in the background while the current one is consumed
+    public <P> Stream<P> streamPages(String startCursor, Function<String, P> fetchPage, Function<P, String> nextCursor) {
+        PrefetchingIterator<P> iterator = new PrefetchingIterator<>(startCursor, fetchPage, nextCursor);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::cancel);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("Platform fetch failed", cause);
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching from platform", e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private class PrefetchingIterator<P> implements Iterator<P> {
+        private final Function<String, P> fetchPage;
+        private final Function<P, String> nextCursor;
+        private String startCursor;
+        private boolean started;
+        private Future<P> pending;
+
+        private PrefetchingIterator(String startCursor, Function<String, P> fetchPage, Function<P, String> nextCursor) {
+            this.startCursor = startCursor;
+            this.fetchPage = fetchPage;
+            this.nextCursor = nextCursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!started) {
+                started = true;
+                String cursor = startCursor;
+                startCursor = null;
+                pending = executor.submit(() -> fetchPage.apply(cursor));
+            }
+            return pending != null;
+        }
+
+        @Override
+        public P next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Future<P> current = pending;
+            pending = null;
+
+            P page = await(current);
+            String cursor = nextCursor.apply(page);
+            pending = cursor != null ? executor.submit(() -> fetchPage.apply(cursor)) : null;
+            return page;
+        }
+
+        void cancel() {
+            if (pending != null) {
+                pending.cancel(true);
+                pending = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.example.demo.platform.configuration.PlatformApiProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes marketplace response bodies straight into the typed response records.
+ * <p>
+ * Only the fields the records declare are bound, everything else is skipped by the parser without
+ * building intermediate maps. When {@code platform.api.retain-raw-data} is enabled, the raw JSON of
+ * individual items is sliced out of the undecoded body for storage.
+ */
+@Component
+public class PlatformResponseReader {
+
+    private final ObjectMapper objectMapper;
+    private final PlatformApiProperties properties;
+
+    public PlatformResponseReader(ObjectMapper objectMapper, PlatformApiProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public record Decoded<T>(T value, byte[] body) {
+    }
+
+    public <T> Decoded<T> decode(byte[] body, Class<?> envelope, Class<?> payload) {
+        if (body == null || body.length == 0) {
+            return new Decoded<>(null, body);
+        }
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(envelope, payload);
+        try {
+            return new Decoded<>(objectMapper.readValue(body, type), body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode " + envelope.getSimpleName() + " response", e);
+        }
+    }
+
+    // Raw JSON of each element of the array at path, or of the object at path; empty unless raw data is retained
+    public List<byte[]> rawElements(Decoded<?> response, String... path) {
+        byte[] body = response.body();
+        if (!properties.isRetainRawData() || body == null || body.length == 0) {
+            return List.of();
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || !seek(parser, path)) {
+                return List.of();
+            }
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                return List.of(slice(body, parser));
+            }
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return List.of();
+            }
+
+            List<byte[]> elements = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                elements.add(slice(body, parser));
+            }
+            return elements;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read raw response data", e);
+        }
+    }
+
+    public static byte[] rawAt(List<byte[]> raw, int index) {
+        return index < raw.size() ? raw.get(index) : null;
+    }
+
+    // Leaves the parser on the value of the nested field path
+    private boolean seek(JsonParser parser, String[] path) throws IOException {
+        for (int i = 0; i < path.length; i++) {
+            boolean found = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (name.equals(path[i])) {
+                    found = true;
+                    break;
+                }
+                parser.skipChildren();
+            }
+            if (!found || (i < path.length - 1 && parser.currentToken() != JsonToken.START_OBJECT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Copies the bytes of the value under the parser without decoding it
+    private byte[] slice(byte[] body, JsonParser parser) throws IOException {
+        int start = (int) parser.currentTokenLocation().getByteOffset();
+        parser.skipChildren();
+        int end = (int) parser.currentLocation().getByteOffset();
+        return Arrays.copyOfRange(body, start, end);
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.demo.platform.adapter.out.api;
 
+import com.example.demo.platform.configuration.PlatformApiProperties;
 import com.example.demo.platform.domain.PlatformIntegration;
 import com.example.demo.platform.port.out.PlatformApiClient;
+import com.example.demo.platform.port.out.PlatformApiException;
 import com.example.demo.platform.port.out.PlatformOrderData;
+import com.example.demo.platform.port.out.PlatformOrderPage;
 import com.example.demo.platform.port.out.PlatformProductData;
+import com.example.demo.platform.port.out.PlatformProductPage;
+import com.example.demo.platform.port.out.PlatformRateLimitException;
+import com.example.demo.shared.domain.Platform;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,14 +17,12 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 public class ShopeeApiClient implements PlatformApiClient {
@@ -26,58 +30,99 @@ public class ShopeeApiClient implements PlatformApiClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final PlatformIntegration integration;
-
-    public ShopeeApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, PlatformIntegration integration) {
+    private final PlatformFetchExecutor fetchExecutor;
+    private final PlatformApiProperties apiProperties;
+    private final PlatformCallGuard callGuard;
+    private final PlatformResponseReader responseReader;
+    private final String partnerId;
+    private final HmacSigner signer;
+
+    public ShopeeApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, PlatformIntegration integration,
+                           PlatformFetchExecutor fetchExecutor, PlatformApiProperties apiProperties,
+                           PlatformCallGuard callGuard, PlatformResponseReader responseReader) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.integration = integration;
+        this.fetchExecutor = fetchExecutor;
+        this.apiProperties = apiProperties;
+        this.callGuard = callGuard;
+        this.responseReader = responseReader;
+
+        // Credentials are parsed and the signing key initialized once per client
+        Map<String, Object> credentials = readCredentials();
+        this.partnerId = String.valueOf(credentials.get("partner_id"));
+        this.signer = new HmacSigner(String.valueOf(credentials.get("app_secret")));
     }
 
-    private static final String SHOPEE_BASE_URL = "https://partner.shopeemobile.com";
     private static final String API_VERSION = "/api/v2";
+    private static final Duration MAX_ORDER_TIME_RANGE = Duration.ofDays(15);
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
+    private static final String ORDER_DETAIL_FIELDS = "recipient_address,item_list,total_amount";
 
 
     @Override
-    public List<PlatformProductData> fetchAllProducts() {
-        log.info("Fetching all products from Shopee for shop: {}", integration.getShopId());
+    public Stream<PlatformProductPage> streamProductPages(String startCursor) {
+        log.info("Streaming products from Shopee for shop: {}", integration.getShopId());
+        return fetchExecutor.streamPages(startCursor, this::fetchProductPage, PlatformProductPage::getNextCursor);
+    }
 
+    private PlatformProductPage fetchProductPage(String cursor) {
         try {
-            // First get item list
+            int offset = cursor != null ? Integer.parseInt(cursor) : 0;
+
             String itemListPath = "/product/get_item_list";
             Map<String, Object> itemListParams = new HashMap<>();
-            itemListParams.put("offset", 0);
-            itemListParams.put("page_size", 100);
-            itemListParams.put("update_time_from", Instant.now().minusSeconds(86400 * 30).getEpochSecond()); // Last 30 days
-            itemListParams.put("update_time_to", Instant.now().getEpochSecond());
+            itemListParams.put("offset", offset);
+            itemListParams.put("page_size", apiProperties.getPageSize());
             itemListParams.put("item_status", Arrays.asList("NORMAL", "BANNED", "DELETED", "UNLIST"));
 
             String itemListUrl = buildSignedUrl(itemListPath, itemListParams);
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> itemListResponse = restTemplate.getForObject(itemListUrl, Map.class);
+            ShopeeResponse<ShopeeResponse.ItemList> itemListResponse =
+                    get(itemListUrl, ShopeeResponse.ItemList.class).value();
 
-            if (!isSuccessResponse(itemListResponse)) {
+            if (itemListResponse == null || !itemListResponse.isSuccess()) {
                 throw new RuntimeException("Failed to fetch item list from Shopee: " + itemListResponse);
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = (Map<String, Object>) itemListResponse.get("response");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("item");
+            ShopeeResponse.ItemList response = itemListResponse.response();
+            List<ShopeeResponse.ItemRef> items = response.item();
+
+            boolean hasNextPage = Boolean.TRUE.equals(response.hasNextPage());
+            String nextCursor = hasNextPage && response.nextOffset() != null ? String.valueOf(response.nextOffset()) : null;
 
             if (items == null || items.isEmpty()) {
-                log.info("No products found in Shopee shop: {}", integration.getShopId());
-                return new ArrayList<>();
+                log.info("No products found in Shopee shop {} at offset {}", integration.getShopId(), offset);
+                return PlatformProductPage.builder()
+                        .items(new ArrayList<>())
+                        .cursor(cursor)
+                        .nextCursor(nextCursor)
+                        .build();
             }
 
             // Get item IDs for detailed fetch
             List<Long> itemIds = items.stream()
-                    .map(item -> ((Number) item.get("item_id")).longValue())
+                    .map(ShopeeResponse.ItemRef::itemId)
                     .collect(Collectors.toList());
 
-            // Fetch detailed item info
-            return fetchItemDetails(itemIds);
+            // Fetch detailed item info in concurrent batches
+            List<List<Long>> batches = new ArrayList<>();
+            for (int i = 0; i < itemIds.size(); i += apiProperties.getDetailBatchSize()) {
+                batches.add(itemIds.subList(i, Math.min(i + apiProperties.getDetailBatchSize(), itemIds.size())));
+            }
 
+            List<PlatformProductData> products = fetchExecutor.mapConcurrently(batches, this::fetchItemDetails).stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+
+            return PlatformProductPage.builder()
+                    .items(products)
+                    .cursor(cursor)
+                    .nextCursor(nextCursor)
+                    .build();
+
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching products from Shopee: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch products from Shopee", e);
@@ -94,6 +139,8 @@ public class ShopeeApiClient implements PlatformApiClient {
 
             return products.isEmpty() ? null : products.get(0);
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching product {} from Shopee: {}", productId, e.getMessage(), e);
             throw new RuntimeException("Failed to fetch product from Shopee", e);
@@ -101,43 +148,117 @@ public class ShopeeApiClient implements PlatformApiClient {
     }
 
     @Override
-    public List<PlatformOrderData> fetchOrders(String since) {
-        log.info("Fetching orders from Shopee since: {}", since);
+    public List<PlatformProductData> fetchProductsByIds(List<String> productIds) {
+        log.info("Fetching {} products from Shopee", productIds.size());
 
+        try {
+            List<Long> itemIds = productIds.stream()
+                    .map(Long::parseLong)
+                    .collect(Collectors.toList());
+
+            // get_item_base_info accepts a list of item ids, so fetch in batches instead of one call per item
+            List<List<Long>> batches = new ArrayList<>();
+            for (int i = 0; i < itemIds.size(); i += apiProperties.getDetailBatchSize()) {
+                batches.add(itemIds.subList(i, Math.min(i + apiProperties.getDetailBatchSize(), itemIds.size())));
+            }
+
+            return fetchExecutor.mapConcurrently(batches, this::fetchItemDetails).stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+
+        } catch (PlatformApiException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error fetching products {} from Shopee: {}", productIds, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch products from Shopee", e);
+        }
+    }
+
+    @Override
+    public Stream<PlatformOrderPage> streamOrderPages(Instant updatedFrom, Instant updatedTo) {
+        log.info("Streaming orders from Shopee for shop {} updated from {} to {}",
+                integration.getShopId(), updatedFrom, updatedTo);
+        // get_order_list rejects time ranges longer than 15 days, so longer ranges are walked in consecutive windows
+        return Stream.iterate(updatedFrom, windowFrom -> windowFrom.isBefore(updatedTo),
+                        windowFrom -> windowFrom.plus(MAX_ORDER_TIME_RANGE))
+                .flatMap(windowFrom -> {
+                    Instant windowTo = min(windowFrom.plus(MAX_ORDER_TIME_RANGE), updatedTo);
+                    return fetchExecutor.streamPages(null, cursor -> fetchOrderPage(windowFrom, windowTo, cursor),
+                            PlatformOrderPage::getNextCursor);
+                });
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // The list only carries order numbers; details are fetched for each page in concurrent batches
+    private PlatformOrderPage fetchOrderPage(Instant updatedFrom, Instant updatedTo, String cursor) {
         try {
             String orderListPath = "/order/get_order_list";
             Map<String, Object> params = new HashMap<>();
             params.put("time_range_field", "update_time");
-            params.put("time_from", Long.parseLong(since));
-            params.put("time_to", Instant.now().getEpochSecond());
-            params.put("page_size", 100);
-            params.put("cursor", "");
-            params.put("order_status", "READY_TO_SHIP");
+            params.put("time_from", updatedFrom.getEpochSecond());
+            params.put("time_to", updatedTo.getEpochSecond());
+            params.put("page_size", Math.min(apiProperties.getPageSize(), MAX_ORDER_PAGE_SIZE));
+            params.put("cursor", cursor != null ? cursor : "");
 
             String url = buildSignedUrl(orderListPath, params);
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            ShopeeResponse<ShopeeResponse.OrderList> listResponse = get(url, ShopeeResponse.OrderList.class).value();
+            if (listResponse == null || !listResponse.isSuccess()) {
+                throw new RuntimeException("Failed to fetch orders from Shopee: " + listResponse);
+            }
 
-            if (!isSuccessResponse(response)) {
-                throw new RuntimeException("Failed to fetch orders from Shopee: " + response);
+            ShopeeResponse.OrderList list = listResponse.response();
+            boolean more = Boolean.TRUE.equals(list.more()) && list.nextCursor() != null
+                    && !list.nextCursor().isEmpty();
+            String nextCursor = more ? list.nextCursor() : null;
+            if (list.orderList() == null || list.orderList().isEmpty()) {
+                return PlatformOrderPage.builder()
+                        .items(new ArrayList<>())
+                        .cursor(cursor)
+                        .nextCursor(nextCursor)
+                        .build();
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseData = (Map<String, Object>) response.get("response");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> orders = (List<Map<String, Object>>) responseData.get("order_list");
+            List<String> orderSns = list.orderList().stream()
+                    .map(ShopeeResponse.Order::orderSn)
+                    .collect(Collectors.toList());
+            List<List<String>> batches = new ArrayList<>();
+            for (int i = 0; i < orderSns.size(); i += apiProperties.getDetailBatchSize()) {
+                batches.add(orderSns.subList(i, Math.min(i + apiProperties.getDetailBatchSize(), orderSns.size())));
+            }
 
-            return orders.stream()
-                    .map(this::mapToOrderData)
+            List<PlatformOrderData> orders = fetchExecutor.mapConcurrently(batches, this::fetchOrderDetails).stream()
+                    .flatMap(List::stream)
                     .collect(Collectors.toList());
 
+            return PlatformOrderPage.builder()
+                    .items(orders)
+                    .cursor(cursor)
+                    .nextCursor(nextCursor)
+                    .build();
+
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching orders from Shopee: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch orders from Shopee", e);
         }
     }
 
+    private List<PlatformOrderData> fetchOrderDetails(List<String> orderSns) {
+        String orderDetailsPath = "/order/get_order_detail";
+        Map<String, Object> params = new HashMap<>();
+        params.put("order_sn_list", String.join(",", orderSns));
+        params.put("response_optional_fields", ORDER_DETAIL_FIELDS);
+
+        String url = buildSignedUrl(orderDetailsPath, params);
+
+        return fetchOrderList(url, "Failed to fetch order details from Shopee: ");
+    }
+
     @Override
     public PlatformOrderData fetchOrderById(String orderId) {
         log.info("Fetching order {} from Shopee", orderId);
@@ -149,20 +270,12 @@ public class ShopeeApiClient implements PlatformApiClient {
 
             String url = buildSignedUrl(orderDetailsPath, params);
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-
-            if (!isSuccessResponse(response)) {
-                throw new RuntimeException("Failed to fetch order from Shopee: " + response);
-            }
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseData = (Map<String, Object>) response.get("response");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> orders = (List<Map<String, Object>>) responseData.get("order_list");
+            List<PlatformOrderData> orders = fetchOrderList(url, "Failed to fetch order from Shopee: ");
 
-            return orders.isEmpty() ? null : mapToOrderData(orders.get(0));
+            return orders.isEmpty() ? null : orders.get(0);
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching order {} from Shopee: {}", orderId, e.getMessage(), e);
             throw new RuntimeException("Failed to fetch order from Shopee", e);
@@ -172,7 +285,7 @@ public class ShopeeApiClient implements PlatformApiClient {
     @Override
     public boolean validateWebhookSignature(String payload, String signature, String secret) {
         try {
-            String expectedSignature = generateShopeeSignature(payload, secret);
+            String expectedSignature = new HmacSigner(secret).sign(payload);
             return expectedSignature.equals(signature);
         } catch (Exception e) {
             log.error("Error validating Shopee webhook signature: {}", e.getMessage());
@@ -189,52 +302,80 @@ public class ShopeeApiClient implements PlatformApiClient {
 
         String url = buildSignedUrl(itemInfoPath, params);
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+        PlatformResponseReader.Decoded<ShopeeResponse<ShopeeResponse.ItemBaseInfo>> decoded =
+                get(url, ShopeeResponse.ItemBaseInfo.class);
+        ShopeeResponse<ShopeeResponse.ItemBaseInfo> response = decoded.value();
 
-        if (!isSuccessResponse(response)) {
+        if (response == null || !response.isSuccess()) {
             throw new RuntimeException("Failed to fetch item details from Shopee: " + response);
         }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> responseData = (Map<String, Object>) response.get("response");
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> items = (List<Map<String, Object>>) responseData.get("item_list");
+        List<ShopeeResponse.Item> items = response.response().itemList();
+        if (items == null) {
+            return new ArrayList<>();
+        }
 
-        return items.stream()
-                .map(this::mapToProductData)
-                .collect(Collectors.toList());
+        List<byte[]> raw = responseReader.rawElements(decoded, "response", "item_list");
+        List<PlatformProductData> products = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            products.add(mapToProductData(items.get(i), PlatformResponseReader.rawAt(raw, i)));
+        }
+        return products;
+    }
+
+    private List<PlatformOrderData> fetchOrderList(String url, String failureMessage) {
+        PlatformResponseReader.Decoded<ShopeeResponse<ShopeeResponse.OrderList>> decoded =
+                get(url, ShopeeResponse.OrderList.class);
+        ShopeeResponse<ShopeeResponse.OrderList> response = decoded.value();
+
+        if (response == null || !response.isSuccess()) {
+            throw new RuntimeException(failureMessage + response);
+        }
+
+        List<ShopeeResponse.Order> orders = response.response().orderList();
+        if (orders == null) {
+            return new ArrayList<>();
+        }
+
+        List<byte[]> raw = responseReader.rawElements(decoded, "response", "order_list");
+        List<PlatformOrderData> result = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            result.add(mapToOrderData(orders.get(i), PlatformResponseReader.rawAt(raw, i)));
+        }
+        return result;
     }
 
-    private PlatformProductData mapToProductData(Map<String, Object> item) {
+    private PlatformProductData mapToProductData(ShopeeResponse.Item item, byte[] rawData) {
         return PlatformProductData.builder()
-                .id(String.valueOf(item.get("item_id")))
-                .sku(String.valueOf(item.get("item_sku")))
-                .name(String.valueOf(item.get("item_name")))
-                .description(String.valueOf(item.getOrDefault("description", "")))
+                .id(String.valueOf(item.itemId()))
+                .sku(item.itemSku())
+                .name(item.itemName())
+                .description(item.description() != null ? item.description() : "")
                 .category(extractCategoryName(item))
-                .brand(String.valueOf(item.getOrDefault("brand", "")))
+                .brand(item.brand() != null && item.brand().originalBrandName() != null ? item.brand().originalBrandName() : "")
                 .price(extractPrice(item))
                 .currency("THB") // Shopee Thailand
                 .stockQuantity(extractStock(item))
-                .status(String.valueOf(item.get("item_status")))
-                .imageUrls(extractImageUrls(item))
+                .status(item.itemStatus())
+                .imageUrls(item.image() != null ? item.image() : new ArrayList<>())
                 .attributes(extractAttributes(item))
-                .rawData(item)
+                .rawData(rawData)
                 .build();
     }
 
-    private PlatformOrderData mapToOrderData(Map<String, Object> order) {
+    private PlatformOrderData mapToOrderData(ShopeeResponse.Order order, byte[] rawData) {
         return PlatformOrderData.builder()
-                .id(String.valueOf(order.get("order_sn")))
-                .sellerId(integration.getSellerId())
-                .status(String.valueOf(order.get("order_status")))
-                .orderDate(Instant.ofEpochSecond(((Number) order.get("create_time")).longValue()))
+                .id(order.orderSn())
+                .sellerId(integration.getShopId()) // Shopee order pushes only identify the shop
+                .status(order.orderStatus())
+                .orderDate(order.createTime() != null ? Instant.ofEpochSecond(order.createTime()) : null)
+                .updatedAt(order.updateTime() != null ? Instant.ofEpochSecond(order.updateTime()) : null)
                 .customerName(extractCustomerName(order))
-                .totalAmount(extractTotalAmount(order))
+                .shippingAddress(order.recipientAddress())
+                .totalAmount(order.totalAmount() != null ? order.totalAmount() : BigDecimal.ZERO)
                 .currency("THB")
                 .items(extractOrderItems(order))
-                .rawData(order)
+                .rawData(rawData)
                 .build();
     }
 
@@ -242,7 +383,6 @@ public class ShopeeApiClient implements PlatformApiClient {
         long timestamp = Instant.now().getEpochSecond();
         String accessToken = integration.getAccessToken();
         String shopId = integration.getShopId();
-        String partnerId = extractPartnerId();
 
         // Add required parameters
         params.put("partner_id", Integer.parseInt(partnerId));
@@ -252,7 +392,7 @@ public class ShopeeApiClient implements PlatformApiClient {
 
         // Generate signature
         String baseString = partnerId + path + timestamp;
-        String signature = generateShopeeSignature(baseString, getAppSecret());
+        String signature = signer.sign(baseString);
         params.put("sign", signature);
 
         // Build URL
@@ -260,138 +400,105 @@ public class ShopeeApiClient implements PlatformApiClient {
                 .map(entry -> entry.getKey() + "=" + encodeValue(entry.getValue()))
                 .collect(Collectors.joining("&"));
 
-        return SHOPEE_BASE_URL + API_VERSION + path + "?" + queryString;
+        return apiProperties.getShopeeBaseUrl() + API_VERSION + path + "?" + queryString;
     }
 
-    private String generateShopeeSignature(String message, String secret) {
-        try {
-            Mac sha256Hmac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            sha256Hmac.init(secretKey);
-
-            byte[] hash = sha256Hmac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash).toLowerCase();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate Shopee signature", e);
-        }
-    }
-
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder result = new StringBuilder();
-        for (byte b : bytes) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
-    }
-
-    private boolean isSuccessResponse(Map<String, Object> response) {
-        return response != null &&
-               response.containsKey("error") &&
-               String.valueOf(response.get("error")).equals("");
+    private <T> PlatformResponseReader.Decoded<ShopeeResponse<T>> get(String url, Class<T> payloadType) {
+        return callGuard.call(integration, () -> {
+            byte[] body = restTemplate.getForObject(url, byte[].class);
+            PlatformResponseReader.Decoded<ShopeeResponse<T>> response =
+                    responseReader.decode(body, ShopeeResponse.class, payloadType);
+            if (isRateLimited(response.value())) {
+                throw new PlatformRateLimitException(Platform.SHOPEE, "Shopee rate limit exceeded: " + response.value().message());
+            }
+            return response;
+        });
     }
 
-    private String extractPartnerId() {
-        // Extract from API credentials JSON
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> credentials = objectMapper.readValue(integration.getApiCredentials(), Map.class);
-            return String.valueOf(credentials.get("partner_id"));
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to extract partner ID from credentials", e);
+    private boolean isRateLimited(ShopeeResponse<?> response) {
+        if (response == null || response.error() == null) {
+            return false;
         }
+        return response.error().contains("too_many_request") || response.error().contains("rate_limit");
     }
 
-    private String getAppSecret() {
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readCredentials() {
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> credentials = objectMapper.readValue(integration.getApiCredentials(), Map.class);
-            return String.valueOf(credentials.get("app_secret"));
+            return objectMapper.readValue(integration.getApiCredentials(), Map.class);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to extract app secret from credentials", e);
+            throw new RuntimeException("Failed to read API credentials", e);
         }
     }
 
     // Helper methods for data extraction
-    private String extractCategoryName(Map<String, Object> item) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> categories = (List<Map<String, Object>>) item.get("category_list");
+    private String extractCategoryName(ShopeeResponse.Item item) {
+        List<ShopeeResponse.Category> categories = item.categoryList();
         if (categories != null && !categories.isEmpty()) {
-            return String.valueOf(categories.get(0).get("display_category_name"));
+            return categories.get(0).displayCategoryName();
         }
         return "";
     }
 
-    private BigDecimal extractPrice(Map<String, Object> item) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> priceInfo = (List<Map<String, Object>>) item.get("price_info");
-        if (priceInfo != null && !priceInfo.isEmpty()) {
-            Number price = (Number) priceInfo.get(0).get("current_price");
-            return price != null ? BigDecimal.valueOf(price.doubleValue()) : BigDecimal.ZERO;
+    private BigDecimal extractPrice(ShopeeResponse.Item item) {
+        List<ShopeeResponse.PriceInfo> priceInfo = item.priceInfo();
+        if (priceInfo != null && !priceInfo.isEmpty() && priceInfo.get(0).currentPrice() != null) {
+            return priceInfo.get(0).currentPrice();
         }
         return BigDecimal.ZERO;
     }
 
-    private Integer extractStock(Map<String, Object> item) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> stockInfo = (List<Map<String, Object>>) item.get("stock_info");
-        if (stockInfo != null && !stockInfo.isEmpty()) {
-            Number stock = (Number) stockInfo.get(0).get("normal_stock");
-            return stock != null ? stock.intValue() : 0;
+    private Integer extractStock(ShopeeResponse.Item item) {
+        List<ShopeeResponse.StockInfo> stockInfo = item.stockInfo();
+        if (stockInfo != null && !stockInfo.isEmpty() && stockInfo.get(0).normalStock() != null) {
+            return stockInfo.get(0).normalStock();
         }
         return 0;
     }
 
-    private List<String> extractImageUrls(Map<String, Object> item) {
-        @SuppressWarnings("unchecked")
-        List<String> images = (List<String>) item.get("image");
-        return images != null ? images : new ArrayList<>();
-    }
-
-    private Map<String, Object> extractAttributes(Map<String, Object> item) {
+    private Map<String, Object> extractAttributes(ShopeeResponse.Item item) {
         Map<String, Object> attributes = new HashMap<>();
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> attributeList = (List<Map<String, Object>>) item.get("attribute_list");
-        if (attributeList != null) {
-            for (Map<String, Object> attr : attributeList) {
-                String name = String.valueOf(attr.get("attribute_name"));
-                @SuppressWarnings("unchecked")
-                List<String> values = (List<String>) attr.get("attribute_value_list");
-                attributes.put(name, values);
+        if (item.attributeList() != null) {
+            for (ShopeeResponse.Attribute attr : item.attributeList()) {
+                attributes.put(attr.attributeName(), attr.attributeValueList());
             }
         }
 
         return attributes;
     }
 
-    private String extractCustomerName(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> recipient = (Map<String, Object>) order.get("recipient_address");
+    private String extractCustomerName(ShopeeResponse.Order order) {
+        Map<String, Object> recipient = order.recipientAddress();
         return recipient != null ? String.valueOf(recipient.get("name")) : "";
     }
 
-    private BigDecimal extractTotalAmount(Map<String, Object> order) {
-        Number totalAmount = (Number) order.get("total_amount");
-        return totalAmount != null ? BigDecimal.valueOf(totalAmount.doubleValue()) : BigDecimal.ZERO;
-    }
-
-    private List<PlatformOrderData.PlatformOrderItem> extractOrderItems(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> items = (List<Map<String, Object>>) order.get("item_list");
-
-        if (items == null) {
+    private List<PlatformOrderData.PlatformOrderItem> extractOrderItems(ShopeeResponse.Order order) {
+        if (order.itemList() == null) {
             return new ArrayList<>();
         }
 
-        return items.stream()
-                .map(item -> PlatformOrderData.PlatformOrderItem.builder()
-                        .productId(String.valueOf(item.get("item_id")))
-                        .sku(String.valueOf(item.get("item_sku")))
-                        .name(String.valueOf(item.get("item_name")))
-                        .quantity(((Number) item.get("model_quantity_purchased")).intValue())
-                        .unitPrice(BigDecimal.valueOf(((Number) item.get("model_discounted_price")).doubleValue()))
-                        .attributes(item)
-                        .build())
+        return order.itemList().stream()
+                .map(item -> {
+                    Map<String, Object> attributes = new HashMap<>();
+                    if (item.modelId() != null) {
+                        attributes.put("model_id", item.modelId());
+                    }
+                    if (item.modelSku() != null) {
+                        attributes.put("model_sku", item.modelSku());
+                    }
+                    if (item.modelName() != null) {
+                        attributes.put("model_name", item.modelName());
+                    }
+                    return PlatformOrderData.PlatformOrderItem.builder()
+                            .productId(String.valueOf(item.itemId()))
+                            .sku(item.itemSku())
+                            .name(item.itemName())
+                            .quantity(item.modelQuantityPurchased())
+                            .unitPrice(item.modelDiscountedPrice())
+                            .attributes(attributes)
+                            .build();
+                })
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,82 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+// Shopee v2 envelope; error is empty on success
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ShopeeResponse<T>(String error, String message, T response) {
+
+    public boolean isSuccess() {
+        return "".equals(error);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record ItemList(List<ItemRef> item, Boolean hasNextPage, Integer nextOffset) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record ItemRef(Long itemId) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record ItemBaseInfo(List<Item> itemList) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Item(Long itemId, String itemSku, String itemName, String description, String itemStatus,
+                       List<Category> categoryList, Brand brand, List<PriceInfo> priceInfo,
+                       List<StockInfo> stockInfo, List<String> image, List<Attribute> attributeList) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Category(String displayCategoryName) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Brand(Long brandId, String originalBrandName) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record PriceInfo(BigDecimal currentPrice, String currency) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record StockInfo(Integer normalStock) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Attribute(String attributeName, List<Object> attributeValueList) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record OrderList(List<Order> orderList, Boolean more, String nextCursor) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Order(String orderSn, String orderStatus, Long createTime, Long updateTime, BigDecimal totalAmount,
+                        Map<String, Object> recipientAddress, List<OrderItem> itemList) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record OrderItem(Long itemId, String itemSku, String itemName, Long modelId, String modelSku,
+                            String modelName, Integer modelQuantityPurchased, BigDecimal modelDiscountedPrice) {
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.demo.platform.adapter.out.api;
 
+import com.example.demo.platform.configuration.PlatformApiProperties;
 import com.example.demo.platform.domain.PlatformIntegration;
 import com.example.demo.platform.port.out.PlatformApiClient;
+import com.example.demo.platform.port.out.PlatformApiException;
 import com.example.demo.platform.port.out.PlatformOrderData;
+import com.example.demo.platform.port.out.PlatformOrderPage;
 import com.example.demo.platform.port.out.PlatformProductData;
+import com.example.demo.platform.port.out.PlatformProductPage;
+import com.example.demo.platform.port.out.PlatformRateLimitException;
+import com.example.demo.shared.domain.Platform;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,14 +17,11 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 public class TikTokShopApiClient implements PlatformApiClient {
@@ -26,28 +29,51 @@ public class TikTokShopApiClient implements PlatformApiClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final PlatformIntegration integration;
-
-    public TikTokShopApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, PlatformIntegration integration) {
+    private final PlatformFetchExecutor fetchExecutor;
+    private final PlatformApiProperties apiProperties;
+    private final PlatformCallGuard callGuard;
+    private final PlatformResponseReader responseReader;
+    private final String appKey;
+    private final HmacSigner signer;
+
+    public TikTokShopApiClient(RestTemplate restTemplate, ObjectMapper objectMapper, PlatformIntegration integration,
+                               PlatformFetchExecutor fetchExecutor, PlatformApiProperties apiProperties,
+                               PlatformCallGuard callGuard, PlatformResponseReader responseReader) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.integration = integration;
+        this.fetchExecutor = fetchExecutor;
+        this.apiProperties = apiProperties;
+        this.callGuard = callGuard;
+        this.responseReader = responseReader;
+
+        // Credentials are parsed and the signing key initialized once per client
+        Map<String, Object> credentials = readCredentials();
+        this.appKey = String.valueOf(credentials.get("app_key"));
+        this.signer = new HmacSigner(String.valueOf(credentials.get("app_secret")));
     }
 
-    private static final String TIKTOK_BASE_URL = "https://open-api.tiktokglobalshop.com";
     private static final String API_VERSION = "/api/products/v1";
     private static final String ORDER_API_VERSION = "/api/orders/v1";
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
 
 
     @Override
-    public List<PlatformProductData> fetchAllProducts() {
-        log.info("Fetching all products from TikTok Shop for shop: {}", integration.getShopId());
+    public Stream<PlatformProductPage> streamProductPages(String startCursor) {
+        log.info("Streaming products from TikTok Shop for shop: {}", integration.getShopId());
+        return fetchExecutor.streamPages(startCursor, this::fetchProductPage, PlatformProductPage::getNextCursor);
+    }
 
+    private PlatformProductPage fetchProductPage(String cursor) {
         try {
+            int pageNumber = cursor != null ? Integer.parseInt(cursor) : 1;
+            int pageSize = apiProperties.getPageSize();
+
             String path = "/products/search";
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("page_info", Map.of(
-                "page_number", 1,
-                "page_size", 100
+                "page_number", pageNumber,
+                "page_size", pageSize
             ));
 
             String url = buildSignedUrl(path, new HashMap<>());
@@ -59,28 +85,38 @@ public class TikTokShopApiClient implements PlatformApiClient {
             String requestJson = objectMapper.writeValueAsString(requestBody);
             HttpEntity<String> entity = new HttpEntity<>(requestJson, headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
+            PlatformResponseReader.Decoded<TikTokShopResponse<TikTokShopResponse.ProductList>> decoded =
+                    exchange(url, HttpMethod.POST, entity, TikTokShopResponse.ProductList.class);
+            TikTokShopResponse<TikTokShopResponse.ProductList> response = decoded.value();
 
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch products from TikTok Shop: " + responseBody);
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch products from TikTok Shop: " + response);
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> products = (List<Map<String, Object>>) data.get("products");
+            TikTokShopResponse.ProductList data = response.data();
+            List<TikTokShopResponse.Product> products = data != null ? data.products() : null;
 
             if (products == null || products.isEmpty()) {
-                log.info("No products found in TikTok Shop: {}", integration.getShopId());
-                return new ArrayList<>();
+                log.info("No more products found in TikTok Shop {} at page {}", integration.getShopId(), pageNumber);
+                return PlatformProductPage.builder()
+                        .items(new ArrayList<>())
+                        .cursor(cursor)
+                        .build();
             }
 
-            // Fetch detailed product information
-            return fetchProductDetails(products);
+            Long total = data.total();
+            boolean hasMore = products.size() >= pageSize
+                    && (total == null || (long) pageNumber * pageSize < total);
 
+            // Fetch detailed product information
+            return PlatformProductPage.builder()
+                    .items(fetchProductDetails(products, responseReader.rawElements(decoded, "data", "products")))
+                    .cursor(cursor)
+                    .nextCursor(hasMore ? String.valueOf(pageNumber + 1) : null)
+                    .build();
+
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching products from TikTok Shop: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch products from TikTok Shop", e);
@@ -103,20 +139,19 @@ public class TikTokShopApiClient implements PlatformApiClient {
             headers.set("x-tts-access-token", integration.getAccessToken());
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
+            PlatformResponseReader.Decoded<TikTokShopResponse<TikTokShopResponse.Product>> decoded =
+                    exchange(url, HttpMethod.GET, entity, TikTokShopResponse.Product.class);
+            TikTokShopResponse<TikTokShopResponse.Product> response = decoded.value();
 
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch product from TikTok Shop: " + responseBody);
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch product from TikTok Shop: " + response);
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-
-            return mapToProductData(data);
+            return mapToProductData(response.data(),
+                    PlatformResponseReader.rawAt(responseReader.rawElements(decoded, "data"), 0));
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching product {} from TikTok Shop: {}", productId, e.getMessage(), e);
             throw new RuntimeException("Failed to fetch product from TikTok Shop", e);
@@ -124,19 +159,34 @@ public class TikTokShopApiClient implements PlatformApiClient {
     }
 
     @Override
-    public List<PlatformOrderData> fetchOrders(String since) {
-        log.info("Fetching orders from TikTok Shop since: {}", since);
+    public List<PlatformProductData> fetchProductsByIds(List<String> productIds) {
+        // No batch detail endpoint, so fetch the products concurrently
+        return fetchExecutor.mapConcurrently(productIds, this::fetchProductById).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
+    @Override
+    public Stream<PlatformOrderPage> streamOrderPages(Instant updatedFrom, Instant updatedTo) {
+        log.info("Streaming orders from TikTok Shop for shop {} updated from {} to {}",
+                integration.getShopId(), updatedFrom, updatedTo);
+        return fetchExecutor.streamPages(null, cursor -> fetchOrderPage(updatedFrom, updatedTo, cursor),
+                PlatformOrderPage::getNextCursor);
+    }
+
+    private PlatformOrderPage fetchOrderPage(Instant updatedFrom, Instant updatedTo, String cursor) {
         try {
+            int pageNumber = cursor != null ? Integer.parseInt(cursor) : 1;
+            int pageSize = Math.min(apiProperties.getPageSize(), MAX_ORDER_PAGE_SIZE);
+
             String path = "/orders/search";
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("page_info", Map.of(
-                "page_number", 1,
-                "page_size", 100
+                "page_number", pageNumber,
+                "page_size", pageSize
             ));
-            requestBody.put("order_status", "AWAITING_SHIPMENT");
-            requestBody.put("create_time_from", Long.parseLong(since));
-            requestBody.put("create_time_to", Instant.now().getEpochSecond());
+            requestBody.put("update_time_from", updatedFrom.getEpochSecond());
+            requestBody.put("update_time_to", updatedTo.getEpochSecond());
 
             String url = buildSignedUrl(path, new HashMap<>());
 
@@ -147,24 +197,41 @@ public class TikTokShopApiClient implements PlatformApiClient {
             String requestJson = objectMapper.writeValueAsString(requestBody);
             HttpEntity<String> entity = new HttpEntity<>(requestJson, headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            PlatformResponseReader.Decoded<TikTokShopResponse<TikTokShopResponse.OrderList>> decoded =
+                    exchange(url, HttpMethod.POST, entity, TikTokShopResponse.OrderList.class);
+            TikTokShopResponse<TikTokShopResponse.OrderList> response = decoded.value();
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch orders from TikTok Shop: " + response);
+            }
+
+            TikTokShopResponse.OrderList data = response.data();
+            List<TikTokShopResponse.Order> orders = data != null ? data.orders() : null;
+            if (orders == null || orders.isEmpty()) {
+                return PlatformOrderPage.builder()
+                        .items(new ArrayList<>())
+                        .cursor(cursor)
+                        .build();
+            }
 
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch orders from TikTok Shop: " + responseBody);
+            List<byte[]> raw = responseReader.rawElements(decoded, "data", "orders");
+            List<PlatformOrderData> result = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                result.add(mapToOrderData(orders.get(i), PlatformResponseReader.rawAt(raw, i)));
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> orders = (List<Map<String, Object>>) data.get("orders");
+            Long total = data.total();
+            boolean hasMore = orders.size() >= pageSize
+                    && (total == null || (long) pageNumber * pageSize < total);
 
-            return orders.stream()
-                    .map(this::mapToOrderData)
-                    .collect(Collectors.toList());
+            return PlatformOrderPage.builder()
+                    .items(result)
+                    .cursor(cursor)
+                    .nextCursor(hasMore ? String.valueOf(pageNumber + 1) : null)
+                    .build();
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching orders from TikTok Shop: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch orders from TikTok Shop", e);
@@ -187,20 +254,19 @@ public class TikTokShopApiClient implements PlatformApiClient {
             headers.set("x-tts-access-token", integration.getAccessToken());
 
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            PlatformResponseReader.Decoded<TikTokShopResponse<TikTokShopResponse.Order>> decoded =
+                    exchange(url, HttpMethod.GET, entity, TikTokShopResponse.Order.class);
+            TikTokShopResponse<TikTokShopResponse.Order> response = decoded.value();
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
-
-            if (!isSuccessResponse(responseBody)) {
-                throw new RuntimeException("Failed to fetch order from TikTok Shop: " + responseBody);
+            if (response == null || !response.isSuccess()) {
+                throw new RuntimeException("Failed to fetch order from TikTok Shop: " + response);
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-
-            return mapToOrderData(data);
+            return mapToOrderData(response.data(),
+                    PlatformResponseReader.rawAt(responseReader.rawElements(decoded, "data"), 0));
 
+        } catch (PlatformApiException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error fetching order {} from TikTok Shop: {}", orderId, e.getMessage(), e);
             throw new RuntimeException("Failed to fetch order from TikTok Shop", e);
@@ -210,7 +276,7 @@ public class TikTokShopApiClient implements PlatformApiClient {
     @Override
     public boolean validateWebhookSignature(String payload, String signature, String secret) {
         try {
-            String expectedSignature = generateTikTokSignature(payload, secret);
+            String expectedSignature = new HmacSigner(secret).sign(payload);
             return expectedSignature.equals(signature);
         } catch (Exception e) {
             log.error("Error validating TikTok Shop webhook signature: {}", e.getMessage());
@@ -218,63 +284,65 @@ public class TikTokShopApiClient implements PlatformApiClient {
         }
     }
 
-    private List<PlatformProductData> fetchProductDetails(List<Map<String, Object>> products) {
-        List<PlatformProductData> detailedProducts = new ArrayList<>();
+    private List<PlatformProductData> fetchProductDetails(List<TikTokShopResponse.Product> products, List<byte[]> raw) {
+        List<Integer> indexes = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            indexes.add(i);
+        }
 
-        for (Map<String, Object> product : products) {
-            String productId = String.valueOf(product.get("product_id"));
+        return fetchExecutor.mapConcurrently(indexes, index -> {
+            TikTokShopResponse.Product product = products.get(index);
             try {
-                PlatformProductData detailed = fetchProductById(productId);
+                PlatformProductData detailed = fetchProductById(product.productId());
                 if (detailed != null) {
-                    detailedProducts.add(detailed);
+                    return detailed;
                 }
             } catch (Exception e) {
-                log.warn("Failed to fetch details for product {}: {}", productId, e.getMessage());
-                // Add basic product info even if detailed fetch fails
-                detailedProducts.add(mapToProductData(product));
+                log.warn("Failed to fetch details for product {}: {}", product.productId(), e.getMessage());
             }
-        }
-
-        return detailedProducts;
+            // Fall back to basic product info if the detailed fetch fails
+            return mapToProductData(product, PlatformResponseReader.rawAt(raw, index));
+        });
     }
 
-    private PlatformProductData mapToProductData(Map<String, Object> product) {
+    private PlatformProductData mapToProductData(TikTokShopResponse.Product product, byte[] rawData) {
         return PlatformProductData.builder()
-                .id(String.valueOf(product.get("product_id")))
-                .sku(String.valueOf(product.get("seller_sku")))
-                .name(String.valueOf(product.get("product_name")))
-                .description(String.valueOf(product.getOrDefault("description", "")))
+                .id(product.productId())
+                .sku(product.sellerSku())
+                .name(product.productName())
+                .description(product.description() != null ? product.description() : "")
                 .category(extractCategoryName(product))
-                .brand(String.valueOf(product.getOrDefault("brand", "")))
+                .brand(product.brand() != null && product.brand().name() != null ? product.brand().name() : "")
                 .price(extractPrice(product))
                 .currency(extractCurrency(product))
                 .stockQuantity(extractStock(product))
-                .status(String.valueOf(product.get("product_status")))
+                .status(product.productStatus())
                 .imageUrls(extractImageUrls(product))
                 .attributes(extractAttributes(product))
-                .rawData(product)
+                .rawData(rawData)
                 .build();
     }
 
-    private PlatformOrderData mapToOrderData(Map<String, Object> order) {
+    private PlatformOrderData mapToOrderData(TikTokShopResponse.Order order, byte[] rawData) {
         return PlatformOrderData.builder()
-                .id(String.valueOf(order.get("order_id")))
+                .id(order.orderId())
                 .sellerId(integration.getSellerId())
-                .status(String.valueOf(order.get("order_status")))
-                .orderDate(Instant.ofEpochSecond(((Number) order.get("create_time")).longValue()))
+                .status(order.orderStatus())
+                .orderDate(order.createTime() != null ? Instant.ofEpochSecond(order.createTime()) : null)
+                .updatedAt(order.updateTime() != null ? Instant.ofEpochSecond(order.updateTime()) : null)
                 .customerName(extractCustomerName(order))
-                .shippingAddress(extractShippingAddress(order))
-                .totalAmount(extractTotalAmount(order))
-                .currency(extractOrderCurrency(order))
+                .shippingAddress(order.recipientAddress() != null ? order.recipientAddress() : new HashMap<>())
+                .totalAmount(order.paymentInfo() != null && order.paymentInfo().totalAmount() != null
+                        ? order.paymentInfo().totalAmount() : BigDecimal.ZERO)
+                .currency(order.paymentInfo() != null ? order.paymentInfo().currency() : "USD")
                 .items(extractOrderItems(order))
-                .specialInstructions(String.valueOf(order.getOrDefault("buyer_message", "")))
-                .rawData(order)
+                .specialInstructions(order.buyerMessage() != null ? order.buyerMessage() : "")
+                .rawData(rawData)
                 .build();
     }
 
     private String buildSignedUrl(String path, Map<String, String> params) {
         long timestamp = Instant.now().getEpochSecond();
-        String appKey = extractAppKey();
 
         // Build base parameters
         Map<String, String> allParams = new HashMap<>(params);
@@ -293,8 +361,7 @@ public class TikTokShopApiClient implements PlatformApiClient {
         }
 
         // Generate signature
-        String appSecret = getAppSecret();
-        String signature = generateTikTokSignature(path + paramString, appSecret);
+        String signature = signer.sign(path + paramString);
         allParams.put("sign", signature);
 
         // Build final URL
@@ -302,140 +369,99 @@ public class TikTokShopApiClient implements PlatformApiClient {
                 .map(entry -> entry.getKey() + "=" + entry.getValue())
                 .collect(Collectors.joining("&"));
 
-        return TIKTOK_BASE_URL +
+        return apiProperties.getTiktokBaseUrl() +
                (path.startsWith("/api/orders") ? ORDER_API_VERSION : API_VERSION) +
                path.replace("/api/products/v1", "").replace("/api/orders/v1", "") +
                "?" + queryString;
     }
 
-    private String generateTikTokSignature(String message, String secret) {
-        try {
-            Mac sha256Hmac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            sha256Hmac.init(secretKey);
-
-            byte[] hash = sha256Hmac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate TikTok Shop signature", e);
-        }
-    }
-
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder result = new StringBuilder();
-        for (byte b : bytes) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
-    }
-
-    private boolean isSuccessResponse(Map<String, Object> response) {
-        return response != null &&
-               response.containsKey("code") &&
-               Integer.valueOf(0).equals(response.get("code"));
+    private <T> PlatformResponseReader.Decoded<TikTokShopResponse<T>> exchange(String url, HttpMethod method,
+                                                                              HttpEntity<?> entity, Class<T> payloadType) {
+        return callGuard.call(integration, () -> {
+            byte[] body = restTemplate.exchange(url, method, entity, byte[].class).getBody();
+            PlatformResponseReader.Decoded<TikTokShopResponse<T>> response =
+                    responseReader.decode(body, TikTokShopResponse.class, payloadType);
+            if (isRateLimited(response.value())) {
+                throw new PlatformRateLimitException(Platform.TIKTOK, "TikTok Shop rate limit exceeded: " + response.value().message());
+            }
+            return response;
+        });
     }
 
-    private String extractAppKey() {
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> credentials = objectMapper.readValue(integration.getApiCredentials(), Map.class);
-            return String.valueOf(credentials.get("app_key"));
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to extract app key from credentials", e);
+    private boolean isRateLimited(TikTokShopResponse<?> response) {
+        if (response == null || response.message() == null) {
+            return false;
         }
+        String message = response.message().toLowerCase();
+        return message.contains("too many requests") || message.contains("rate limit");
     }
 
-    private String getAppSecret() {
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readCredentials() {
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> credentials = objectMapper.readValue(integration.getApiCredentials(), Map.class);
-            return String.valueOf(credentials.get("app_secret"));
+            return objectMapper.readValue(integration.getApiCredentials(), Map.class);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to extract app secret from credentials", e);
+            throw new RuntimeException("Failed to read API credentials", e);
         }
     }
 
     // Helper methods for data extraction
-    private String extractCategoryName(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> categories = (List<Map<String, Object>>) product.get("category_chains");
+    private String extractCategoryName(TikTokShopResponse.Product product) {
+        List<TikTokShopResponse.CategoryChains> categories = product.categoryChains();
         if (categories != null && !categories.isEmpty()) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> chain = (List<Map<String, Object>>) categories.get(0).get("category_chain");
+            List<TikTokShopResponse.Category> chain = categories.get(0).categoryChain();
             if (chain != null && !chain.isEmpty()) {
-                return String.valueOf(chain.get(chain.size() - 1).get("local_display_name"));
+                return chain.get(chain.size() - 1).localDisplayName();
             }
         }
         return "";
     }
 
-    private BigDecimal extractPrice(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> skus = (List<Map<String, Object>>) product.get("skus");
-        if (skus != null && !skus.isEmpty()) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> price = (Map<String, Object>) skus.get(0).get("price");
-            if (price != null) {
-                String amount = String.valueOf(price.get("amount"));
-                return new BigDecimal(amount);
-            }
-        }
-        return BigDecimal.ZERO;
+    private BigDecimal extractPrice(TikTokShopResponse.Product product) {
+        TikTokShopResponse.Price price = firstSkuPrice(product);
+        return price != null && price.amount() != null ? price.amount() : BigDecimal.ZERO;
     }
 
-    private String extractCurrency(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> skus = (List<Map<String, Object>>) product.get("skus");
-        if (skus != null && !skus.isEmpty()) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> price = (Map<String, Object>) skus.get(0).get("price");
-            if (price != null) {
-                return String.valueOf(price.get("currency"));
-            }
-        }
-        return "USD";
+    private String extractCurrency(TikTokShopResponse.Product product) {
+        TikTokShopResponse.Price price = firstSkuPrice(product);
+        return price != null ? price.currency() : "USD";
     }
 
-    private Integer extractStock(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> skus = (List<Map<String, Object>>) product.get("skus");
+    private TikTokShopResponse.Price firstSkuPrice(TikTokShopResponse.Product product) {
+        List<TikTokShopResponse.Sku> skus = product.skus();
+        return skus != null && !skus.isEmpty() ? skus.get(0).price() : null;
+    }
+
+    private Integer extractStock(TikTokShopResponse.Product product) {
+        List<TikTokShopResponse.Sku> skus = product.skus();
         if (skus != null && !skus.isEmpty()) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> inventory = (Map<String, Object>) skus.get(0).get("stock_infos");
-            if (inventory != null && inventory.containsKey("available_stock")) {
-                Number stock = (Number) inventory.get("available_stock");
-                return stock != null ? stock.intValue() : 0;
+            TikTokShopResponse.StockInfo inventory = skus.get(0).stockInfos();
+            if (inventory != null && inventory.availableStock() != null) {
+                return inventory.availableStock();
             }
         }
         return 0;
     }
 
-    private List<String> extractImageUrls(Map<String, Object> product) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> images = (List<Map<String, Object>>) product.get("images");
-        if (images != null) {
-            return images.stream()
-                    .map(img -> String.valueOf(img.get("url")))
+    private List<String> extractImageUrls(TikTokShopResponse.Product product) {
+        if (product.images() != null) {
+            return product.images().stream()
+                    .map(TikTokShopResponse.Image::url)
                     .collect(Collectors.toList());
         }
         return new ArrayList<>();
     }
 
-    private Map<String, Object> extractAttributes(Map<String, Object> product) {
+    private Map<String, Object> extractAttributes(TikTokShopResponse.Product product) {
         Map<String, Object> attributes = new HashMap<>();
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> productAttributes = (List<Map<String, Object>>) product.get("product_attributes");
-        if (productAttributes != null) {
-            for (Map<String, Object> attr : productAttributes) {
-                String name = String.valueOf(attr.get("attribute_name"));
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> values = (List<Map<String, Object>>) attr.get("attribute_values");
-                if (values != null) {
-                    List<String> valueList = values.stream()
-                            .map(v -> String.valueOf(v.get("attribute_value")))
+        if (product.productAttributes() != null) {
+            for (TikTokShopResponse.ProductAttribute attr : product.productAttributes()) {
+                if (attr.attributeValues() != null) {
+                    List<String> valueList = attr.attributeValues().stream()
+                            .map(TikTokShopResponse.AttributeValue::attributeValue)
                             .collect(Collectors.toList());
-                    attributes.put(name, valueList);
+                    attributes.put(attr.attributeName(), valueList);
                 }
             }
         }
@@ -443,61 +469,37 @@ public class TikTokShopApiClient implements PlatformApiClient {
         return attributes;
     }
 
-    private String extractCustomerName(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> recipient = (Map<String, Object>) order.get("recipient_address");
+    private String extractCustomerName(TikTokShopResponse.Order order) {
+        Map<String, Object> recipient = order.recipientAddress();
         if (recipient != null) {
             return String.valueOf(recipient.get("name"));
         }
         return "";
     }
 
-    private Map<String, Object> extractShippingAddress(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> recipient = (Map<String, Object>) order.get("recipient_address");
-        return recipient != null ? recipient : new HashMap<>();
-    }
-
-    private BigDecimal extractTotalAmount(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> payment = (Map<String, Object>) order.get("payment_info");
-        if (payment != null) {
-            String amount = String.valueOf(payment.get("total_amount"));
-            try {
-                return new BigDecimal(amount);
-            } catch (NumberFormatException e) {
-                log.warn("Failed to parse total amount: {}", amount);
-            }
-        }
-        return BigDecimal.ZERO;
-    }
-
-    private String extractOrderCurrency(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> payment = (Map<String, Object>) order.get("payment_info");
-        if (payment != null) {
-            return String.valueOf(payment.get("currency"));
-        }
-        return "USD";
-    }
-
-    private List<PlatformOrderData.PlatformOrderItem> extractOrderItems(Map<String, Object> order) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> items = (List<Map<String, Object>>) order.get("order_line_items");
-
-        if (items == null) {
+    private List<PlatformOrderData.PlatformOrderItem> extractOrderItems(TikTokShopResponse.Order order) {
+        if (order.orderLineItems() == null) {
             return new ArrayList<>();
         }
 
-        return items.stream()
-                .map(item -> PlatformOrderData.PlatformOrderItem.builder()
-                        .productId(String.valueOf(item.get("product_id")))
-                        .sku(String.valueOf(item.get("seller_sku")))
-                        .name(String.valueOf(item.get("product_name")))
-                        .quantity(((Number) item.get("quantity")).intValue())
-                        .unitPrice(new BigDecimal(String.valueOf(item.get("display_price"))))
-                        .attributes(item)
-                        .build())
+        return order.orderLineItems().stream()
+                .map(item -> {
+                    Map<String, Object> attributes = new HashMap<>();
+                    if (item.skuId() != null) {
+                        attributes.put("sku_id", item.skuId());
+                    }
+                    if (item.skuName() != null) {
+                        attributes.put("sku_name", item.skuName());
+                    }
+                    return PlatformOrderData.PlatformOrderItem.builder()
+                            .productId(item.productId())
+                            .sku(item.sellerSku())
+                            .name(item.productName())
+                            .quantity(item.quantity() != null ? item.quantity() : 1)
+                            .unitPrice(item.displayPrice())
+                            .attributes(attributes)
+                            .build();
+                })
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
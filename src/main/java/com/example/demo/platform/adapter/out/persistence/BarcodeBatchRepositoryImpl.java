@@ -0,0 +1,160 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.BarcodeGenerationLog;
+import com.example.demo.platform.port.out.BarcodeBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class BarcodeBatchRepositoryImpl implements BarcodeBatchRepository {
+
+    private static final String FIND_IDS_NEEDING_BARCODE_BY_IDS = """
+            SELECT id FROM products
+            WHERE id = ANY (?) AND (barcode IS NULL OR barcode = '') AND status = 'ACTIVE'
+            """;
+
+    private static final String FIND_IDS_NEEDING_BARCODE_BY_ORG = """
+            SELECT id FROM products
+            WHERE org_id = ? AND (barcode IS NULL OR barcode = '') AND status = 'ACTIVE'
+            """;
+
+    // Only fills empty barcodes, so a product assigned concurrently keeps its barcode
+    private static final String ASSIGN_BARCODE = """
+            UPDATE products
+            SET barcode = ?, barcode_type = ?, barcode_generated_at = ?, updated_at = ?
+            WHERE id = ? AND (barcode IS NULL OR barcode = '')
+            """;
+
+    private static final String INSERT_LOG = """
+            INSERT INTO barcode_generation_log (id, product_id, barcode, barcode_type, generation_method,
+                                                generated_by, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String COUNT_ISSUED = """
+            SELECT (SELECT count(*) FROM products WHERE barcode IS NOT NULL AND barcode <> '')
+                 + (SELECT count(*) FROM barcode_generation_log)
+            """;
+
+    private static final String FIND_ISSUED = """
+            SELECT barcode FROM products WHERE barcode IS NOT NULL AND barcode <> ''
+            UNION ALL
+            SELECT barcode FROM barcode_generation_log
+            """;
+
+    private static final String FIND_ISSUED_AMONG = """
+            SELECT barcode FROM products WHERE barcode = ANY (?)
+            UNION
+            SELECT barcode FROM barcode_generation_log WHERE barcode = ANY (?)
+            """;
+
+    // Barcodes bound per lookup statement
+    private static final int ISSUED_LOOKUP_CHUNK_SIZE = 1000;
+
+    // Rows fetched per round trip while streaming issued barcodes
+    private static final int ISSUED_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UUID> findIdsNeedingBarcode(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_IDS_NEEDING_BARCODE_BY_IDS);
+            ps.setArray(1, connection.createArrayOf("uuid", productIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getObject("id", UUID.class));
+    }
+
+    @Override
+    public List<UUID> findIdsNeedingBarcode(UUID orgId) {
+        return jdbcTemplate.query(FIND_IDS_NEEDING_BARCODE_BY_ORG,
+                (rs, rowNum) -> rs.getObject("id", UUID.class), orgId);
+    }
+
+    @Override
+    @Transactional
+    public int assignBarcodes(List<BarcodeGenerationLog> assignments) {
+        if (assignments.isEmpty()) {
+            return 0;
+        }
+
+        int[][] updated = jdbcTemplate.batchUpdate(ASSIGN_BARCODE, assignments, assignments.size(), (ps, assignment) -> {
+            OffsetDateTime createdAt = OffsetDateTime.ofInstant(assignment.getCreatedAt(), ZoneOffset.UTC);
+            ps.setString(1, assignment.getBarcode());
+            ps.setString(2, assignment.getBarcodeType().name());
+            ps.setObject(3, createdAt);
+            ps.setObject(4, createdAt);
+            ps.setObject(5, assignment.getProductId());
+        });
+
+        List<BarcodeGenerationLog> assigned = new ArrayList<>(assignments.size());
+        for (int i = 0; i < assignments.size(); i++) {
+            if (updated[0][i] > 0) {
+                assigned.add(assignments.get(i));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_LOG, assigned, assigned.size(), (ps, log) -> {
+            ps.setObject(1, log.getId());
+            ps.setObject(2, log.getProductId());
+            ps.setString(3, log.getBarcode());
+            ps.setString(4, log.getBarcodeType().name());
+            ps.setString(5, log.getGenerationMethod().name());
+            ps.setObject(6, log.getGeneratedBy());
+            ps.setObject(7, OffsetDateTime.ofInstant(log.getCreatedAt(), ZoneOffset.UTC));
+        });
+
+        return assigned.size();
+    }
+
+    @Override
+    public long countIssuedBarcodes() {
+        Long count = jdbcTemplate.queryForObject(COUNT_ISSUED, Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true) // Postgres only streams with a fetch size inside a transaction
+    public void forEachIssuedBarcode(Consumer<String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_ISSUED);
+            ps.setFetchSize(ISSUED_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+    }
+
+    @Override
+    public Set<String> findIssuedBarcodes(Collection<String> barcodes) {
+        List<String> all = List.copyOf(barcodes);
+        Set<String> issued = new HashSet<>();
+        for (int from = 0; from < all.size(); from += ISSUED_LOOKUP_CHUNK_SIZE) {
+            Object[] chunk = all.subList(from, Math.min(from + ISSUED_LOOKUP_CHUNK_SIZE, all.size())).toArray();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(FIND_ISSUED_AMONG);
+                ps.setArray(1, connection.createArrayOf("varchar", chunk));
+                ps.setArray(2, connection.createArrayOf("varchar", chunk));
+                return ps;
+            }, (RowCallbackHandler) rs -> issued.add(rs.getString(1)));
+        }
+        return issued;
+    }
+}
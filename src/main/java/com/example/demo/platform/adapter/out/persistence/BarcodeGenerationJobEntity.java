@@ -0,0 +1,66 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.BarcodeGenerationJob;
+import com.example.demo.platform.domain.Product;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "barcode_generation_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BarcodeGenerationJobEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "org_id")
+    private UUID orgId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "barcode_type", nullable = false)
+    private Product.BarcodeType barcodeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private BarcodeGenerationJob.Status status;
+
+    @Column(name = "total_products", nullable = false)
+    private int totalProducts;
+
+    @Column(name = "products_processed", nullable = false)
+    private int productsProcessed;
+
+    @Column(name = "barcodes_generated", nullable = false)
+    private int barcodesGenerated;
+
+    @Column(name = "products_skipped", nullable = false)
+    private int productsSkipped;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = Instant.now();
+    }
+}
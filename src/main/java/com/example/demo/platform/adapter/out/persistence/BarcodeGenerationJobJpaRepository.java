@@ -0,0 +1,39 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.BarcodeGenerationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface BarcodeGenerationJobJpaRepository extends JpaRepository<BarcodeGenerationJobEntity, UUID> {
+
+    @Modifying
+    @Query("UPDATE BarcodeGenerationJobEntity j SET j.status = :status, j.productsProcessed = :productsProcessed, " +
+            "j.barcodesGenerated = :barcodesGenerated, j.productsSkipped = :productsSkipped, " +
+            "j.errorMessage = :errorMessage, j.completedAt = :completedAt, j.updatedAt = :updatedAt " +
+            "WHERE j.id = :id AND j.status = :expected")
+    int updateProgressIfStatus(@Param("id") UUID id,
+                               @Param("expected") BarcodeGenerationJob.Status expected,
+                               @Param("status") BarcodeGenerationJob.Status status,
+                               @Param("productsProcessed") int productsProcessed,
+                               @Param("barcodesGenerated") int barcodesGenerated,
+                               @Param("productsSkipped") int productsSkipped,
+                               @Param("errorMessage") String errorMessage,
+                               @Param("completedAt") Instant completedAt,
+                               @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("UPDATE BarcodeGenerationJobEntity j SET j.status = :to, j.errorMessage = :errorMessage, j.updatedAt = :now " +
+            "WHERE j.status = :from AND j.updatedAt < :updatedBefore")
+    int updateStatusNotUpdatedSince(@Param("from") BarcodeGenerationJob.Status from,
+                                    @Param("to") BarcodeGenerationJob.Status to,
+                                    @Param("errorMessage") String errorMessage,
+                                    @Param("updatedBefore") Instant updatedBefore,
+                                    @Param("now") Instant now);
+}
@@ -0,0 +1,11 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.BarcodeGenerationJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface BarcodeGenerationJobMapper {
+    BarcodeGenerationJob toDomain(BarcodeGenerationJobEntity entity);
+    BarcodeGenerationJobEntity toEntity(BarcodeGenerationJob domain);
+}
@@ -0,0 +1,47 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.BarcodeGenerationJob;
+import com.example.demo.platform.port.out.BarcodeGenerationJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class BarcodeGenerationJobRepositoryImpl implements BarcodeGenerationJobRepository {
+
+    private final BarcodeGenerationJobJpaRepository jpaRepository;
+    private final BarcodeGenerationJobMapper mapper;
+
+    @Override
+    public BarcodeGenerationJob save(BarcodeGenerationJob job) {
+        BarcodeGenerationJobEntity entity = mapper.toEntity(job);
+        BarcodeGenerationJobEntity savedEntity = jpaRepository.save(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Optional<BarcodeGenerationJob> findById(UUID id) {
+        return jpaRepository.findById(id)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public boolean saveIfRunning(BarcodeGenerationJob job) {
+        return jpaRepository.updateProgressIfStatus(job.getId(), BarcodeGenerationJob.Status.RUNNING, job.getStatus(),
+                job.getProductsProcessed(), job.getBarcodesGenerated(), job.getProductsSkipped(),
+                job.getErrorMessage(), job.getCompletedAt(), job.getUpdatedAt()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int failRunningNotUpdatedSince(Instant updatedBefore, String errorMessage) {
+        return jpaRepository.updateStatusNotUpdatedSince(BarcodeGenerationJob.Status.RUNNING,
+                BarcodeGenerationJob.Status.FAILED, errorMessage, updatedBefore, Instant.now());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.Product;
+import com.example.demo.platform.port.out.BarcodeSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class BarcodeSequenceRepositoryImpl implements BarcodeSequenceRepository {
+
+    // The row lock taken by the upsert serializes reservations across nodes
+    private static final String RESERVE = """
+            INSERT INTO barcode_sequences (barcode_type, next_value, updated_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (barcode_type) DO UPDATE
+            SET next_value = barcode_sequences.next_value + EXCLUDED.next_value, updated_at = now()
+            RETURNING next_value
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Committed on its own so a rolled back caller cannot release numbers that were already handed out
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveBlock(Product.BarcodeType type, long blockSize) {
+        Long end = jdbcTemplate.queryForObject(RESERVE, Long.class, type.name(), blockSize);
+        return end - blockSize;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.port.out.OrderSyncWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class OrderSyncWatermarkRepositoryImpl implements OrderSyncWatermarkRepository {
+
+    private static final String FIND = """
+            SELECT synced_until FROM order_sync_watermarks WHERE integration_id = ?
+            """;
+
+    // A run that finished late never moves the watermark back
+    private static final String SAVE = """
+            INSERT INTO order_sync_watermarks (integration_id, synced_until, updated_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (integration_id) DO UPDATE
+            SET synced_until = GREATEST(order_sync_watermarks.synced_until, EXCLUDED.synced_until), updated_at = now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Instant> findSyncedUntil(UUID integrationId) {
+        return jdbcTemplate.query(FIND,
+                        (rs, rowNum) -> rs.getObject("synced_until", OffsetDateTime.class), integrationId)
+                .stream()
+                .findFirst()
+                .map(OffsetDateTime::toInstant);
+    }
+
+    @Override
+    public void saveSyncedUntil(UUID integrationId, Instant syncedUntil) {
+        jdbcTemplate.update(SAVE, integrationId, OffsetDateTime.ofInstant(syncedUntil, ZoneOffset.UTC));
+    }
+}
@@ -17,6 +17,7 @@ public interface PlatformIntegrationJpaRepository extends JpaRepository<Platform
     Optional<PlatformIntegrationEntity> findByOauthState(String oauthState);
     List<PlatformIntegrationEntity> findByOrgId(UUID orgId);
     List<PlatformIntegrationEntity> findByOrgIdAndAuthorizationStatus(UUID orgId, PlatformIntegration.AuthorizationStatus status);
+    List<PlatformIntegrationEntity> findByAuthorizationStatus(PlatformIntegration.AuthorizationStatus status);
     List<PlatformIntegrationEntity> findByOrgIdAndPlatform(UUID orgId, Platform platform);
     Optional<PlatformIntegrationEntity> findByOrgIdAndPlatformAndSellerId(UUID orgId, Platform platform, String sellerId);
 
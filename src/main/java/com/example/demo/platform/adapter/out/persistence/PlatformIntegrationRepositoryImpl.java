@@ -53,6 +53,14 @@ public class PlatformIntegrationRepositoryImpl implements PlatformIntegrationRep
                 .toList();
     }
 
+    @Override
+    public List<PlatformIntegration> findAllAuthorized() {
+        return jpaRepository.findByAuthorizationStatus(PlatformIntegration.AuthorizationStatus.AUTHORIZED)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<PlatformIntegration> findByOrgIdAndPlatform(UUID orgId, Platform platform) {
         return jpaRepository.findByOrgIdAndPlatform(orgId, platform)
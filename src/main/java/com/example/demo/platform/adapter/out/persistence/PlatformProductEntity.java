@@ -12,7 +12,6 @@ import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -61,7 +60,7 @@ public class PlatformProductEntity {
 
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "platform_data", columnDefinition = "jsonb")
-    private Map<String, Object> platformData;
+    private String platformData;
 
     @Column(name = "last_synced_at")
     private Instant lastSyncedAt;
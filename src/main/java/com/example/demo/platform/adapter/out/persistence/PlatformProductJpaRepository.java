@@ -4,6 +4,7 @@ import com.example.demo.platform.domain.PlatformProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +14,7 @@ public interface PlatformProductJpaRepository extends JpaRepository<PlatformProd
     List<PlatformProductEntity> findByProductId(UUID productId);
     List<PlatformProductEntity> findByPlatformIntegrationId(UUID integrationId);
     Optional<PlatformProductEntity> findByPlatformIntegrationIdAndPlatformProductId(UUID integrationId, String platformProductId);
+    List<PlatformProductEntity> findByPlatformIntegrationIdAndPlatformProductIdIn(UUID integrationId, Collection<String> platformProductIds);
     List<PlatformProductEntity> findByPlatformIntegrationIdAndSyncStatus(UUID integrationId, PlatformProduct.SyncStatus syncStatus);
     void deleteByProductId(UUID productId);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.example.demo.platform.port.out.PlatformProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -51,6 +52,14 @@ public class PlatformProductRepositoryImpl implements PlatformProductRepository
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<PlatformProduct> findByIntegrationIdAndPlatformProductIds(UUID integrationId, Collection<String> platformProductIds) {
+        return jpaRepository.findByPlatformIntegrationIdAndPlatformProductIdIn(integrationId, platformProductIds)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<PlatformProduct> findByIntegrationIdAndSyncStatus(UUID integrationId, PlatformProduct.SyncStatus syncStatus) {
         return jpaRepository.findByPlatformIntegrationIdAndSyncStatus(integrationId, syncStatus)
@@ -0,0 +1,170 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.PlatformProduct;
+import com.example.demo.platform.domain.Product;
+import com.example.demo.platform.domain.ProductImage;
+import com.example.demo.platform.port.out.ProductImportBatchRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class ProductImportBatchRepositoryImpl implements ProductImportBatchRepository {
+
+    private static final String INSERT_PRODUCT = """
+            INSERT INTO products (id, org_id, master_sku, product_name, description, category, brand,
+                                  attributes, primary_image_url, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?, ?)
+            ON CONFLICT (org_id, master_sku) DO NOTHING
+            """;
+
+    private static final String INSERT_PRODUCT_IMAGE = """
+            INSERT INTO product_images (id, product_id, image_url, alt_text, sort_order, is_primary, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPSERT_PLATFORM_PRODUCT = """
+            INSERT INTO platform_products (id, product_id, platform_integration_id, platform_product_id, platform_sku,
+                                           platform_name, platform_price, currency, stock_quantity, platform_status,
+                                           platform_barcode, platform_data, last_synced_at, sync_status,
+                                           created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?, ?)
+            ON CONFLICT (platform_integration_id, platform_product_id) DO UPDATE SET
+                platform_sku = EXCLUDED.platform_sku,
+                platform_name = EXCLUDED.platform_name,
+                platform_price = EXCLUDED.platform_price,
+                currency = EXCLUDED.currency,
+                stock_quantity = EXCLUDED.stock_quantity,
+                platform_status = EXCLUDED.platform_status,
+                platform_data = EXCLUDED.platform_data,
+                last_synced_at = EXCLUDED.last_synced_at,
+                sync_status = EXCLUDED.sync_status,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_IDS_BY_MASTER_SKU =
+            "SELECT id, master_sku FROM products WHERE org_id = ? AND master_sku = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Map<String, UUID> insertProducts(UUID orgId, List<Product> products) {
+        if (products.isEmpty()) {
+            return Map.of();
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, products, products.size(), (ps, product) -> {
+            ps.setObject(1, product.getId());
+            ps.setObject(2, product.getOrgId());
+            ps.setString(3, product.getMasterSku());
+            ps.setString(4, product.getProductName());
+            ps.setString(5, product.getDescription());
+            ps.setString(6, product.getCategory());
+            ps.setString(7, product.getBrand());
+            ps.setString(8, toJson(product.getAttributes()));
+            ps.setString(9, product.getPrimaryImageUrl());
+            ps.setString(10, product.getStatus().name());
+            setInstant(ps, 11, product.getCreatedAt());
+            setInstant(ps, 12, product.getUpdatedAt());
+        });
+
+        // Batched row counts are not reliable with rewritten inserts, so read back which row owns each SKU
+        return findProductIdsByMasterSku(orgId, products.stream().map(Product::getMasterSku).toList());
+    }
+
+    @Override
+    public void insertProductImages(List<ProductImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_IMAGE, images, images.size(), (ps, image) -> {
+            ps.setObject(1, image.getId());
+            ps.setObject(2, image.getProductId());
+            ps.setString(3, image.getImageUrl());
+            ps.setString(4, image.getAltText());
+            ps.setInt(5, image.getSortOrder() != null ? image.getSortOrder() : 0);
+            ps.setBoolean(6, image.isPrimary());
+            setInstant(ps, 7, image.getCreatedAt());
+        });
+    }
+
+    @Override
+    public void upsertPlatformProducts(List<PlatformProduct> platformProducts) {
+        if (platformProducts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_PLATFORM_PRODUCT, platformProducts, platformProducts.size(), (ps, mapping) -> {
+            ps.setObject(1, mapping.getId());
+            ps.setObject(2, mapping.getProductId());
+            ps.setObject(3, mapping.getPlatformIntegrationId());
+            ps.setString(4, mapping.getPlatformProductId());
+            ps.setString(5, mapping.getPlatformSku());
+            ps.setString(6, mapping.getPlatformName());
+            ps.setBigDecimal(7, mapping.getPlatformPrice());
+            ps.setString(8, mapping.getCurrency());
+            if (mapping.getStockQuantity() != null) {
+                ps.setInt(9, mapping.getStockQuantity());
+            } else {
+                ps.setNull(9, Types.INTEGER);
+            }
+            ps.setString(10, mapping.getPlatformStatus());
+            ps.setString(11, mapping.getPlatformBarcode());
+            ps.setString(12, mapping.getPlatformData());
+            setInstant(ps, 13, mapping.getLastSyncedAt());
+            ps.setString(14, mapping.getSyncStatus() != null ? mapping.getSyncStatus().name() : null);
+            setInstant(ps, 15, mapping.getCreatedAt());
+            setInstant(ps, 16, mapping.getUpdatedAt());
+        });
+    }
+
+    @Override
+    public Map<String, UUID> findProductIdsByMasterSku(UUID orgId, Collection<String> masterSkus) {
+        if (masterSkus.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, UUID> ids = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_IDS_BY_MASTER_SKU);
+            ps.setObject(1, orgId);
+            ps.setArray(2, connection.createArrayOf("varchar", masterSkus.toArray()));
+            return ps;
+        }, rs -> {
+            ids.put(rs.getString("master_sku"), rs.getObject("id", UUID.class));
+        });
+        return ids;
+    }
+
+    private void setInstant(PreparedStatement ps, int index, Instant instant) throws SQLException {
+        if (instant != null) {
+            ps.setObject(index, OffsetDateTime.ofInstant(instant, ZoneOffset.UTC));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+        }
+    }
+
+    private String toJson(Map<String, Object> value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize JSON column", e);
+        }
+    }
+}
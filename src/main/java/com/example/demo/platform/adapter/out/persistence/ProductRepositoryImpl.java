@@ -5,6 +5,7 @@ import com.example.demo.platform.port.out.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,12 +24,27 @@ public class ProductRepositoryImpl implements ProductRepository {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public Product saveAndFlush(Product product) {
+        ProductEntity entity = mapper.toEntity(product);
+        ProductEntity savedEntity = jpaRepository.saveAndFlush(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
     @Override
     public Optional<Product> findById(UUID id) {
         return jpaRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Product> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Product> findByOrgId(UUID orgId) {
         return jpaRepository.findByOrgId(orgId)
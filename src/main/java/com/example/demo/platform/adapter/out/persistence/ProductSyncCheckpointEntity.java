@@ -0,0 +1,68 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.ProductSyncCheckpoint;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "product_sync_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSyncCheckpointEntity {
+    @Id
+    @Column(name = "integration_id")
+    private UUID integrationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ProductSyncCheckpoint.Status status;
+
+    @Column(name = "next_cursor")
+    private String nextCursor;
+
+    @Column(name = "chunks_committed", nullable = false)
+    private int chunksCommitted;
+
+    @Column(name = "products_processed", nullable = false)
+    private int productsProcessed;
+
+    @Column(name = "products_created", nullable = false)
+    private int productsCreated;
+
+    @Column(name = "products_matched", nullable = false)
+    private int productsMatched;
+
+    @Column(name = "products_updated", nullable = false)
+    private int productsUpdated;
+
+    @Column(name = "products_failed", nullable = false)
+    private int productsFailed;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        updatedAt = Instant.now();
+    }
+}
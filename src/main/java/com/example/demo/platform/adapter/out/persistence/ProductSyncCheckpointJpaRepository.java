@@ -0,0 +1,10 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ProductSyncCheckpointJpaRepository extends JpaRepository<ProductSyncCheckpointEntity, UUID> {
+}
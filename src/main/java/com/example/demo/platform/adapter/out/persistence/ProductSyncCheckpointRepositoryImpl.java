@@ -0,0 +1,30 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.ProductSyncCheckpoint;
+import com.example.demo.platform.port.out.ProductSyncCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ProductSyncCheckpointRepositoryImpl implements ProductSyncCheckpointRepository {
+
+    private final ProductSyncCheckpointJpaRepository jpaRepository;
+    private final ProductSyncCheckpointMapper mapper;
+
+    @Override
+    public ProductSyncCheckpoint save(ProductSyncCheckpoint checkpoint) {
+        ProductSyncCheckpointEntity entity = mapper.toEntity(checkpoint);
+        ProductSyncCheckpointEntity savedEntity = jpaRepository.save(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public Optional<ProductSyncCheckpoint> findByIntegrationId(UUID integrationId) {
+        return jpaRepository.findById(integrationId)
+                .map(mapper::toDomain);
+    }
+}
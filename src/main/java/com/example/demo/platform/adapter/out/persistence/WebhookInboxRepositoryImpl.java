@@ -0,0 +1,167 @@
+package com.example.demo.platform.adapter.out.persistence;
+
+import com.example.demo.platform.domain.WebhookInboxEntry;
+import com.example.demo.platform.port.out.WebhookInboxRepository;
+import com.example.demo.shared.domain.Platform;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class WebhookInboxRepositoryImpl implements WebhookInboxRepository {
+
+    private static final TypeReference<Map<String, String>> HEADERS_TYPE = new TypeReference<>() {};
+
+    private static final String INSERT = """
+            INSERT INTO webhook_inbox (id, platform, integration_id, payload, headers, item_id, dedupe_key, status,
+                                       attempts, available_at, received_at)
+            VALUES (?, ?, ?, ?, ?::jsonb, ?, ?, ?, 0, ?, ?)
+            ON CONFLICT (dedupe_key) WHERE dedupe_key IS NOT NULL DO NOTHING
+            """;
+
+    private static final String CLAIM = """
+            UPDATE webhook_inbox
+            SET status = 'PROCESSING', locked_at = now(), attempts = attempts + 1, dedupe_key = NULL
+            WHERE id IN (
+                SELECT id FROM webhook_inbox
+                WHERE status = 'PENDING' AND available_at <= now()
+                ORDER BY available_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final RowMapper<WebhookInboxEntry> rowMapper = this::mapRow;
+
+    @Override
+    public boolean enqueue(WebhookInboxEntry entry) {
+        return jdbcTemplate.update(INSERT,
+                entry.getId(),
+                entry.getPlatform().name(),
+                entry.getIntegrationId(),
+                entry.getPayload(),
+                toJson(entry.getHeaders()),
+                entry.getItemId(),
+                entry.getDedupeKey(),
+                entry.getStatus().name(),
+                toTimestamp(entry.getAvailableAt()),
+                toTimestamp(entry.getReceivedAt())) > 0;
+    }
+
+    @Override
+    public List<WebhookInboxEntry> claimBatch(int limit) {
+        return jdbcTemplate.query(CLAIM, rowMapper, limit);
+    }
+
+    @Override
+    public void markDone(UUID id) {
+        jdbcTemplate.update(
+                "UPDATE webhook_inbox SET status = 'DONE', processed_at = now(), locked_at = NULL, last_error = NULL WHERE id = ?",
+                id);
+    }
+
+    @Override
+    public void markRetry(UUID id, Instant availableAt, String error) {
+        jdbcTemplate.update(
+                "UPDATE webhook_inbox SET status = 'PENDING', available_at = ?, locked_at = NULL, last_error = ? WHERE id = ?",
+                toTimestamp(availableAt), error, id);
+    }
+
+    @Override
+    public void markDead(UUID id, String error) {
+        jdbcTemplate.update(
+                "UPDATE webhook_inbox SET status = 'DEAD', processed_at = now(), locked_at = NULL, last_error = ? WHERE id = ?",
+                error, id);
+    }
+
+    @Override
+    public int recoverStuck(Duration processingTimeout) {
+        return jdbcTemplate.update(
+                "UPDATE webhook_inbox SET status = 'PENDING', locked_at = NULL, available_at = now() " +
+                "WHERE status = 'PROCESSING' AND locked_at < now() - make_interval(secs => ?)",
+                processingTimeout.toSeconds());
+    }
+
+    @Override
+    public int requeueDead() {
+        return jdbcTemplate.update(
+                "UPDATE webhook_inbox SET status = 'PENDING', attempts = 0, available_at = now(), processed_at = NULL " +
+                "WHERE status = 'DEAD'");
+    }
+
+    @Override
+    public int deleteProcessedBefore(Instant cutoff) {
+        return jdbcTemplate.update(
+                "DELETE FROM webhook_inbox WHERE status = 'DONE' AND processed_at < ?",
+                toTimestamp(cutoff));
+    }
+
+    private WebhookInboxEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return WebhookInboxEntry.builder()
+                .id(rs.getObject("id", UUID.class))
+                .platform(Platform.valueOf(rs.getString("platform")))
+                .integrationId(rs.getString("integration_id"))
+                .payload(rs.getString("payload"))
+                .headers(fromJson(rs.getString("headers")))
+                .itemId(rs.getString("item_id"))
+                .dedupeKey(rs.getString("dedupe_key"))
+                .status(WebhookInboxEntry.Status.valueOf(rs.getString("status")))
+                .attempts(rs.getInt("attempts"))
+                .availableAt(toInstant(rs.getTimestamp("available_at")))
+                .lockedAt(toInstant(rs.getTimestamp("locked_at")))
+                .lastError(rs.getString("last_error"))
+                .receivedAt(toInstant(rs.getTimestamp("received_at")))
+                .processedAt(toInstant(rs.getTimestamp("processed_at")))
+                .build();
+    }
+
+    private OffsetDateTime toTimestamp(Instant instant) {
+        return instant != null ? OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    private Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private String toJson(Map<String, String> headers) {
+        if (headers == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize webhook headers", e);
+        }
+    }
+
+    private Map<String, String> fromJson(String json) {
+        if (json == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, HEADERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read webhook headers", e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.configuration.BarcodeProperties;
+import com.example.demo.platform.domain.BarcodeEncoder;
+import com.example.demo.platform.domain.BarcodeLabel;
+import com.example.demo.platform.domain.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Renders barcode labels to SVG or PNG: the symbol, the barcode value below it and an optional caption line.
+ * Labels are served from the {@link RenderedLabelCache} when the same inputs were rendered before.
+ */
+@Component
+@RequiredArgsConstructor
+public class BarcodeLabelRenderer {
+
+    // Quiet zone on each side of the symbol, in modules
+    private static final int QUIET_ZONE = 10;
+    private static final int MARGIN = 4;
+    private static final int FONT_SIZE = 12;
+    private static final int LINE_HEIGHT = 16;
+    private static final int MAX_CAPTION_LENGTH = 32;
+
+    private final BarcodeEncoder encoder;
+    private final RenderedLabelCache cache;
+    private final BarcodeProperties properties;
+
+    public BarcodeLabel render(Product product, BarcodeLabel.Format format) {
+        return render(product.getBarcodeType() != null ? product.getBarcodeType() : Product.BarcodeType.CODE128,
+                product.getBarcode(), product.getProductName(), format);
+    }
+
+    public BarcodeLabel render(Product.BarcodeType type, String barcode, String caption, BarcodeLabel.Format format) {
+        String text = caption == null || caption.isBlank() ? null
+                : caption.length() > MAX_CAPTION_LENGTH ? caption.substring(0, MAX_CAPTION_LENGTH - 3) + "..."
+                : caption;
+        int moduleWidth = properties.getLabelModuleWidth();
+        int barHeight = properties.getLabelBarHeight();
+        String hash = hash(format, type, barcode, text, moduleWidth, barHeight);
+
+        return cache.get(hash, () -> {
+            boolean[] modules = encoder.encode(type, barcode);
+            int width = (modules.length + 2 * QUIET_ZONE) * moduleWidth;
+            int height = MARGIN + barHeight + LINE_HEIGHT + (text != null ? LINE_HEIGHT : 0) + MARGIN;
+            byte[] content = switch (format) {
+                case SVG -> svg(modules, barcode, text, width, height, moduleWidth, barHeight);
+                case PNG -> png(modules, barcode, text, width, height, moduleWidth, barHeight);
+            };
+            return new BarcodeLabel(hash, format, content, width, height);
+        });
+    }
+
+    // Every bar run becomes one subpath of a single path element
+    private byte[] svg(boolean[] modules, String barcode, String caption, int width, int height,
+                       int moduleWidth, int barHeight) {
+        StringBuilder svg = new StringBuilder(256 + modules.length * 8);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(width)
+                .append("\" height=\"").append(height)
+                .append("\" viewBox=\"0 0 ").append(width).append(' ').append(height)
+                .append("\" shape-rendering=\"crispEdges\">")
+                .append("<rect width=\"").append(width).append("\" height=\"").append(height).append("\" fill=\"#fff\"/>")
+                .append("<path fill=\"#000\" d=\"");
+        for (int start = 0; start < modules.length; ) {
+            int end = runEnd(modules, start);
+            if (modules[start]) {
+                svg.append('M').append((QUIET_ZONE + start) * moduleWidth).append(' ').append(MARGIN)
+                        .append('h').append((end - start) * moduleWidth)
+                        .append('v').append(barHeight)
+                        .append('h').append(-(end - start) * moduleWidth).append('z');
+            }
+            start = end;
+        }
+        svg.append("\"/>");
+
+        int baseline = MARGIN + barHeight + LINE_HEIGHT - 3;
+        appendSvgText(svg, barcode, width / 2, baseline);
+        if (caption != null) {
+            appendSvgText(svg, caption, width / 2, baseline + LINE_HEIGHT);
+        }
+        return svg.append("</svg>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void appendSvgText(StringBuilder svg, String text, int x, int y) {
+        svg.append("<text x=\"").append(x).append("\" y=\"").append(y)
+                .append("\" text-anchor=\"middle\" font-family=\"monospace\" font-size=\"").append(FONT_SIZE)
+                .append("\">");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> svg.append("&lt;");
+                case '>' -> svg.append("&gt;");
+                case '&' -> svg.append("&amp;");
+                case '"' -> svg.append("&quot;");
+                default -> svg.append(c);
+            }
+        }
+        svg.append("</text>");
+    }
+
+    private byte[] png(boolean[] modules, String barcode, String caption, int width, int height,
+                       int moduleWidth, int barHeight) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setColor(Color.BLACK);
+            for (int start = 0; start < modules.length; ) {
+                int end = runEnd(modules, start);
+                if (modules[start]) {
+                    graphics.fillRect((QUIET_ZONE + start) * moduleWidth, MARGIN,
+                            (end - start) * moduleWidth, barHeight);
+                }
+                start = end;
+            }
+
+            graphics.setFont(new Font(Font.MONOSPACED, Font.PLAIN, FONT_SIZE));
+            FontMetrics metrics = graphics.getFontMetrics();
+            int baseline = MARGIN + barHeight + LINE_HEIGHT - 3;
+            graphics.drawString(barcode, (width - metrics.stringWidth(barcode)) / 2, baseline);
+            if (caption != null) {
+                graphics.drawString(caption, (width - metrics.stringWidth(caption)) / 2, baseline + LINE_HEIGHT);
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(width * height / 16);
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode barcode label", e);
+        }
+        return out.toByteArray();
+    }
+
+    private int runEnd(boolean[] modules, int start) {
+        int end = start + 1;
+        while (end < modules.length && modules[end] == modules[start]) {
+            end++;
+        }
+        return end;
+    }
+
+    private String hash(BarcodeLabel.Format format, Product.BarcodeType type, String barcode, String caption,
+                        int moduleWidth, int barHeight) {
+        String key = String.join("\u0000", format.name(), type.name(), barcode, caption != null ? caption : "",
+                Integer.toString(moduleWidth), Integer.toString(barHeight));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
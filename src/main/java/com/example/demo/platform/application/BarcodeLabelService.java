@@ -0,0 +1,86 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.configuration.BarcodeProperties;
+import com.example.demo.platform.domain.BarcodeLabel;
+import com.example.demo.platform.domain.Product;
+import com.example.demo.platform.port.in.BarcodeLabelUseCase;
+import com.example.demo.platform.port.out.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BarcodeLabelService implements BarcodeLabelUseCase {
+
+    // Products loaded and written per round trip while streaming a sheet
+    private static final int SHEET_CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final BarcodeLabelRenderer renderer;
+    private final BarcodeProperties properties;
+
+    @Override
+    public Optional<BarcodeLabel> renderProductLabel(UUID productId, BarcodeLabel.Format format) {
+        return productRepository.findById(productId)
+                .filter(Product::hasBarcode)
+                .map(product -> renderer.render(product, format));
+    }
+
+    // The sheet size is known from the id count up front, so labels can be written as soon as their chunk loads;
+    // cells of missing products or products without a barcode stay empty
+    @Override
+    public void writeLabelSheet(List<UUID> productIds, OutputStream out) throws IOException {
+        int columns = properties.getLabelSheetColumns();
+        int cellWidth = properties.getLabelSheetCellWidth();
+        int cellHeight = properties.getLabelSheetCellHeight();
+        int rows = (productIds.size() + columns - 1) / columns;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + columns * cellWidth
+                + "\" height=\"" + rows * cellHeight + "\">\n");
+
+        int written = 0;
+        for (int from = 0; from < productIds.size(); from += SHEET_CHUNK_SIZE) {
+            List<UUID> chunk = productIds.subList(from, Math.min(from + SHEET_CHUNK_SIZE, productIds.size()));
+            Map<UUID, Product> products = productRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+            for (int i = 0; i < chunk.size(); i++) {
+                Product product = products.get(chunk.get(i));
+                if (product == null || !product.hasBarcode()) {
+                    continue;
+                }
+                BarcodeLabel label = renderer.render(product, BarcodeLabel.Format.SVG);
+                int cell = from + i;
+                double scale = Math.min((double) cellWidth / label.width(), (double) cellHeight / label.height());
+                writer.write("<g transform=\"translate(" + (cell % columns) * cellWidth + ' '
+                        + (cell / columns) * cellHeight + ") scale(" + scale + ")\">");
+                writer.write(new String(label.content(), StandardCharsets.UTF_8));
+                writer.write("</g>\n");
+                written++;
+            }
+            // Hands the chunk to the client before loading the next one
+            writer.flush();
+        }
+
+        writer.write("</svg>\n");
+        writer.flush();
+        log.info("Wrote label sheet with {} labels for {} products", written, productIds.size());
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.configuration.BarcodeProperties;
+import com.example.demo.platform.domain.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of barcode to product summary for scan lookups.
+ * <p>
+ * Unknown barcodes are cached too, for a shorter time, so repeated scans of foreign labels do not reach the
+ * database. Entries are kept in LRU segments bounded by {@code platform.barcode.lookup-cache-size} and expire
+ * after their TTL, which also bounds how long changes made by other instances stay invisible.
+ */
+@Component
+public class BarcodeLookupCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+    private final Timer lookupTimer;
+    private final Timer loadTimer;
+
+    public BarcodeLookupCache(BarcodeProperties properties, MeterRegistry meterRegistry) {
+        int segmentCapacity = Math.max(1, properties.getLookupCacheSize() / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.ttlNanos = properties.getLookupCacheTtl().toNanos();
+        this.negativeTtlNanos = properties.getLookupCacheNegativeTtl().toNanos();
+
+        this.hits = meterRegistry.counter("barcode.lookup.cache", "result", "hit");
+        this.negativeHits = meterRegistry.counter("barcode.lookup.cache", "result", "negative_hit");
+        this.misses = meterRegistry.counter("barcode.lookup.cache", "result", "miss");
+        this.lookupTimer = meterRegistry.timer("barcode.lookup", "source", "any");
+        this.loadTimer = meterRegistry.timer("barcode.lookup", "source", "database");
+        Gauge.builder("barcode.lookup.cache.size", this, BarcodeLookupCache::size).register(meterRegistry);
+    }
+
+    public Optional<Product> get(String barcode, Function<String, Optional<Product>> loader) {
+        long start = System.nanoTime();
+        try {
+            Segment segment = segmentFor(barcode);
+            Entry entry = segment.get(barcode);
+            if (entry != null && entry.expiresAt - start > 0) {
+                (entry.product == null ? negativeHits : hits).increment();
+                return Optional.ofNullable(entry.product);
+            }
+
+            misses.increment();
+            Optional<Product> product = loadTimer.record(() -> loader.apply(barcode)).map(this::summary);
+            long now = System.nanoTime();
+            segment.put(barcode, new Entry(product.orElse(null),
+                    now + (product.isPresent() ? ttlNanos : negativeTtlNanos)));
+            return product;
+        } finally {
+            lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Evicts now and again after the surrounding transaction commits, so a lookup racing the commit cannot keep
+    // the old state cached
+    public void invalidate(String barcode) {
+        if (barcode == null || barcode.isEmpty()) {
+            return;
+        }
+        segmentFor(barcode).remove(barcode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    segmentFor(barcode).remove(barcode);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll(Collection<String> barcodes) {
+        barcodes.forEach(this::invalidate);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(String barcode) {
+        int hash = barcode.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    // Only what a scan needs, images and platform mappings are left out to keep entries small
+    private Product summary(Product product) {
+        Map<String, Object> attributes = product.getAttributes() != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(product.getAttributes()))
+                : null;
+        return Product.builder()
+                .id(product.getId())
+                .orgId(product.getOrgId())
+                .masterSku(product.getMasterSku())
+                .productName(product.getProductName())
+                .description(product.getDescription())
+                .category(product.getCategory())
+                .brand(product.getBrand())
+                .attributes(attributes)
+                .barcode(product.getBarcode())
+                .barcodeType(product.getBarcodeType())
+                .barcodeGeneratedAt(product.getBarcodeGeneratedAt())
+                .status(product.getStatus())
+                .build();
+    }
+
+    // A null product marks a barcode known to be unassigned
+    private record Entry(Product product, long expiresAt) {
+    }
+
+    private static final class Segment {
+
+        private final LinkedHashMap<String, Entry> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized Entry get(String barcode) {
+            return entries.get(barcode);
+        }
+
+        synchronized void put(String barcode, Entry entry) {
+            entries.put(barcode, entry);
+        }
+
+        synchronized void remove(String barcode) {
+            entries.remove(barcode);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
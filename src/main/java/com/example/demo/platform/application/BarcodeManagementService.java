@@ -1,19 +1,31 @@
 package com.example.demo.platform.application;
 
+import com.example.demo.platform.domain.BarcodeBatchValidation;
+import com.example.demo.platform.domain.BarcodeGenerationJob;
 import com.example.demo.platform.domain.BarcodeGenerationLog;
 import com.example.demo.platform.domain.BarcodeGenerator;
+import com.example.demo.platform.domain.BarcodeValidator;
 import com.example.demo.platform.domain.Product;
 import com.example.demo.platform.port.in.BarcodeManagementUseCase;
+import com.example.demo.platform.port.out.BarcodeBatchRepository;
+import com.example.demo.platform.port.out.BarcodeGenerationJobRepository;
 import com.example.demo.platform.port.out.BarcodeGenerationLogRepository;
 import com.example.demo.platform.port.out.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -25,6 +37,12 @@ public class BarcodeManagementService implements BarcodeManagementUseCase {
     private final ProductRepository productRepository;
     private final BarcodeGenerationLogRepository barcodeLogRepository;
     private final BarcodeGenerator barcodeGenerator;
+    private final BarcodeBatchRepository barcodeBatchRepository;
+    private final BarcodeGenerationJobRepository jobRepository;
+    private final BulkBarcodeGenerator bulkBarcodeGenerator;
+    private final BarcodeLookupCache lookupCache;
+    private final IssuedBarcodeFilter issuedBarcodes;
+    private final BarcodeValidator barcodeValidator;
 
     @Override
     public String generateBarcodeForProduct(UUID productId, Product.BarcodeType type) {
@@ -38,15 +56,14 @@ public class BarcodeManagementService implements BarcodeManagementUseCase {
             return product.getBarcode();
         }
 
-        // Create validator for uniqueness check
-        BarcodeGenerator.BarcodeValidator validator = this::isBarcodeUnique;
-
-        // Generate unique barcode
-        String barcode = barcodeGenerator.generateUniqueBarcode(product, type, validator);
+        // Allocated from the barcode sequence, unique without lookups
+        String barcode = barcodeGenerator.generateBarcode(product, type);
 
         // Assign barcode to product
         product.assignBarcode(barcode, type);
         productRepository.save(product);
+        lookupCache.invalidate(barcode);
+        issuedBarcodes.add(barcode);
 
         // Log the generation
         BarcodeGenerationLog logGeneration = BarcodeGenerationLog.builder()
@@ -80,13 +97,23 @@ public class BarcodeManagementService implements BarcodeManagementUseCase {
             throw new IllegalArgumentException("Invalid barcode format: " + barcode);
         }
 
-        if (!isBarcodeUnique(barcode)) {
+        // Another instance may have issued it since this node's filter was built, so only the database decides
+        if (isBarcodeIssued(barcode)) {
             throw new IllegalArgumentException("Barcode already exists: " + barcode);
         }
 
-        // Assign barcode to product
+        // Assign barcode to product, a replaced barcode must stop resolving to it
+        String previousBarcode = product.getBarcode();
         product.assignBarcode(barcode, type);
-        productRepository.save(product);
+        try {
+            productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException e) {
+            // Assigned to another product concurrently; the unique index on products.barcode caught it
+            throw new IllegalArgumentException("Barcode already exists: " + barcode, e);
+        }
+        lookupCache.invalidate(previousBarcode);
+        lookupCache.invalidate(barcode);
+        issuedBarcodes.add(barcode);
 
         // Log the manual assignment
         BarcodeGenerationLog logGeneration = BarcodeGenerationLog.builder()
@@ -105,9 +132,9 @@ public class BarcodeManagementService implements BarcodeManagementUseCase {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true) // Cache hits need no connection
     public Optional<Product> findProductByBarcode(String barcode) {
-        return productRepository.findByBarcode(barcode);
+        return lookupCache.get(barcode, productRepository::findByBarcode);
     }
 
     @Override
@@ -117,126 +144,103 @@ public class BarcodeManagementService implements BarcodeManagementUseCase {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Each chunk commits in its own transaction
     public void generateBarcodesForProducts(List<UUID> productIds) {
         log.info("Generating barcodes for {} products", productIds.size());
 
-        int generated = 0;
-        int skipped = 0;
-
-        for (UUID productId : productIds) {
-            try {
-                Product product = productRepository.findById(productId).orElse(null);
-                if (product != null && product.needsBarcode()) {
-                    generateBarcodeForProduct(productId);
-                    generated++;
-                } else {
-                    skipped++;
-                }
-            } catch (Exception e) {
-                log.error("Failed to generate barcode for product {}: {}", productId, e.getMessage());
-            }
-        }
+        List<UUID> targets = barcodeBatchRepository.findIdsNeedingBarcode(productIds);
+        int[] generated = new int[1];
+        bulkBarcodeGenerator.generate(targets, Product.BarcodeType.CODE128,
+                (processed, assigned) -> generated[0] += assigned);
 
-        log.info("Barcode generation completed: {} generated, {} skipped", generated, skipped);
+        log.info("Barcode generation completed: {} generated, {} skipped", generated[0], productIds.size() - generated[0]);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<BarcodeGenerationLog> getBarcodeHistory(UUID productId) {
-        return barcodeLogRepository.findByProductIdOrderByCreatedAtDesc(productId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // The job row must be visible before the job starts
+    public BarcodeGenerationJob startBarcodeGeneration(List<UUID> productIds, Product.BarcodeType type) {
+        return startJob(null, type, barcodeBatchRepository.findIdsNeedingBarcode(productIds));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public boolean isValidBarcode(String barcode, Product.BarcodeType type) {
-        if (barcode == null || barcode.trim().isEmpty()) {
-            return false;
-        }
-
-        barcode = barcode.trim();
-
-        return switch (type) {
-            case CODE128 -> isValidCode128(barcode);
-            case CODE39 -> isValidCode39(barcode);
-            case EAN13 -> isValidEAN13(barcode);
-            case EAN8 -> isValidEAN8(barcode);
-            case UPC_A -> isValidUPCA(barcode);
-            case UPC_E -> isValidUPCE(barcode);
-        };
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BarcodeGenerationJob startBarcodeGenerationForOrganization(UUID orgId, Product.BarcodeType type) {
+        return startJob(orgId, type, barcodeBatchRepository.findIdsNeedingBarcode(orgId));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public boolean isBarcodeUnique(String barcode) {
-        return !barcodeLogRepository.existsByBarcode(barcode) &&
-               productRepository.findByBarcode(barcode).isEmpty();
+    public Optional<BarcodeGenerationJob> getBarcodeGenerationJob(UUID jobId) {
+        return jobRepository.findById(jobId);
     }
 
-    private boolean isValidCode128(String barcode) {
-        // CODE128 can encode any ASCII character, length varies
-        return barcode.length() >= 1 && barcode.length() <= 20 &&
-               barcode.chars().allMatch(c -> c >= 32 && c <= 126);
+    @Override
+    @Transactional(readOnly = true)
+    public List<BarcodeGenerationLog> getBarcodeHistory(UUID productId) {
+        return barcodeLogRepository.findByProductIdOrderByCreatedAtDesc(productId);
     }
 
-    private boolean isValidCode39(String barcode) {
-        // CODE39 supports A-Z, 0-9, space, and -.$/+%
-        String validChars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 -.$/+%";
-        return barcode.length() >= 1 && barcode.length() <= 20 &&
-               barcode.chars().allMatch(c -> validChars.indexOf(c) >= 0);
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public boolean isValidBarcode(String barcode, Product.BarcodeType type) {
+        return barcodeValidator.isValid(barcode, type);
     }
 
-    private boolean isValidEAN13(String barcode) {
-        if (barcode.length() != 13 || !barcode.matches("\\d+")) {
-            return false;
-        }
-
-        // Verify check digit
-        int sum = 0;
-        for (int i = 0; i < 12; i++) {
-            int digit = Character.getNumericValue(barcode.charAt(i));
-            sum += (i % 2 == 0) ? digit : digit * 3;
-        }
-        int expectedCheckDigit = (10 - (sum % 10)) % 10;
-        int actualCheckDigit = Character.getNumericValue(barcode.charAt(12));
-
-        return expectedCheckDigit == actualCheckDigit;
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true) // Most checks are answered by the filter
+    public boolean isBarcodeUnique(String barcode) {
+        return issuedBarcodes.isUnique(barcode, this::isBarcodeIssued);
     }
 
-    private boolean isValidEAN8(String barcode) {
-        if (barcode.length() != 8 || !barcode.matches("\\d+")) {
-            return false;
-        }
-
-        // Verify check digit
-        int sum = 0;
-        for (int i = 0; i < 7; i++) {
-            int digit = Character.getNumericValue(barcode.charAt(i));
-            sum += (i % 2 == 0) ? digit * 3 : digit;
-        }
-        int expectedCheckDigit = (10 - (sum % 10)) % 10;
-        int actualCheckDigit = Character.getNumericValue(barcode.charAt(7));
-
-        return expectedCheckDigit == actualCheckDigit;
+    private boolean isBarcodeIssued(String barcode) {
+        return barcodeLogRepository.existsByBarcode(barcode) || productRepository.findByBarcode(barcode).isPresent();
     }
 
-    private boolean isValidUPCA(String barcode) {
-        if (barcode.length() != 12 || !barcode.matches("\\d+")) {
-            return false;
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BarcodeBatchValidation validateBarcodes(InputStream csv, Product.BarcodeType type, boolean skipHeader)
+            throws IOException {
+        CsvFieldReader reader = new CsvFieldReader(csv);
+        List<BarcodeBatchValidation.InvalidCode> invalid = new ArrayList<>();
+        Set<String> seen = new LinkedHashSet<>();
+        Set<String> duplicates = new LinkedHashSet<>();
+        int total = 0;
+
+        // Codes are validated on the reused line buffer; Strings are only created for codes that get reported or kept
+        for (int line = 1; reader.next(); line++) {
+            if ((line == 1 && skipHeader) || reader.isBlank()) {
+                continue;
+            }
+            total++;
+            if (reader.isTruncated() || !barcodeValidator.isValid(reader, type)) {
+                invalid.add(new BarcodeBatchValidation.InvalidCode(line, reader.toString().strip()));
+                continue;
+            }
+            String code = reader.toString().strip();
+            if (!seen.add(code)) {
+                duplicates.add(code);
+            }
         }
 
-        // Verify check digit
-        int sum = 0;
-        for (int i = 0; i < 11; i++) {
-            int digit = Character.getNumericValue(barcode.charAt(i));
-            sum += (i % 2 == 0) ? digit * 3 : digit;
-        }
-        int expectedCheckDigit = (10 - (sum % 10)) % 10;
-        int actualCheckDigit = Character.getNumericValue(barcode.charAt(11));
+        Set<String> issued = issuedBarcodes.findIssued(seen, barcodeBatchRepository::findIssuedBarcodes);
+        List<String> alreadyAssigned = seen.stream().filter(issued::contains).toList();
+
+        log.info("Validated {} {} barcodes: {} invalid, {} repeated, {} already assigned",
+                total, type, invalid.size(), duplicates.size(), alreadyAssigned.size());
 
-        return expectedCheckDigit == actualCheckDigit;
+        return BarcodeBatchValidation.builder()
+                .barcodeType(type)
+                .total(total)
+                .valid(seen.size() - alreadyAssigned.size())
+                .invalid(invalid)
+                .duplicates(List.copyOf(duplicates))
+                .alreadyAssigned(alreadyAssigned)
+                .build();
     }
 
-    private boolean isValidUPCE(String barcode) {
-        return barcode.length() == 8 && barcode.matches("\\d+");
+    private BarcodeGenerationJob startJob(UUID orgId, Product.BarcodeType type, List<UUID> productIds) {
+        BarcodeGenerationJob job = jobRepository.save(BarcodeGenerationJob.start(orgId, type, productIds.size()));
+        bulkBarcodeGenerator.runJob(job, productIds);
+        return job;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.configuration.BarcodeProperties;
+import com.example.demo.platform.domain.BarcodeGenerationJob;
+import com.example.demo.platform.domain.BarcodeGenerationLog;
+import com.example.demo.platform.domain.BarcodeGenerator;
+import com.example.demo.platform.domain.BarcodeSequenceAllocator;
+import com.example.demo.platform.domain.Product;
+import com.example.demo.platform.port.out.BarcodeBatchRepository;
+import com.example.demo.platform.port.out.BarcodeGenerationJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Generates barcodes for many products at once.
+ * <p>
+ * Each chunk reserves its numbers from the barcode sequence in one call and is written with two JDBC batches,
+ * one updating the products and one inserting the generation logs, committed together.
+ * <p>
+ * Every chunk saves the job's progress. A job left running by an instance that died stops making progress and
+ * is failed once {@code platform.barcode.job-stale-after} has passed since its last save. Progress is only saved
+ * while the job is still RUNNING, so a job failed that way stays failed and its runner stops at the next chunk.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkBarcodeGenerator {
+
+    private final BarcodeBatchRepository batchRepository;
+    private final BarcodeGenerationJobRepository jobRepository;
+    private final BarcodeSequenceAllocator sequenceAllocator;
+    private final BarcodeGenerator barcodeGenerator;
+    private final BarcodeProperties properties;
+    private final BarcodeLookupCache lookupCache;
+    private final IssuedBarcodeFilter issuedBarcodes;
+
+    @Async
+    public void runJob(BarcodeGenerationJob job, List<UUID> productIds) {
+        log.info("Starting barcode generation job {} for {} products", job.getId(), productIds.size());
+        try {
+            generate(productIds, job.getBarcodeType(), (processed, generated) -> {
+                job.recordChunk(processed, generated);
+                if (!jobRepository.saveIfRunning(job)) {
+                    throw new JobNoLongerRunningException();
+                }
+            });
+            job.complete();
+            log.info("Barcode generation job {} completed: {} generated, {} skipped",
+                    job.getId(), job.getBarcodesGenerated(), job.getProductsSkipped());
+        } catch (JobNoLongerRunningException e) {
+            log.warn("Barcode generation job {} was failed while running, stopping after {} products",
+                    job.getId(), job.getProductsProcessed());
+            return;
+        } catch (Exception e) {
+            log.error("Barcode generation job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        }
+        if (!jobRepository.saveIfRunning(job)) {
+            log.warn("Barcode generation job {} was failed while running, its final state was not saved", job.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${platform.barcode.job-stale-check-interval:PT1M}")
+    public void failStaleJobs() {
+        Instant updatedBefore = Instant.now().minus(properties.getJobStaleAfter());
+        int failed = jobRepository.failRunningNotUpdatedSince(updatedBefore,
+                "No progress since " + updatedBefore + ", the instance running the job stopped");
+        if (failed > 0) {
+            log.warn("Failed {} barcode generation jobs that stopped making progress", failed);
+        }
+    }
+
+    // Reports (processed, generated) after every committed chunk
+    public void generate(List<UUID> productIds, Product.BarcodeType type, BiConsumer<Integer, Integer> onChunk) {
+        int chunkSize = properties.getBulkChunkSize();
+        for (int from = 0; from < productIds.size(); from += chunkSize) {
+            List<UUID> chunk = productIds.subList(from, Math.min(from + chunkSize, productIds.size()));
+            onChunk.accept(chunk.size(), generateChunk(chunk, type));
+        }
+    }
+
+    private int generateChunk(List<UUID> productIds, Product.BarcodeType type) {
+        long first = sequenceAllocator.nextRange(type, productIds.size());
+        Instant now = Instant.now();
+
+        List<BarcodeGenerationLog> assignments = new ArrayList<>(productIds.size());
+        for (int i = 0; i < productIds.size(); i++) {
+            assignments.add(BarcodeGenerationLog.builder()
+                    .id(UUID.randomUUID())
+                    .productId(productIds.get(i))
+                    .barcode(barcodeGenerator.format(type, first + i))
+                    .barcodeType(type)
+                    .generationMethod(BarcodeGenerationLog.GenerationMethod.AUTO_GENERATED)
+                    .createdAt(now)
+                    .build());
+        }
+
+        int assigned = batchRepository.assignBarcodes(assignments);
+        List<String> barcodes = assignments.stream().map(BarcodeGenerationLog::getBarcode).toList();
+        // Drops unknown-barcode entries cached for labels scanned before their product was assigned
+        lookupCache.invalidateAll(barcodes);
+        // Skipped products leave their barcode unused, which only costs the filter a false positive
+        issuedBarcodes.addAll(barcodes);
+        return assigned;
+    }
+
+    // Thrown from the progress callback to stop a job whose row is no longer RUNNING
+    private static class JobNoLongerRunningException extends RuntimeException {
+        JobNoLongerRunningException() {
+            super(null, null, false, false);
+        }
+    }
+}
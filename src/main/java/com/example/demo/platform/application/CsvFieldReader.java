@@ -0,0 +1,155 @@
+package com.example.demo.platform.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the first field of each line of a CSV stream into a reused buffer and exposes it as a
+ * {@link CharSequence}, so fields can be inspected without creating a String per line. Bytes map to chars one
+ * to one, which is exact for the ASCII that barcodes consist of.
+ * <p>
+ * A UTF-8 byte order mark at the start of the stream is skipped. A quoted field may contain commas, line breaks
+ * and quotes doubled as {@code ""}.
+ */
+final class CsvFieldReader implements CharSequence {
+
+    // Longer fields cannot be barcodes; the excess is dropped and the field flagged as truncated
+    private static final int MAX_FIELD_LENGTH = 256;
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[8192];
+    private int position;
+    private int limit;
+
+    private final byte[] field = new byte[MAX_FIELD_LENGTH];
+    private int length;
+    private boolean truncated;
+    private boolean started;
+
+    CsvFieldReader(InputStream in) {
+        this.in = in;
+    }
+
+    // Advances to the next line; false once the stream is exhausted
+    boolean next() throws IOException {
+        length = 0;
+        truncated = false;
+
+        boolean inField = true;
+        boolean quoted = false;
+        boolean quoteSeen = false;
+        boolean read = false;
+        int b;
+        while ((b = read()) >= 0) {
+            if (quoted) {
+                if (quoteSeen) {
+                    quoteSeen = false;
+                    if (b == '"') {
+                        append(b);
+                        continue;
+                    }
+                    // The closing quote; the byte after it is read unquoted
+                    quoted = false;
+                } else {
+                    if (b == '"') {
+                        quoteSeen = true;
+                    } else {
+                        append(b);
+                    }
+                    continue;
+                }
+            } else if (!read && b == '"') {
+                read = true;
+                quoted = true;
+                continue;
+            }
+
+            read = true;
+            if (b == '\n') {
+                break;
+            }
+            if (b == ',' || b == '\r') {
+                inField = false;
+            }
+            if (inField) {
+                append(b);
+            }
+        }
+        return read;
+    }
+
+    private void append(int b) {
+        if (length < MAX_FIELD_LENGTH) {
+            field[length++] = (byte) b;
+        } else {
+            truncated = true;
+        }
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    boolean isBlank() {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (field[index] & 0xff);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return new String(field, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return new String(field, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private int read() throws IOException {
+        while (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit < 0) {
+                limit = 0;
+                return -1;
+            }
+            if (!started) {
+                started = true;
+                skipByteOrderMark();
+            }
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    // Spreadsheet exports often start with one; it is not part of the first field
+    private void skipByteOrderMark() throws IOException {
+        while (limit < BYTE_ORDER_MARK.length) {
+            int n = in.read(buffer, limit, buffer.length - limit);
+            if (n < 0) {
+                break;
+            }
+            limit += n;
+        }
+        if (limit >= BYTE_ORDER_MARK.length && Arrays.equals(buffer, 0, BYTE_ORDER_MARK.length,
+                BYTE_ORDER_MARK, 0, BYTE_ORDER_MARK.length)) {
+            position = BYTE_ORDER_MARK.length;
+        }
+    }
+}
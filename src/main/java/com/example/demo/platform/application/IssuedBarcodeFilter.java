@@ -0,0 +1,179 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.configuration.BarcodeProperties;
+import com.example.demo.platform.domain.BarcodeBloomFilter;
+import com.example.demo.platform.port.out.BarcodeBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Node-local Bloom filter of every barcode ever issued, from {@code products} and {@code barcode_generation_log}.
+ * <p>
+ * A barcode the filter has never seen is unused without asking the database; only possible hits are confirmed
+ * there. Barcodes are added once their assignment commits, and the filter is rebuilt periodically to pick up
+ * assignments made by other instances. Until the first build completes every check goes to the database.
+ * <p>
+ * Between rebuilds the filter misses barcodes issued by other instances, so it only answers read-only checks;
+ * assigning a barcode always confirms with the database.
+ */
+@Component
+@Slf4j
+public class IssuedBarcodeFilter {
+
+    // Room for growth until the next rebuild before the false positive rate degrades
+    private static final int GROWTH_FACTOR = 2;
+    private static final long MIN_EXPECTED_INSERTIONS = 10_000;
+
+    private final BarcodeBatchRepository batchRepository;
+    private final BarcodeProperties properties;
+
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+    private final Counter unavailable;
+
+    private volatile BarcodeBloomFilter filter;
+    // Filter being rebuilt; receives committed assignments while the database is streamed into it
+    private BarcodeBloomFilter building;
+
+    public IssuedBarcodeFilter(BarcodeBatchRepository batchRepository, BarcodeProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.batchRepository = batchRepository;
+        this.properties = properties;
+
+        this.absent = meterRegistry.counter("barcode.uniqueness.filter", "result", "absent");
+        this.present = meterRegistry.counter("barcode.uniqueness.filter", "result", "present");
+        this.falsePositives = meterRegistry.counter("barcode.uniqueness.filter", "result", "false_positive");
+        this.unavailable = meterRegistry.counter("barcode.uniqueness.filter", "result", "unavailable");
+        Gauge.builder("barcode.uniqueness.filter.expected.fpp", this,
+                f -> f.filter != null ? f.filter.expectedFalsePositiveRate() : Double.NaN).register(meterRegistry);
+        Gauge.builder("barcode.uniqueness.filter.bytes", this,
+                f -> f.filter != null ? f.filter.sizeInBytes() : 0).register(meterRegistry);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${platform.barcode.uniqueness-filter-rebuild-interval:PT6H}",
+            initialDelayString = "${platform.barcode.uniqueness-filter-rebuild-interval:PT6H}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            long issued = batchRepository.countIssuedBarcodes();
+            BarcodeBloomFilter next = BarcodeBloomFilter.create(
+                    Math.max(MIN_EXPECTED_INSERTIONS, issued * GROWTH_FACTOR),
+                    properties.getUniquenessFilterFalsePositiveRate(),
+                    properties.getUniquenessFilterMemory().toBytes());
+
+            synchronized (this) {
+                building = next;
+            }
+            batchRepository.forEachIssuedBarcode(next::add);
+            synchronized (this) {
+                filter = next;
+                building = null;
+            }
+
+            log.info("Built issued barcode filter with {} barcodes in {} ms, {} bytes, expected false positive rate {}",
+                    next.insertions(), System.currentTimeMillis() - started, next.sizeInBytes(),
+                    next.expectedFalsePositiveRate());
+        } catch (Exception e) {
+            synchronized (this) {
+                building = null;
+            }
+            log.error("Failed to build issued barcode filter: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isUnique(String barcode, Predicate<String> existsInDatabase) {
+        BarcodeBloomFilter current = filter;
+        if (current == null) {
+            unavailable.increment();
+            return !existsInDatabase.test(barcode);
+        }
+        if (!current.mightContain(barcode)) {
+            absent.increment();
+            return true;
+        }
+
+        boolean exists = existsInDatabase.test(barcode);
+        (exists ? present : falsePositives).increment();
+        return !exists;
+    }
+
+    // Batch variant of isUnique: only the possible hits are passed to the database lookup
+    public Set<String> findIssued(Collection<String> barcodes, Function<Collection<String>, Set<String>> database) {
+        BarcodeBloomFilter current = filter;
+        if (current == null) {
+            unavailable.increment(barcodes.size());
+            return database.apply(barcodes);
+        }
+
+        List<String> possible = new ArrayList<>();
+        for (String barcode : barcodes) {
+            if (current.mightContain(barcode)) {
+                possible.add(barcode);
+            }
+        }
+        absent.increment(barcodes.size() - possible.size());
+        if (possible.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> issued = database.apply(possible);
+        present.increment(issued.size());
+        falsePositives.increment(possible.size() - issued.size());
+        return issued;
+    }
+
+    // Added after commit, so a rebuild streaming the database either sees the row or receives the add
+    public void add(String barcode) {
+        addAll(List.of(barcode));
+    }
+
+    public void addAll(Collection<String> barcodes) {
+        if (barcodes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(barcodes);
+                }
+            });
+        } else {
+            addNow(barcodes);
+        }
+    }
+
+    private synchronized void addNow(Collection<String> barcodes) {
+        for (String barcode : barcodes) {
+            if (filter != null) {
+                filter.add(barcode);
+            }
+            if (building != null) {
+                building.add(barcode);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.order.port.in.FetchedOrder;
+import com.example.demo.order.port.in.OrderReconciliationUseCase;
+import com.example.demo.platform.configuration.PlatformOrderSyncProperties;
+import com.example.demo.platform.domain.PlatformIntegration;
+import com.example.demo.platform.port.out.OrderSyncWatermarkRepository;
+import com.example.demo.platform.port.out.PlatformApiClient;
+import com.example.demo.platform.port.out.PlatformApiClientFactory;
+import com.example.demo.platform.port.out.PlatformIntegrationRepository;
+import com.example.demo.platform.port.out.PlatformOrderData;
+import com.example.demo.platform.port.out.PlatformOrderPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Catches order changes whose webhook never arrived.
+ * <p>
+ * Every run walks all pages of orders updated since the integration's watermark, for all authorized integrations
+ * at once with at most {@code platform.order-sync.concurrency} in flight, and writes only the orders that differ
+ * from the stored ones. The watermark advances once every page of the window has been reconciled, so a failed run
+ * is retried from the same point.
+ */
+@Component
+@Slf4j
+public class OrderReconciliationPoller {
+
+    private final PlatformIntegrationRepository integrationRepository;
+    private final PlatformApiClientFactory clientFactory;
+    private final OrderSyncWatermarkRepository watermarkRepository;
+    private final OrderReconciliationUseCase orderReconciliation;
+    private final PlatformOrderSyncProperties properties;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter fetched;
+    private final Counter written;
+    private final Counter succeeded;
+    private final Counter failed;
+
+    public OrderReconciliationPoller(PlatformIntegrationRepository integrationRepository,
+                                     PlatformApiClientFactory clientFactory,
+                                     OrderSyncWatermarkRepository watermarkRepository,
+                                     OrderReconciliationUseCase orderReconciliation,
+                                     PlatformOrderSyncProperties properties, MeterRegistry meterRegistry) {
+        this.integrationRepository = integrationRepository;
+        this.clientFactory = clientFactory;
+        this.watermarkRepository = watermarkRepository;
+        this.orderReconciliation = orderReconciliation;
+        this.properties = properties;
+
+        this.fetched = meterRegistry.counter("order.reconciliation.orders", "result", "fetched");
+        this.written = meterRegistry.counter("order.reconciliation.orders", "result", "written");
+        this.succeeded = meterRegistry.counter("order.reconciliation.runs", "result", "success");
+        this.failed = meterRegistry.counter("order.reconciliation.runs", "result", "failure");
+    }
+
+    @Scheduled(fixedDelayString = "${platform.order-sync.interval:PT5M}",
+            initialDelayString = "${platform.order-sync.initial-delay:PT1M}")
+    public void reconcileAll() {
+        List<PlatformIntegration> integrations = integrationRepository.findAllAuthorized().stream()
+                .filter(PlatformIntegration::isAuthorized)
+                .toList();
+
+        Semaphore permits = new Semaphore(properties.getConcurrency());
+        List<Future<?>> runs = new ArrayList<>(integrations.size());
+        for (PlatformIntegration integration : integrations) {
+            runs.add(executor.submit(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    reconcile(integration);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        // Waiting keeps runs from overlapping; the next one starts a full interval after this one ends
+        for (Future<?> run : runs) {
+            try {
+                run.get();
+            } catch (ExecutionException e) {
+                log.error("Order reconciliation run failed: {}", e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted runs leave their watermark in place and are repeated on the next start
+        executor.shutdownNow();
+    }
+
+    private void reconcile(PlatformIntegration integration) {
+        Instant until = Instant.now();
+        Instant from = watermarkRepository.findSyncedUntil(integration.getId())
+                .map(syncedUntil -> syncedUntil.minus(properties.getOverlap()))
+                .orElseGet(() -> until.minus(properties.getInitialLookback()));
+
+        long fetchedOrders = 0;
+        long writtenOrders = 0;
+        try {
+            PlatformApiClient client = clientFactory.createClient(integration.getPlatform(), integration);
+            try (Stream<PlatformOrderPage> pages = client.streamOrderPages(from, until)) {
+                for (PlatformOrderPage page : (Iterable<PlatformOrderPage>) pages::iterator) {
+                    Map<String, List<FetchedOrder>> bySeller = page.getItems().stream()
+                            .map(data -> toFetchedOrder(integration, data))
+                            .collect(Collectors.groupingBy(FetchedOrder::sellerId));
+                    for (Map.Entry<String, List<FetchedOrder>> seller : bySeller.entrySet()) {
+                        int rows = orderReconciliation.reconcile(seller.getKey(), seller.getValue());
+                        writtenOrders += rows;
+                        written.increment(rows);
+                    }
+                    fetchedOrders += page.getItems().size();
+                    fetched.increment(page.getItems().size());
+                }
+            }
+
+            watermarkRepository.saveSyncedUntil(integration.getId(), until);
+            succeeded.increment();
+            if (writtenOrders > 0) {
+                log.info("Reconciled {} orders of {} integration {}, {} were missing or stale",
+                        fetchedOrders, integration.getPlatform(), integration.getId(), writtenOrders);
+            } else {
+                log.debug("Reconciled {} orders of {} integration {}, all up to date",
+                        fetchedOrders, integration.getPlatform(), integration.getId());
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Order reconciliation of {} integration {} failed after {} orders, retrying from {}: {}",
+                    integration.getPlatform(), integration.getId(), fetchedOrders, from, e.getMessage());
+        }
+    }
+
+    private FetchedOrder toFetchedOrder(PlatformIntegration integration, PlatformOrderData data) {
+        return new FetchedOrder(integration.getPlatform(), Objects.requireNonNullElse(data.getSellerId(), ""),
+                data.getId(), data.getStatus(), data.getOrderDate(), data.getUpdatedAt());
+    }
+}
@@ -5,9 +5,11 @@ import com.example.demo.platform.domain.PlatformIntegration;
 import com.example.demo.platform.port.in.CompleteOAuthCommand;
 import com.example.demo.platform.port.in.InitiateOAuthCommand;
 import com.example.demo.platform.port.in.PlatformAuthorizationUseCase;
+import com.example.demo.platform.port.out.PlatformApiClientFactory;
 import com.example.demo.platform.port.out.PlatformIntegrationRepository;
 import com.example.demo.shared.domain.Platform;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +43,7 @@ import java.util.UUID;
 public class PlatformAuthorizationService implements PlatformAuthorizationUseCase {
 
     private final PlatformIntegrationRepository integrationRepository;
+    private final PlatformApiClientFactory apiClientFactory;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final PlatformOAuthProperties oauthProperties;
@@ -135,7 +138,9 @@ public class PlatformAuthorizationService implements PlatformAuthorizationUseCas
             Map<String, Object> credentials = createCredentialsMap(integration.getPlatform(), tokenResponse);
             integration.setApiCredentials(objectMapper.writeValueAsString(credentials));
 
-            return integrationRepository.save(integration);
+            PlatformIntegration saved = integrationRepository.save(integration);
+            apiClientFactory.invalidate(integrationId);
+            return saved;
 
         } catch (Exception e) {
             log.error("Failed to refresh token for integration {}: {}", integrationId, e.getMessage());
@@ -156,6 +161,7 @@ public class PlatformAuthorizationService implements PlatformAuthorizationUseCas
         integration.setActive(false);
 
         integrationRepository.save(integration);
+        apiClientFactory.invalidate(integrationId);
 
         log.info("Integration revoked: {}", integrationId);
     }
@@ -279,42 +285,41 @@ public class PlatformAuthorizationService implements PlatformAuthorizationUseCas
             HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
             // Make the API call
-            ResponseEntity<String> response = restTemplate.postForEntity(tokenUrl, request, String.class);
+            ResponseEntity<LazadaTokenPayload> response = restTemplate.postForEntity(tokenUrl, request, LazadaTokenPayload.class);
 
             if (!response.getStatusCode().is2xxSuccessful()) {
                 throw new RuntimeException("Lazada token exchange failed with status: " + response.getStatusCode());
             }
 
-            // Parse response
-            JsonNode responseNode = objectMapper.readTree(response.getBody());
+            // Decoded straight from the response stream into the typed payload
+            LazadaTokenPayload payload = response.getBody();
 
-            if (responseNode.has("error")) {
-                String error = responseNode.get("error").asText();
-                String errorDescription = responseNode.has("error_description")
-                    ? responseNode.get("error_description").asText()
+            if (payload == null || payload.error() != null) {
+                String error = payload != null ? payload.error() : "empty response";
+                String errorDescription = payload != null && payload.errorDescription() != null
+                    ? payload.errorDescription()
                     : "Unknown error";
                 throw new RuntimeException("Lazada API error: " + error + " - " + errorDescription);
             }
 
-            String accessToken = responseNode.get("access_token").asText();
-            String refreshToken = responseNode.has("refresh_token") ? responseNode.get("refresh_token").asText() : null;
-            long expiresIn = responseNode.has("expires_in") ? responseNode.get("expires_in").asLong() : 3600;
+            if (payload.accessToken() == null) {
+                throw new RuntimeException("No access_token in Lazada response");
+            }
+
+            String accessToken = payload.accessToken();
+            String refreshToken = payload.refreshToken();
+            long expiresIn = payload.expiresIn() != null ? payload.expiresIn() : 3600;
 
             // Get seller/shop information if available
-            String shopName = responseNode.has("account") ? responseNode.get("account").asText() : "Lazada Shop";
+            String shopName = payload.account() != null ? payload.account() : "Lazada Shop";
 
             // Extract seller_id for Thailand from country_user_info
             String sellerId = null;
-            if (responseNode.has("country_user_info")) {
-                JsonNode countryUserInfo = responseNode.get("country_user_info");
-                if (countryUserInfo.isArray()) {
-                    for (JsonNode countryInfo : countryUserInfo) {
-                        if (countryInfo.has("country") && "th".equals(countryInfo.get("country").asText())) {
-                            if (countryInfo.has("seller_id")) {
-                                sellerId = countryInfo.get("seller_id").asText();
-                                break;
-                            }
-                        }
+            if (payload.countryUserInfo() != null) {
+                for (LazadaCountryUserInfo countryInfo : payload.countryUserInfo()) {
+                    if ("th".equals(countryInfo.country()) && countryInfo.sellerId() != null) {
+                        sellerId = countryInfo.sellerId();
+                        break;
                     }
                 }
             }
@@ -401,25 +406,28 @@ public class PlatformAuthorizationService implements PlatformAuthorizationUseCas
             HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
             // Make the API call
-            ResponseEntity<String> response = restTemplate.postForEntity(refreshUrl, request, String.class);
+            ResponseEntity<LazadaTokenPayload> response = restTemplate.postForEntity(refreshUrl, request, LazadaTokenPayload.class);
 
             if (!response.getStatusCode().is2xxSuccessful()) {
                 throw new RuntimeException("Lazada token refresh failed with status: " + response.getStatusCode());
             }
 
-            // Parse response
-            JsonNode responseNode = objectMapper.readTree(response.getBody());
+            LazadaTokenPayload payload = response.getBody();
 
-            if (responseNode.has("error")) {
-                String error = responseNode.get("error").asText();
-                String errorDescription = responseNode.has("error_description")
-                    ? responseNode.get("error_description").asText()
+            if (payload == null || payload.error() != null) {
+                String error = payload != null ? payload.error() : "empty response";
+                String errorDescription = payload != null && payload.errorDescription() != null
+                    ? payload.errorDescription()
                     : "Unknown error";
                 throw new RuntimeException("Lazada API error during refresh: " + error + " - " + errorDescription);
             }
 
-            String accessToken = responseNode.get("access_token").asText();
-            long expiresIn = responseNode.has("expires_in") ? responseNode.get("expires_in").asLong() : 3600;
+            if (payload.accessToken() == null) {
+                throw new RuntimeException("No access_token in Lazada refresh response");
+            }
+
+            String accessToken = payload.accessToken();
+            long expiresIn = payload.expiresIn() != null ? payload.expiresIn() : 3600;
 
             return TokenResponse.builder()
                     .accessToken(accessToken)
@@ -516,6 +524,22 @@ public class PlatformAuthorizationService implements PlatformAuthorizationUseCas
     }
 
 
+    // Lazada /auth/token/create and /auth/token/refresh response, unknown fields are skipped while decoding
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record LazadaTokenPayload(
+            @JsonProperty("access_token") String accessToken,
+            @JsonProperty("refresh_token") String refreshToken,
+            @JsonProperty("expires_in") Long expiresIn,
+            String account,
+            String error,
+            @JsonProperty("error_description") String errorDescription,
+            @JsonProperty("country_user_info") List<LazadaCountryUserInfo> countryUserInfo) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record LazadaCountryUserInfo(String country, @JsonProperty("seller_id") String sellerId) {
+    }
+
     @lombok.Builder
     @lombok.Data
     private static class TokenResponse {
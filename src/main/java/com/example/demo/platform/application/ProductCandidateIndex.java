@@ -0,0 +1,294 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.domain.Product;
+import com.example.demo.platform.domain.ProductMatchingRule;
+import com.example.demo.platform.port.out.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory blocking index over an organization's products.
+ * <p>
+ * Products are indexed by character trigrams of the normalized values of the fields referenced
+ * by the active matching rules, so an import only scores products that share grams with the
+ * candidate instead of the whole catalog. Postings for a field are built lazily the first time a
+ * rule references it. Grams shared by a large part of the catalog carry no blocking signal and are
+ * skipped at query time.
+ * <p>
+ * The index keeps its own copies of the matched fields and hands out fresh copies, so callers changing a product
+ * cannot move it under postings built from its old values. Replaced products leave tombstones behind, which are
+ * compacted away once they outnumber the live products.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCandidateIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1024;
+
+    private final ProductRepository productRepository;
+
+    private final Map<UUID, OrgIndex> indexes = new ConcurrentHashMap<>();
+
+    @Value("${platform.matching.index.max-candidates:200}")
+    private int maxCandidates;
+
+    @Value("${platform.matching.index.max-posting-ratio:0.2}")
+    private double maxPostingRatio;
+
+    // Bounds how long products saved by other nodes can stay invisible to this node
+    @Value("${platform.matching.index.ttl:PT15M}")
+    private Duration ttl;
+
+    public List<Product> findCandidates(UUID orgId, Product candidate, List<ProductMatchingRule> rules) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (ProductMatchingRule rule : rules) {
+            if (rule.isActive() && rule.getMatchFields() != null) {
+                fields.addAll(rule.getMatchFields());
+            }
+        }
+
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+
+        return getOrBuild(orgId).candidates(candidate, fields, maxCandidates, maxPostingRatio);
+    }
+
+    public Optional<Product> findByMasterSku(UUID orgId, String masterSku) {
+        return Optional.ofNullable(getOrBuild(orgId).bySku(masterSku));
+    }
+
+    public void add(Product product) {
+        OrgIndex index = indexes.get(product.getOrgId());
+        if (index == null) {
+            // Will be loaded from the repository on first use
+            return;
+        }
+
+        index.add(product);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            UUID orgId = product.getOrgId();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        invalidate(orgId);
+                    }
+                }
+            });
+        }
+    }
+
+    public void invalidate(UUID orgId) {
+        indexes.remove(orgId);
+    }
+
+    private OrgIndex getOrBuild(UUID orgId) {
+        OrgIndex index = indexes.get(orgId);
+        if (isFresh(index)) {
+            return index;
+        }
+
+        // One build per organization; concurrent imports wait for it instead of loading the catalog again
+        return indexes.compute(orgId, (id, current) -> {
+            if (isFresh(current)) {
+                return current;
+            }
+
+            List<Product> products = productRepository.findByOrgId(id);
+            OrgIndex rebuilt = new OrgIndex(Instant.now());
+            products.forEach(rebuilt::add);
+
+            log.debug("Built product candidate index for org {} with {} products", id, products.size());
+            return rebuilt;
+        });
+    }
+
+    private boolean isFresh(OrgIndex index) {
+        return index != null && index.builtAt.plus(ttl).isAfter(Instant.now());
+    }
+
+    // Only the fields used for matching and linking are kept
+    private static Product snapshot(Product product) {
+        return Product.builder()
+                .id(product.getId())
+                .orgId(product.getOrgId())
+                .masterSku(product.getMasterSku())
+                .productName(product.getProductName())
+                .description(product.getDescription())
+                .category(product.getCategory())
+                .brand(product.getBrand())
+                .attributes(product.getAttributes() != null
+                        ? Collections.unmodifiableMap(new HashMap<>(product.getAttributes())) : null)
+                .status(product.getStatus())
+                .build();
+    }
+
+    static void forEachGram(String normalized, GramConsumer consumer) {
+        if (normalized.length() <= GRAM_SIZE) {
+            consumer.accept(normalized);
+            return;
+        }
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            consumer.accept(normalized.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    interface GramConsumer {
+        void accept(String gram);
+    }
+
+    private static final class OrgIndex {
+        private final Instant builtAt;
+        private final List<Product> slots = new ArrayList<>();
+        private final Map<UUID, Integer> slotById = new HashMap<>();
+        private final Map<String, Integer> slotBySku = new HashMap<>();
+        private final Map<String, Map<String, Postings>> postingsByField = new HashMap<>();
+        private int liveCount;
+
+        private OrgIndex(Instant builtAt) {
+            this.builtAt = builtAt;
+        }
+
+        synchronized void add(Product source) {
+            Product product = snapshot(source);
+            Integer previous = product.getId() != null ? slotById.get(product.getId()) : null;
+            if (previous != null) {
+                // Old postings are left behind and skipped once their slot is cleared
+                slots.set(previous, null);
+                liveCount--;
+            }
+
+            int slot = slots.size();
+            slots.add(product);
+            liveCount++;
+            if (product.getId() != null) {
+                slotById.put(product.getId(), slot);
+            }
+            if (product.getMasterSku() != null) {
+                slotBySku.put(product.getMasterSku(), slot);
+            }
+
+            postingsByField.forEach((field, postings) -> indexField(postings, product, field, slot));
+
+            if (slots.size() - liveCount > Math.max(MIN_TOMBSTONES_TO_COMPACT, liveCount)) {
+                compact();
+            }
+        }
+
+        synchronized Product bySku(String masterSku) {
+            Integer slot = slotBySku.get(masterSku);
+            Product product = slot != null ? slots.get(slot) : null;
+            return product != null ? snapshot(product) : null;
+        }
+
+        synchronized List<Product> candidates(Product candidate, Set<String> fields, int limit, double maxPostingRatio) {
+            int maxPostings = Math.max(limit, (int) (liveCount * maxPostingRatio));
+            Map<Integer, int[]> hits = new HashMap<>();
+
+            for (String field : fields) {
+                String value = candidate.getNormalizedMatchFieldValue(field);
+                if (value == null || value.isEmpty()) {
+                    continue;
+                }
+
+                Map<String, Postings> postings = postingsFor(field);
+                Set<String> seen = new HashSet<>();
+                forEachGram(value, gram -> {
+                    if (!seen.add(gram)) {
+                        return;
+                    }
+                    Postings list = postings.get(gram);
+                    if (list == null || list.size > maxPostings) {
+                        return;
+                    }
+                    for (int i = 0; i < list.size; i++) {
+                        hits.computeIfAbsent(list.slots[i], s -> new int[1])[0]++;
+                    }
+                });
+            }
+
+            return hits.entrySet().stream()
+                    .filter(entry -> slots.get(entry.getKey()) != null)
+                    .sorted((a, b) -> Integer.compare(b.getValue()[0], a.getValue()[0]))
+                    .limit(limit)
+                    .map(entry -> snapshot(slots.get(entry.getKey())))
+                    .toList();
+        }
+
+        // Renumbers the live products and rebuilds the postings of the fields indexed so far
+        private void compact() {
+            List<Product> live = slots.stream().filter(Objects::nonNull).toList();
+            Set<String> fields = new HashSet<>(postingsByField.keySet());
+
+            slots.clear();
+            slotById.clear();
+            slotBySku.clear();
+            postingsByField.clear();
+            for (Product product : live) {
+                int slot = slots.size();
+                slots.add(product);
+                if (product.getId() != null) {
+                    slotById.put(product.getId(), slot);
+                }
+                if (product.getMasterSku() != null) {
+                    slotBySku.put(product.getMasterSku(), slot);
+                }
+            }
+            fields.forEach(this::postingsFor);
+        }
+
+        private Map<String, Postings> postingsFor(String field) {
+            Map<String, Postings> postings = postingsByField.get(field);
+            if (postings == null) {
+                postings = new HashMap<>();
+                for (int slot = 0; slot < slots.size(); slot++) {
+                    Product product = slots.get(slot);
+                    if (product != null) {
+                        indexField(postings, product, field, slot);
+                    }
+                }
+                postingsByField.put(field, postings);
+            }
+            return postings;
+        }
+
+        private static void indexField(Map<String, Postings> postings, Product product, String field, int slot) {
+            String value = product.getNormalizedMatchFieldValue(field);
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            forEachGram(value, gram -> {
+                Postings list = postings.computeIfAbsent(gram, g -> new Postings());
+                // Repeated grams within one value produce consecutive duplicates
+                if (list.size == 0 || list.slots[list.size - 1] != slot) {
+                    list.add(slot);
+                }
+            });
+        }
+    }
+
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.domain.*;
+import com.example.demo.platform.port.in.BarcodeManagementUseCase;
+import com.example.demo.platform.port.out.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Imports a full platform catalog page by page, committing each page as one chunk.
+ * <p>
+ * Every chunk bulk-loads the existing mappings for its items, matches the rest in memory and
+ * writes new products and mappings with JDBC batches. The cursor of the next page is stored in
+ * the same transaction, so an interrupted sync resumes after the last committed chunk.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportPipeline {
+
+    private final PlatformIntegrationRepository integrationRepository;
+    private final PlatformProductRepository platformProductRepository;
+    private final ProductMatchingRuleRepository matchingRuleRepository;
+    private final ProductSyncCheckpointRepository checkpointRepository;
+    private final ProductImportBatchRepository batchRepository;
+    private final PlatformApiClientFactory apiClientFactory;
+    private final ProductMatcher productMatcher;
+    private final ProductCandidateIndex candidateIndex;
+    private final BarcodeManagementUseCase barcodeManagementUseCase;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductSyncCheckpoint run(UUID integrationId) {
+        log.info("Starting full product sync for integration: {}", integrationId);
+
+        PlatformIntegration integration = integrationRepository.findById(integrationId)
+                .orElseThrow(() -> new IllegalArgumentException("Integration not found: " + integrationId));
+
+        if (!integration.isAuthorized()) {
+            throw new IllegalStateException("Integration is not authorized: " + integrationId);
+        }
+
+        List<ProductMatchingRule> matchingRules = matchingRuleRepository.findActiveByOrgId(integration.getOrgId());
+
+        ProductSyncCheckpoint checkpoint = checkpointRepository.findByIntegrationId(integrationId)
+                .filter(ProductSyncCheckpoint::isResumable)
+                .orElse(null);
+
+        if (checkpoint != null) {
+            log.info("Resuming product sync for integration {} after {} committed chunks",
+                    integrationId, checkpoint.getChunksCommitted());
+            checkpoint.resume();
+        } else {
+            checkpoint = ProductSyncCheckpoint.start(integrationId);
+        }
+
+        integration.updateSyncStatus(PlatformIntegration.SyncStatus.SYNCING);
+        integrationRepository.save(integration);
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        try {
+            PlatformApiClient apiClient = apiClientFactory.createClient(integration.getPlatform(), integration);
+
+            try (Stream<PlatformProductPage> pages = apiClient.streamProductPages(checkpoint.getNextCursor())) {
+                Iterator<PlatformProductPage> iterator = pages.iterator();
+                while (iterator.hasNext()) {
+                    checkpoint = importChunk(integration, matchingRules, iterator.next(), checkpoint);
+                }
+            }
+
+            checkpoint.complete();
+            checkpoint = checkpointRepository.save(checkpoint);
+
+            integration.updateSyncStatus(checkpoint.getProductsFailed() > 0
+                    ? PlatformIntegration.SyncStatus.PARTIAL_SUCCESS
+                    : PlatformIntegration.SyncStatus.SUCCESS);
+            integrationRepository.save(integration);
+
+            log.info("Product sync completed for integration {}: {} created, {} matched, {} updated, {} failed in {} chunks",
+                    integrationId, checkpoint.getProductsCreated(), checkpoint.getProductsMatched(),
+                    checkpoint.getProductsUpdated(), checkpoint.getProductsFailed(), checkpoint.getChunksCommitted());
+
+            return checkpoint;
+
+        } catch (Exception e) {
+            log.error("Product sync failed for integration {}: {}", integrationId, e.getMessage(), e);
+            checkpoint.fail(e.getMessage());
+            checkpointRepository.save(checkpoint);
+            integration.updateSyncStatus(PlatformIntegration.SyncStatus.FAILED);
+            integrationRepository.save(integration);
+            throw e;
+        }
+    }
+
+    private ProductSyncCheckpoint importChunk(PlatformIntegration integration, List<ProductMatchingRule> matchingRules,
+                                              PlatformProductPage page, ProductSyncCheckpoint checkpoint) {
+        ChunkResult result = transactionTemplate.execute(status -> {
+            ChunkResult chunk = persistChunk(integration, matchingRules, page.getItems());
+
+            // Progress is recorded on a copy so a rolled back chunk leaves the in-memory checkpoint untouched
+            ProductSyncCheckpoint committed = checkpointRepository.findByIntegrationId(integration.getId())
+                    .orElse(checkpoint);
+            committed.recordChunk(page.getNextCursor(), chunk.created(), chunk.matched(), chunk.updated(), chunk.failed());
+
+            return new ChunkResult(chunk.created(), chunk.matched(), chunk.updated(), chunk.failed(),
+                    chunk.createdProductIds(), checkpointRepository.save(committed));
+        });
+
+        log.info("Committed product sync chunk {} for integration {}: {} created, {} matched, {} updated, {} failed",
+                result.checkpoint().getChunksCommitted(), integration.getId(),
+                result.created(), result.matched(), result.updated(), result.failed());
+
+        // Barcodes are generated after the commit so a barcode failure never rolls back imported products
+        if (!result.createdProductIds().isEmpty()) {
+            try {
+                barcodeManagementUseCase.generateBarcodesForProducts(result.createdProductIds());
+            } catch (Exception e) {
+                log.warn("Failed to generate barcodes for chunk of integration {}: {}", integration.getId(), e.getMessage());
+            }
+        }
+
+        return result.checkpoint();
+    }
+
+    private ChunkResult persistChunk(PlatformIntegration integration, List<ProductMatchingRule> matchingRules,
+                                     List<PlatformProductData> items) {
+        UUID orgId = integration.getOrgId();
+        Instant now = Instant.now();
+
+        Map<String, PlatformProduct> existingMappings = platformProductRepository
+                .findByIntegrationIdAndPlatformProductIds(integration.getId(),
+                        items.stream().map(PlatformProductData::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(PlatformProduct::getPlatformProductId, Function.identity(), (a, b) -> a));
+
+        Map<String, Product> newProducts = new LinkedHashMap<>();
+        Map<UUID, List<String>> newProductImages = new HashMap<>();
+        List<PlatformProduct> mappings = new ArrayList<>();
+        int created = 0;
+        int matched = 0;
+        int updated = 0;
+        int failed = 0;
+
+        for (PlatformProductData item : items) {
+            try {
+                PlatformProduct existingMapping = existingMappings.get(item.getId());
+                if (existingMapping != null) {
+                    existingMapping.setPlatformSku(item.getSku());
+                    existingMapping.setCurrency(item.getCurrency());
+                    existingMapping.updateFromPlatform(item.getName(), item.getPrice(), item.getStockQuantity(),
+                            "ACTIVE", item.getRawJson());
+                    mappings.add(existingMapping);
+                    updated++;
+                    continue;
+                }
+
+                Product candidate = Product.builder()
+                        .orgId(orgId)
+                        .masterSku(generateMasterSku(item.getSku(), integration.getPlatform().name()))
+                        .productName(item.getName())
+                        .description(item.getDescription())
+                        .category(item.getCategory())
+                        .brand(item.getBrand())
+                        .attributes(item.getAttributes())
+                        .primaryImageUrl(firstImageUrl(item.getImageUrls()))
+                        .status(Product.ProductStatus.ACTIVE)
+                        .build();
+
+                // Same master SKU in this chunk or already in the catalog is always the same product
+                Product product = newProducts.get(candidate.getMasterSku());
+                if (product == null) {
+                    product = candidateIndex.findByMasterSku(orgId, candidate.getMasterSku())
+                            .or(() -> productMatcher.findBestMatch(candidate,
+                                    candidateIndex.findCandidates(orgId, candidate, matchingRules), matchingRules))
+                            .orElse(null);
+                }
+
+                if (product != null) {
+                    matched++;
+                } else {
+                    candidate.setId(UUID.randomUUID());
+                    candidate.setCreatedAt(now);
+                    candidate.setUpdatedAt(now);
+                    newProducts.put(candidate.getMasterSku(), candidate);
+                    newProductImages.put(candidate.getId(), Objects.requireNonNullElse(item.getImageUrls(), List.of()));
+                    candidateIndex.add(candidate);
+                    product = candidate;
+                    created++;
+                }
+
+                mappings.add(PlatformProduct.builder()
+                        .id(UUID.randomUUID())
+                        .productId(product.getId())
+                        .platformIntegrationId(integration.getId())
+                        .platformProductId(item.getId())
+                        .platformSku(item.getSku())
+                        .platformName(item.getName())
+                        .platformPrice(item.getPrice())
+                        .currency(item.getCurrency())
+                        .stockQuantity(item.getStockQuantity())
+                        .platformStatus("ACTIVE")
+                        .platformData(item.getRawJson())
+                        .syncStatus(PlatformProduct.SyncStatus.SUCCESS)
+                        .lastSyncedAt(now)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+
+            } catch (Exception e) {
+                log.error("Failed to import product {}: {}", item.getId(), e.getMessage());
+                failed++;
+            }
+        }
+
+        List<UUID> createdProductIds = new ArrayList<>();
+        if (!newProducts.isEmpty()) {
+            Map<String, UUID> storedIds = batchRepository.insertProducts(orgId, new ArrayList<>(newProducts.values()));
+
+            // Another sync may have inserted the same master SKU first, point mappings at the stored row
+            Map<UUID, UUID> remapped = new HashMap<>();
+            for (Product product : newProducts.values()) {
+                UUID storedId = storedIds.get(product.getMasterSku());
+                if (storedId != null && !storedId.equals(product.getId())) {
+                    remapped.put(product.getId(), storedId);
+                } else {
+                    createdProductIds.add(product.getId());
+                }
+            }
+
+            if (!remapped.isEmpty()) {
+                mappings.forEach(mapping -> mapping.setProductId(
+                        remapped.getOrDefault(mapping.getProductId(), mapping.getProductId())));
+                candidateIndex.invalidate(orgId);
+                created -= remapped.size();
+                matched += remapped.size();
+            }
+        }
+
+        batchRepository.insertProductImages(toImages(createdProductIds, newProductImages, now));
+        batchRepository.upsertPlatformProducts(mappings);
+
+        return new ChunkResult(created, matched, updated, failed, createdProductIds, null);
+    }
+
+    // Products matched to an existing row keep that row's images
+    private List<ProductImage> toImages(List<UUID> productIds, Map<UUID, List<String>> imageUrls, Instant now) {
+        List<ProductImage> images = new ArrayList<>();
+        for (UUID productId : productIds) {
+            List<String> urls = imageUrls.getOrDefault(productId, List.of());
+            for (int i = 0; i < urls.size(); i++) {
+                images.add(ProductImage.builder()
+                        .id(UUID.randomUUID())
+                        .productId(productId)
+                        .imageUrl(urls.get(i))
+                        .sortOrder(i)
+                        .primary(i == 0) // First image is primary
+                        .createdAt(now)
+                        .build());
+            }
+        }
+        return images;
+    }
+
+    private String firstImageUrl(List<String> imageUrls) {
+        return imageUrls != null && !imageUrls.isEmpty() ? imageUrls.getFirst() : null;
+    }
+
+    private String generateMasterSku(String platformSku, String platform) {
+        if (platformSku != null && !platformSku.isEmpty()) {
+            return String.format("%s-%s", platform, platformSku).toUpperCase();
+        }
+        return String.format("%s-%s", platform, UUID.randomUUID().toString().substring(0, 8)).toUpperCase();
+    }
+
+    private record ChunkResult(int created, int matched, int updated, int failed,
+                               List<UUID> createdProductIds, ProductSyncCheckpoint checkpoint) {
+    }
+}
@@ -6,9 +6,13 @@ import com.example.demo.platform.port.out.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,73 +30,26 @@ public class ProductSyncService implements ProductSyncUseCase {
     private final PlatformIntegrationRepository integrationRepository;
     private final PlatformApiClientFactory apiClientFactory;
     private final ProductMatcher productMatcher;
+    private final ProductCandidateIndex candidateIndex;
     private final BarcodeManagementUseCase barcodeManagementUseCase;
+    private final ProductSyncCheckpointRepository checkpointRepository;
+    private final ProductImportPipeline importPipeline;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Each chunk commits in its own transaction
     public void syncAllProducts(UUID integrationId) {
-        log.info("Starting full product sync for integration: {}", integrationId);
-
-        PlatformIntegration integration = integrationRepository.findById(integrationId)
-                .orElseThrow(() -> new IllegalArgumentException("Integration not found: " + integrationId));
-
-        if (!integration.isAuthorized()) {
-            throw new IllegalStateException("Integration is not authorized: " + integrationId);
-        }
-
-        try {
-            PlatformApiClient apiClient = apiClientFactory.createClient(integration.getPlatform(), integration);
-            List<PlatformProductData> platformProducts = apiClient.fetchAllProducts();
-
-            log.info("Fetched {} products from {}", platformProducts.size(), integration.getPlatform());
-
-            int imported = 0;
-            int duplicates = 0;
-
-            for (PlatformProductData productData : platformProducts) {
-                try {
-                    ImportProductCommand command = ImportProductCommand.builder()
-                            .integrationId(integrationId)
-                            .platformProductId(productData.getId())
-                            .platformSku(productData.getSku())
-                            .productName(productData.getName())
-                            .description(productData.getDescription())
-                            .category(productData.getCategory())
-                            .brand(productData.getBrand())
-                            .price(productData.getPrice())
-                            .currency(productData.getCurrency())
-                            .stockQuantity(productData.getStockQuantity())
-                            .imageUrls(productData.getImageUrls())
-                            .attributes(productData.getAttributes())
-                            .platformData(productData.getRawData())
-                            .build();
-
-                    Product result = importPlatformProduct(command);
-                    if (result != null) {
-                        imported++;
-                    } else {
-                        duplicates++;
-                    }
-
-                } catch (Exception e) {
-                    log.error("Failed to import product {}: {}", productData.getId(), e.getMessage());
-                }
-            }
-
-            integration.updateSyncStatus(PlatformIntegration.SyncStatus.SUCCESS);
-            integrationRepository.save(integration);
-
-            log.info("Product sync completed for integration {}: {} imported, {} duplicates found",
-                    integrationId, imported, duplicates);
+        importPipeline.run(integrationId);
+    }
 
-        } catch (Exception e) {
-            log.error("Product sync failed for integration {}: {}", integrationId, e.getMessage(), e);
-            integration.updateSyncStatus(PlatformIntegration.SyncStatus.FAILED);
-            integrationRepository.save(integration);
-            throw e;
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProductSyncCheckpoint> getSyncProgress(UUID integrationId) {
+        return checkpointRepository.findByIntegrationId(integrationId);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Only the import runs in a transaction, not the fetch
     public void syncProductById(UUID integrationId, String platformProductId) {
         log.info("Syncing single product {} for integration {}", platformProductId, integrationId);
 
@@ -102,23 +59,23 @@ public class ProductSyncService implements ProductSyncUseCase {
         PlatformApiClient apiClient = apiClientFactory.createClient(integration.getPlatform(), integration);
         PlatformProductData productData = apiClient.fetchProductById(platformProductId);
 
-        ImportProductCommand command = ImportProductCommand.builder()
-                .integrationId(integrationId)
-                .platformProductId(productData.getId())
-                .platformSku(productData.getSku())
-                .productName(productData.getName())
-                .description(productData.getDescription())
-                .category(productData.getCategory())
-                .brand(productData.getBrand())
-                .price(productData.getPrice())
-                .currency(productData.getCurrency())
-                .stockQuantity(productData.getStockQuantity())
-                .imageUrls(productData.getImageUrls())
-                .attributes(productData.getAttributes())
-                .platformData(productData.getRawData())
-                .build();
+        transactionTemplate.executeWithoutResult(status -> importPlatformProduct(toImportCommand(integrationId, productData)));
+    }
 
-        importPlatformProduct(command);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Each product imports in its own transaction after the fetch
+    public void syncProductsByIds(UUID integrationId, Collection<String> platformProductIds) {
+        log.info("Syncing {} products for integration {}", platformProductIds.size(), integrationId);
+
+        PlatformIntegration integration = integrationRepository.findById(integrationId)
+                .orElseThrow(() -> new IllegalArgumentException("Integration not found: " + integrationId));
+
+        PlatformApiClient apiClient = apiClientFactory.createClient(integration.getPlatform(), integration);
+        List<PlatformProductData> products = apiClient.fetchProductsByIds(new ArrayList<>(platformProductIds));
+
+        for (PlatformProductData productData : products) {
+            transactionTemplate.executeWithoutResult(status -> importPlatformProduct(toImportCommand(integrationId, productData)));
+        }
     }
 
     @Override
@@ -160,9 +117,9 @@ public class ProductSyncService implements ProductSyncUseCase {
                 .status(Product.ProductStatus.ACTIVE)
                 .build();
 
-        // Try to find existing product match
-        List<Product> existingProducts = productRepository.findByOrgId(integration.getOrgId());
+        // Try to find existing product match among products sharing grams with the candidate
         List<ProductMatchingRule> matchingRules = matchingRuleRepository.findActiveByOrgId(integration.getOrgId());
+        List<Product> existingProducts = candidateIndex.findCandidates(integration.getOrgId(), candidate, matchingRules);
 
         Optional<Product> matchedProduct = productMatcher.findBestMatch(candidate, existingProducts, matchingRules);
 
@@ -177,6 +134,7 @@ public class ProductSyncService implements ProductSyncUseCase {
             candidate.setCreatedAt(Instant.now());
             candidate.setUpdatedAt(Instant.now());
             product = productRepository.save(candidate);
+            candidateIndex.add(product);
 
             // Create images for new product
             if (command.getImageUrls() != null && !command.getImageUrls().isEmpty()) {
@@ -290,6 +248,24 @@ public class ProductSyncService implements ProductSyncUseCase {
         matchingRuleRepository.deleteById(ruleId);
     }
 
+    private ImportProductCommand toImportCommand(UUID integrationId, PlatformProductData productData) {
+        return ImportProductCommand.builder()
+                .integrationId(integrationId)
+                .platformProductId(productData.getId())
+                .platformSku(productData.getSku())
+                .productName(productData.getName())
+                .description(productData.getDescription())
+                .category(productData.getCategory())
+                .brand(productData.getBrand())
+                .price(productData.getPrice())
+                .currency(productData.getCurrency())
+                .stockQuantity(productData.getStockQuantity())
+                .imageUrls(productData.getImageUrls())
+                .attributes(productData.getAttributes())
+                .platformData(productData.getRawJson())
+                .build();
+    }
+
     private String generateMasterSku(String platformSku, String platform) {
         if (platformSku != null && !platformSku.isEmpty()) {
             return String.format("%s-%s", platform, platformSku).toUpperCase();
@@ -0,0 +1,66 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.configuration.BarcodeProperties;
+import com.example.demo.platform.domain.BarcodeLabel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Rendered labels by content hash, least recently used evicted first once the total size exceeds
+ * {@code platform.barcode.label-cache-memory}. The hash covers every render input, so entries never go stale.
+ */
+@Component
+public class RenderedLabelCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, BarcodeLabel> labels = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public RenderedLabelCache(BarcodeProperties properties, MeterRegistry meterRegistry) {
+        this.maxBytes = properties.getLabelCacheMemory().toBytes();
+        this.hits = meterRegistry.counter("barcode.label.cache", "result", "hit");
+        this.misses = meterRegistry.counter("barcode.label.cache", "result", "miss");
+        Gauge.builder("barcode.label.cache.bytes", this, RenderedLabelCache::sizeInBytes).register(meterRegistry);
+    }
+
+    public BarcodeLabel get(String hash, Supplier<BarcodeLabel> renderer) {
+        synchronized (this) {
+            BarcodeLabel label = labels.get(hash);
+            if (label != null) {
+                hits.increment();
+                return label;
+            }
+        }
+
+        // Rendered outside the lock; two threads rendering the same label just store it twice
+        misses.increment();
+        BarcodeLabel label = renderer.get();
+        put(label);
+        return label;
+    }
+
+    public synchronized long sizeInBytes() {
+        return bytes;
+    }
+
+    private synchronized void put(BarcodeLabel label) {
+        BarcodeLabel previous = labels.put(label.hash(), label);
+        bytes += label.content().length - (previous != null ? previous.content().length : 0);
+
+        Iterator<Map.Entry<String, BarcodeLabel>> eldest = labels.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().content().length;
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.demo.platform.application;
+
+import com.example.demo.platform.configuration.PlatformWebhookProperties;
+import com.example.demo.platform.domain.WebhookInboxEntry;
+import com.example.demo.platform.port.in.WebhookHandlerUseCase;
+import com.example.demo.platform.port.out.WebhookInboxRepository;
+import com.example.demo.shared.adapter.out.ConnectionBudget;
+import com.example.demo.shared.domain.Platform;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the webhook inbox on virtual threads.
+ * <p>
+ * Entries are claimed in batches with {@code FOR UPDATE SKIP LOCKED}, so several instances can poll
+ * the same table. Failures are retried with exponential backoff until {@code maxAttempts}, after
+ * which the entry is parked as DEAD until {@link WebhookHandlerUseCase#retryFailedWebhooks()}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookInboxWorker {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final WebhookInboxRepository inboxRepository;
+    private final WebhookHandlerUseCase webhookHandler;
+    private final PlatformWebhookProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConnectionBudget connectionBudget;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore permits;
+
+    @Scheduled(fixedDelayString = "${platform.webhook.poll-interval:PT1S}")
+    public void drain() {
+        Semaphore available = permits();
+
+        while (true) {
+            int capacity = Math.min(available.availablePermits(), properties.getBatchSize());
+            if (capacity == 0) {
+                return;
+            }
+
+            List<WebhookInboxEntry> batch = inboxRepository.claimBatch(capacity);
+
+            // Product updates of one integration are synced together with a single batched fetch
+            Map<GroupKey, List<WebhookInboxEntry>> productUpdates = new LinkedHashMap<>();
+            for (WebhookInboxEntry entry : batch) {
+                if (entry.isProductUpdate()) {
+                    productUpdates.computeIfAbsent(new GroupKey(entry.getPlatform(), entry.getIntegrationId()),
+                            key -> new ArrayList<>()).add(entry);
+                } else {
+                    submit(available, () -> process(entry));
+                }
+            }
+            productUpdates.forEach((key, entries) -> submit(available, () -> processProductUpdates(key, entries)));
+
+            // A short batch means the inbox is drained for now
+            if (batch.size() < capacity) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${platform.webhook.maintenance-interval:PT1M}")
+    public void maintain() {
+        int recovered = inboxRepository.recoverStuck(properties.getProcessingTimeout());
+        if (recovered > 0) {
+            log.warn("Recovered {} webhook inbox entries stuck in processing", recovered);
+        }
+
+        int deleted = inboxRepository.deleteProcessedBefore(Instant.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.debug("Deleted {} processed webhook inbox entries", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Entries still in flight are picked up again once their processing timeout expires
+        executor.shutdownNow();
+    }
+
+    private void submit(Semaphore available, Runnable task) {
+        available.acquireUninterruptibly();
+        executor.submit(() -> {
+            try {
+                connectionBudget.run(task);
+            } finally {
+                available.release();
+            }
+        });
+    }
+
+    private void process(WebhookInboxEntry entry) {
+        try {
+            Map<String, Object> payload = objectMapper.readValue(entry.getPayload(), PAYLOAD_TYPE);
+            webhookHandler.processWebhook(entry.getPlatform(), entry.getIntegrationId(), payload, entry.getHeaders());
+            inboxRepository.markDone(entry.getId());
+
+        } catch (Exception e) {
+            handleFailure(entry, e);
+        }
+    }
+
+    private void processProductUpdates(GroupKey key, List<WebhookInboxEntry> entries) {
+        Set<String> itemIds = entries.stream()
+                .map(WebhookInboxEntry::getItemId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        try {
+            webhookHandler.processProductUpdates(key.platform(), key.integrationId(), itemIds);
+            entries.forEach(entry -> inboxRepository.markDone(entry.getId()));
+
+        } catch (Exception e) {
+            entries.forEach(entry -> handleFailure(entry, e));
+        }
+    }
+
+    private void handleFailure(WebhookInboxEntry entry, Exception e) {
+        if (e instanceof JsonProcessingException || e instanceof IllegalArgumentException) {
+            // Malformed payloads and unknown integrations will never succeed
+            log.error("Dropping webhook {} from {}: {}", entry.getId(), entry.getPlatform(), e.getMessage());
+            inboxRepository.markDead(entry.getId(), e.getMessage());
+
+        } else if (entry.getAttempts() >= properties.getMaxAttempts()) {
+            log.error("Webhook {} from {} failed after {} attempts: {}",
+                    entry.getId(), entry.getPlatform(), entry.getAttempts(), e.getMessage());
+            inboxRepository.markDead(entry.getId(), e.getMessage());
+
+        } else {
+            Duration backoff = backoff(entry.getAttempts());
+            log.warn("Webhook {} from {} failed on attempt {}, retrying in {}: {}",
+                    entry.getId(), entry.getPlatform(), entry.getAttempts(), backoff, e.getMessage());
+            inboxRepository.markRetry(entry.getId(), Instant.now().plus(backoff), e.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        long exponential = initial << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, max);
+        // Jitter spreads retries of a failed burst instead of replaying it at once
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private record GroupKey(Platform platform, String integrationId) {
+    }
+
+    private Semaphore permits() {
+        if (permits == null) {
+            // Stay below the connection budget so webhooks can still be enqueued and order lanes progress while every
+            // worker is busy
+            int concurrency = Math.max(1, Math.min(properties.getWorkerConcurrency(), connectionBudget.capacity() - 1));
+            if (concurrency < properties.getWorkerConcurrency()) {
+                log.warn("Capping webhook worker concurrency at {} to stay within {} budgeted database connections",
+                        concurrency, connectionBudget.capacity());
+            }
+            permits = new Semaphore(concurrency);
+        }
+        return permits;
+    }
+}
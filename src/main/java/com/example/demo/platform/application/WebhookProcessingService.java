@@ -1,17 +1,30 @@
 package com.example.demo.platform.application;
 
+import com.example.demo.platform.configuration.PlatformOAuthProperties;
+import com.example.demo.platform.configuration.PlatformWebhookProperties;
 import com.example.demo.platform.port.in.WebhookHandlerUseCase;
 import com.example.demo.platform.port.in.ProductSyncUseCase;
+import com.example.demo.platform.port.in.WebhookRejectedException;
 import com.example.demo.platform.port.out.PlatformIntegrationRepository;
+import com.example.demo.platform.port.out.WebhookInboxRepository;
 import com.example.demo.platform.domain.PlatformIntegration;
+import com.example.demo.platform.domain.WebhookInboxEntry;
+import com.example.demo.shared.adapter.in.web.WebhookSignatureVerifier;
 import com.example.demo.shared.domain.Platform;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -20,49 +33,97 @@ import java.util.UUID;
 @Transactional
 public class WebhookProcessingService implements WebhookHandlerUseCase {
 
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+    private static final List<String> SIGNATURE_HEADERS = List.of("authorization", "signature", "x-signature");
+
     private final PlatformIntegrationRepository integrationRepository;
+    private final WebhookInboxRepository inboxRepository;
     private final ProductSyncUseCase productSyncUseCase;
+    private final PlatformWebhookProperties webhookProperties;
+    private final PlatformOAuthProperties oauthProperties;
+    private final WebhookSignatureVerifier signatureVerifier;
     private final ObjectMapper objectMapper;
 
     @Override
-    public void processWebhook(Platform platform, String integrationId, Map<String, Object> payload, Map<String, String> headers) {
-        log.info("Processing webhook from platform {} for integration {}", platform, integrationId);
+    public void receiveWebhook(Platform platform, String integrationId, String requestUrl, byte[] body,
+                               Map<String, String> headers) {
+        PlatformIntegration integration = findIntegration(integrationId)
+                .orElseThrow(() -> new WebhookRejectedException("Integration not found: " + integrationId));
+
+        // Checked on the bytes the platform signed, before anything is parsed or stored
+        if (!signatureVerifier.verify(integration.getWebhookSecret(),
+                signedPrefix(platform, integrationId, requestUrl), body, signature(headers))) {
+            throw new WebhookRejectedException("Invalid webhook signature for integration " + integrationId);
+        }
 
-        try {
-            // Find integration
-            UUID integrationUUID = UUID.fromString(integrationId);
-            PlatformIntegration integration = integrationRepository.findById(integrationUUID)
-                    .orElseThrow(() -> new IllegalArgumentException("Integration not found: " + integrationId));
-
-            // Validate webhook signature if secret is available
-            if (integration.getWebhookSecret() != null && !integration.getWebhookSecret().isEmpty()) {
-                String signature = headers.get("signature");
-                if (signature == null) {
-                    signature = headers.get("x-signature"); // Some platforms use different header names
-                }
+        String payload = new String(body, StandardCharsets.UTF_8);
+        WebhookInboxEntry entry = WebhookInboxEntry.received(platform, integrationId, payload, headers);
 
-                if (signature != null && !validateWebhookSignature(platform, payload, signature, integration.getWebhookSecret())) {
-                    log.warn("Invalid webhook signature for integration {}", integrationId);
-                    return;
-                }
-            }
+        String itemId = extractProductUpdateItemId(platform, payload);
+        if (itemId != null) {
+            entry.coalesceAs(itemId, webhookProperties.getCoalesceWindow());
+        }
 
-            // Process webhook based on platform and event type
-            String eventType = extractEventType(platform, payload);
-            log.info("Processing webhook event type: {} for platform: {}", eventType, platform);
+        if (inboxRepository.enqueue(entry)) {
+            log.info("Queued {} webhook {} for integration {}", platform, entry.getId(), integrationId);
+        } else {
+            log.debug("Coalesced {} product update for item {} of integration {}", platform, itemId, integrationId);
+        }
+    }
 
-            processWebhookEvent(platform, integration, eventType, payload);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // The product fetch must not hold a connection
+    public void processProductUpdates(Platform platform, String integrationId, Set<String> itemIds) {
+        log.info("Processing {} coalesced {} product updates for integration {}", itemIds.size(), platform, integrationId);
 
-        } catch (Exception e) {
-            log.error("Error processing webhook for platform {} integration {}: {}", platform, integrationId, e.getMessage(), e);
-            // Don't throw exception to avoid webhook retry loops
-        }
+        UUID integrationUUID = UUID.fromString(integrationId);
+        PlatformIntegration integration = integrationRepository.findById(integrationUUID)
+                .orElseThrow(() -> new IllegalArgumentException("Integration not found: " + integrationId));
+
+        productSyncUseCase.syncProductsByIds(integration.getId(), itemIds);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // The product fetch must not hold a connection
+    public void processWebhook(Platform platform, String integrationId, Map<String, Object> payload, Map<String, String> headers) {
+        log.info("Processing webhook from platform {} for integration {}", platform, integrationId);
+
+        // Failures propagate so the inbox worker can retry or dead-letter the entry
+        UUID integrationUUID = UUID.fromString(integrationId);
+        PlatformIntegration integration = integrationRepository.findById(integrationUUID)
+                .orElseThrow(() -> new IllegalArgumentException("Integration not found: " + integrationId));
+
+        // Process webhook based on platform and event type
+        String eventType = extractEventType(platform, payload);
+        log.info("Processing webhook event type: {} for platform: {}", eventType, platform);
+
+        processWebhookEvent(platform, integration, eventType, payload);
     }
 
     @Override
     public void retryFailedWebhooks() {
-        log.info("Retrying failed webhooks - not implemented yet");
-        // TODO: Implement webhook retry logic
+        int requeued = inboxRepository.requeueDead();
+        log.info("Requeued {} dead-lettered webhooks", requeued);
+    }
+
+    // Item id of a product create/update event, or null for every other event
+    private String extractProductUpdateItemId(Platform platform, String payload) {
+        Map<String, Object> parsed;
+        try {
+            parsed = objectMapper.readValue(payload, PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            return null; // Queued as is, the worker dead-letters it
+        }
+
+        String eventType = extractEventType(platform, parsed).toLowerCase();
+        return switch (platform) {
+            case SHOPEE -> eventType.equals("item_update") || eventType.equals("item_add")
+                    ? extractDataField(parsed, "item_id") : null;
+            case LAZADA -> eventType.equals("product_update") || eventType.equals("product_create")
+                    ? extractDataField(parsed, "item_id") : null;
+            case TIKTOK -> eventType.equals("product_update") || eventType.equals("product_create")
+                    ? extractDataField(parsed, "product_id") : null;
+        };
     }
 
     private String extractEventType(Platform platform, Map<String, Object> payload) {
@@ -177,71 +238,71 @@ public class WebhookProcessingService implements WebhookHandlerUseCase {
         }
     }
 
-    private boolean validateWebhookSignature(Platform platform, Map<String, Object> payload, String signature, String secret) {
+    private Optional<PlatformIntegration> findIntegration(String integrationId) {
         try {
-            String payloadString = objectMapper.writeValueAsString(payload);
-
-            return switch (platform) {
-                case SHOPEE -> validateShopeeSignature(payloadString, signature, secret);
-                case LAZADA -> validateLazadaSignature(payloadString, signature, secret);
-                case TIKTOK -> validateTikTokSignature(payloadString, signature, secret);
-            };
-        } catch (Exception e) {
-            log.error("Error validating webhook signature: {}", e.getMessage());
-            return false;
+            return integrationRepository.findById(UUID.fromString(integrationId));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
-    private boolean validateShopeeSignature(String payload, String signature, String secret) {
-        // Implement Shopee webhook signature validation
-        // This would use HMAC-SHA256 with the webhook secret
-        return true; // Simplified for now
-    }
-
-    private boolean validateLazadaSignature(String payload, String signature, String secret) {
-        // Implement Lazada webhook signature validation
-        return true; // Simplified for now
+    // Behind a TLS-terminating proxy the request URL is not the URL registered with Shopee, so it is rebuilt from
+    // the configured public base URL when there is one
+    private String signedPrefix(Platform platform, String integrationId, String requestUrl) {
+        String baseUrl = webhookProperties.getPublicBaseUrl();
+        String pushUrl = baseUrl != null && !baseUrl.isEmpty()
+                ? baseUrl + "/api/webhooks/shopee/" + integrationId
+                : requestUrl;
+        String appKey = switch (platform) {
+            case LAZADA -> oauthProperties.getLazada().getApp().getKey();
+            case TIKTOK -> oauthProperties.getTiktok().getApp().getKey();
+            case SHOPEE -> null;
+        };
+        return WebhookSignatureVerifier.signedPrefix(platform, appKey, pushUrl);
     }
 
-    private boolean validateTikTokSignature(String payload, String signature, String secret) {
-        // Implement TikTok webhook signature validation
-        return true; // Simplified for now
+    private String signature(Map<String, String> headers) {
+        // Some platforms use different header names
+        for (String name : SIGNATURE_HEADERS) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                if (name.equalsIgnoreCase(header.getKey())) {
+                    return header.getValue();
+                }
+            }
+        }
+        return null;
     }
 
     // Helper methods to extract IDs from webhook payloads
     private String extractShopeeItemId(Map<String, Object> payload) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
-        return data != null ? String.valueOf(data.get("item_id")) : null;
+        return extractDataField(payload, "item_id");
     }
 
     private String extractShopeeOrderSn(Map<String, Object> payload) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
-        return data != null ? String.valueOf(data.get("order_sn")) : null;
+        return extractDataField(payload, "order_sn");
     }
 
     private String extractLazadaItemId(Map<String, Object> payload) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
-        return data != null ? String.valueOf(data.get("item_id")) : null;
+        return extractDataField(payload, "item_id");
     }
 
     private String extractLazadaOrderId(Map<String, Object> payload) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
-        return data != null ? String.valueOf(data.get("order_id")) : null;
+        return extractDataField(payload, "order_id");
     }
 
     private String extractTikTokProductId(Map<String, Object> payload) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
-        return data != null ? String.valueOf(data.get("product_id")) : null;
+        return extractDataField(payload, "product_id");
     }
 
     private String extractTikTokOrderId(Map<String, Object> payload) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> data = (Map<String, Object>) payload.get("data");
-        return data != null ? String.valueOf(data.get("order_id")) : null;
+        return extractDataField(payload, "order_id");
+    }
+
+    private String extractDataField(Map<String, Object> payload, String field) {
+        if (!(payload.get("data") instanceof Map<?, ?> data)) {
+            return null;
+        }
+        Object value = data.get(field);
+        return value != null ? String.valueOf(value) : null;
     }
-}
\ No newline at end of file
+}
@@ -1,22 +1,96 @@
 package com.example.demo.platform.config;
 
+import com.example.demo.platform.configuration.PlatformApiProperties;
+import com.example.demo.platform.configuration.PlatformOAuthProperties;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 
-import java.time.Duration;
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Configuration
 public class PlatformConfiguration {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public PoolingHttpClientConnectionManager platformConnectionManager(PlatformApiProperties apiProperties,
+                                                                        PlatformOAuthProperties oauthProperties) {
+        PlatformApiProperties.Http http = apiProperties.getHttp();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getDefaultMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .setValidateAfterInactivity(TimeValue.of(http.getValidateAfterInactivity()))
+                        .build())
+                .build();
+
+        // Sync and webhook traffic concentrates on a handful of hosts, so give each its own larger share
+        for (HttpRoute route : marketplaceRoutes(apiProperties, oauthProperties)) {
+            connectionManager.setMaxPerRoute(route, http.getMaxConnectionsPerMarketplace());
+        }
+
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient platformHttpClient(PoolingHttpClientConnectionManager platformConnectionManager,
+                                                  PlatformApiProperties apiProperties) {
+        PlatformApiProperties.Http http = apiProperties.getHttp();
+
+        // Content compression stays enabled, so responses are requested and decoded as gzip transparently
+        return HttpClients.custom()
+                .setConnectionManager(platformConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .setConnectionKeepAlive(TimeValue.of(http.getKeepAlive()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getIdleTimeout()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient platformHttpClient) {
         return builder
-                .connectTimeout(Duration.ofSeconds(30))
-                .readTimeout(Duration.ofSeconds(60))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(platformHttpClient))
                 .build();
     }
-}
\ No newline at end of file
+
+    private Set<HttpRoute> marketplaceRoutes(PlatformApiProperties apiProperties, PlatformOAuthProperties oauthProperties) {
+        Set<HttpRoute> routes = new LinkedHashSet<>();
+        Stream.of(
+                        apiProperties.getShopeeBaseUrl(),
+                        apiProperties.getLazadaBaseUrl(),
+                        apiProperties.getTiktokBaseUrl(),
+                        oauthProperties.getShopee().getOauth().getTokenUrl(),
+                        oauthProperties.getLazada().getOauth().getTokenUrl(),
+                        oauthProperties.getTiktok().getOauth().getTokenUrl())
+                .filter(url -> url != null && !url.isBlank())
+                .map(URI::create)
+                .forEach(uri -> {
+                    // Routes are matched with the resolved default port, so spell it out
+                    boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+                    int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+                    routes.add(new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure));
+                });
+        return routes;
+    }
+}
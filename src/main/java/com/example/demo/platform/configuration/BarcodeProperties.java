@@ -0,0 +1,58 @@
+package com.example.demo.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "platform.barcode")
+public class BarcodeProperties {
+
+    // Numbers reserved from barcode_sequences per round trip; unused numbers are lost on restart
+    private int allocationBlockSize = 100;
+
+    // Products updated per transaction by bulk generation
+    private int bulkChunkSize = 1000;
+
+    // A running bulk job that saved no progress for this long is failed; its instance is assumed to have died
+    private Duration jobStaleAfter = Duration.ofMinutes(15);
+
+    // How often running bulk jobs are checked for progress, starting at startup
+    private Duration jobStaleCheckInterval = Duration.ofMinutes(1);
+
+    // Barcodes kept by the scan lookup cache, found and unknown ones together
+    private int lookupCacheSize = 100_000;
+
+    // How long a found product is served from the cache; bounds staleness of changes made by other instances
+    private Duration lookupCacheTtl = Duration.ofMinutes(10);
+
+    // How long an unknown barcode is answered without asking the database
+    private Duration lookupCacheNegativeTtl = Duration.ofSeconds(30);
+
+    // Upper bound on the heap used by the issued barcode filter; a smaller filter answers "maybe" more often
+    private DataSize uniquenessFilterMemory = DataSize.ofMegabytes(8);
+
+    // Target false positive rate the filter is sized for when the memory budget allows it
+    private double uniquenessFilterFalsePositiveRate = 0.001;
+
+    // Rebuild period of the filter, picks up barcodes assigned by other instances
+    private Duration uniquenessFilterRebuildInterval = Duration.ofHours(6);
+
+    // Pixels per narrowest bar of rendered labels
+    private int labelModuleWidth = 2;
+
+    // Bar height of rendered labels in pixels
+    private int labelBarHeight = 80;
+
+    // Upper bound on the heap used by cached rendered labels
+    private DataSize labelCacheMemory = DataSize.ofMegabytes(32);
+
+    // Label grid of print sheets; labels are scaled to fit their cell
+    private int labelSheetColumns = 3;
+    private int labelSheetCellWidth = 320;
+    private int labelSheetCellHeight = 160;
+}
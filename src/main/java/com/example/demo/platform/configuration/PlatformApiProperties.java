@@ -0,0 +1,78 @@
+package com.example.demo.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "platform.api")
+public class PlatformApiProperties {
+
+    // Items requested per product list page
+    private int pageSize = 100;
+
+    // Shopee get_item_base_info accepts at most 50 item ids per call
+    private int detailBatchSize = 50;
+
+    // Maximum in-flight detail requests per page
+    private int maxConcurrency = 8;
+
+    // Overridable so the clients can be pointed at a local stub server
+    private String shopeeBaseUrl = "https://partner.shopeemobile.com";
+    private String lazadaBaseUrl = "https://api.lazada.co.th/rest";
+    private String tiktokBaseUrl = "https://open-api.tiktokglobalshop.com";
+
+    // Keep the raw JSON of each product and order next to the mapped fields, stored as platform_data
+    private boolean retainRawData = false;
+
+    @NestedConfigurationProperty
+    private Http http = new Http();
+
+    @NestedConfigurationProperty
+    private RateLimit rateLimit = new RateLimit();
+
+    @NestedConfigurationProperty
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    // Pooled transport shared by all marketplace and OAuth calls
+    @Data
+    public static class Http {
+        private int maxConnections = 200;
+        // Applied to each marketplace API and OAuth host
+        private int maxConnectionsPerMarketplace = 50;
+        private int defaultMaxConnectionsPerRoute = 10;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        // Time to wait for a free pooled connection
+        private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+        // Used when the server does not send a Keep-Alive header
+        private Duration keepAlive = Duration.ofMinutes(1);
+        private Duration idleTimeout = Duration.ofMinutes(2);
+        private Duration validateAfterInactivity = Duration.ofSeconds(10);
+    }
+
+    // Token bucket per (platform, shop), adjusted additively up on success and multiplicatively down when throttled
+    @Data
+    public static class RateLimit {
+        private double initialRate = 10.0;
+        private double minRate = 1.0;
+        private double maxRate = 50.0;
+        private int burst = 10;
+        // Rate gained per second of calls succeeding at the current rate
+        private double additiveIncrease = 1.0;
+        private double decreaseFactor = 0.5;
+        // Calls waiting longer than this for a permit fail instead of queueing
+        private Duration maxWait = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        // Consecutive server or connection failures that open the circuit of an integration
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "platform.order-sync")
+public class PlatformOrderSyncProperties {
+
+    // Integrations reconciled at the same time per instance
+    private int concurrency = 4;
+
+    // How far back the first reconciliation of an integration looks
+    private Duration initialLookback = Duration.ofDays(1);
+
+    // Each run re-reads this much before the watermark, for orders the platform indexes late
+    private Duration overlap = Duration.ofMinutes(2);
+}
@@ -0,0 +1,38 @@
+package com.example.demo.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "platform.webhook")
+public class PlatformWebhookProperties {
+
+    // Public scheme and host the webhook URLs were registered with, e.g. https://shop.example.com; Shopee signs the
+    // full push URL, which differs from the request URL behind a TLS-terminating proxy
+    private String publicBaseUrl;
+
+    // Maximum webhooks processed concurrently per instance, capped below the database connection budget
+    private int workerConcurrency = 4;
+
+    // Maximum entries claimed per inbox query
+    private int batchSize = 50;
+
+    private int maxAttempts = 8;
+
+    // Product updates for the same item received within this window are synced once
+    private Duration coalesceWindow = Duration.ofSeconds(5);
+
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    private Duration maxBackoff = Duration.ofMinutes(30);
+
+    // Entries processing longer than this are assumed lost and handed out again
+    private Duration processingTimeout = Duration.ofMinutes(5);
+
+    // How long processed entries are kept for inspection
+    private Duration retention = Duration.ofDays(7);
+}
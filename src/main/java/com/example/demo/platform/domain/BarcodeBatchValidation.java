@@ -0,0 +1,20 @@
+package com.example.demo.platform.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BarcodeBatchValidation {
+    private final Product.BarcodeType barcodeType;
+    private final int total; // Non-blank codes read
+    private final int valid; // Valid, first occurrence and not assigned yet
+    private final List<InvalidCode> invalid;
+    private final List<String> duplicates; // Each code once, however often it repeats
+    private final List<String> alreadyAssigned;
+
+    public record InvalidCode(int line, String code) {
+    }
+}
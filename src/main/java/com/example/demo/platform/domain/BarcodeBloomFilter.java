@@ -0,0 +1,99 @@
+package com.example.demo.platform.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over barcode strings. Safe for concurrent adds and lookups; a lookup that returns false is exact,
+ * one that returns true may be a false positive.
+ */
+public class BarcodeBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BarcodeBloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    // Sized for expectedInsertions at the target false positive rate, but never larger than maxBytes
+    public static BarcodeBloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBytes) {
+        long n = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        // Bit indexes are derived from int hashes, which caps the filter at 2^31 bits
+        long bits = Math.max(64, Math.min(optimalBits, Math.min(maxBytes * 8, Integer.MAX_VALUE)));
+        int hashes = (int) Math.max(1, Math.min(16, Math.round((double) bits / n * LN2)));
+        return new BarcodeBloomFilter(bits, hashes);
+    }
+
+    public void add(String barcode) {
+        long hash = hash(barcode);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String barcode) {
+        long hash = hash(barcode);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // (1 - e^(-kn/m))^k for the insertions made so far
+    public double expectedFalsePositiveRate() {
+        double fill = 1 - Math.exp(-(double) hashCount * insertions.get() / bitCount);
+        return Math.pow(fill, hashCount);
+    }
+
+    public long sizeInBytes() {
+        return bitCount >>> 3;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // 64-bit FNV-1a over the chars, finished with the murmur3 mixer so both halves are usable
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.demo.platform.domain;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Encodes barcode values into their module sequence, one entry per narrowest bar or space, true for a bar.
+ * Quiet zones are left to the renderer.
+ */
+@Component
+public class BarcodeEncoder {
+
+    // Element widths of Code 128 symbols 0 to 106; the stop symbol includes the final bar
+    private static final String[] CODE128_PATTERNS = {
+            "212222", "222122", "222221", "121223", "121322", "131222", "122213", "122312", "132212", "221213",
+            "221312", "231212", "112232", "122132", "122231", "113222", "123122", "123221", "223211", "221132",
+            "221231", "213212", "223112", "312131", "311222", "321122", "321221", "312212", "322112", "322211",
+            "212123", "212321", "232121", "111323", "131123", "131321", "112313", "132113", "132311", "211313",
+            "231113", "231311", "112133", "112331", "132131", "113123", "113321", "133121", "313121", "211331",
+            "231131", "213113", "213311", "213131", "311123", "311321", "331121", "312113", "312311", "332111",
+            "314111", "221411", "431111", "111224", "111422", "121124", "121421", "141122", "141221", "112214",
+            "112412", "122114", "122411", "142112", "142211", "241211", "221114", "413111", "241112", "134111",
+            "111242", "121142", "121241", "114212", "124112", "124211", "411212", "421112", "421211", "212141",
+            "214121", "412121", "111143", "111341", "131141", "114113", "114311", "411113", "411311", "113141",
+            "114131", "311141", "411131", "211412", "211214", "211232", "2331112"
+    };
+    private static final int CODE128_CODE_C = 99;
+    private static final int CODE128_CODE_B = 100;
+    private static final int CODE128_START_B = 104;
+    private static final int CODE128_START_C = 105;
+    private static final int CODE128_STOP = 106;
+
+    // Code 39 characters and their nine elements as bits, most significant first, set where the element is wide
+    private static final String CODE39_CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ-. $/+%*";
+    private static final int[] CODE39_PATTERNS = {
+            0x034, 0x121, 0x061, 0x160, 0x031, 0x130, 0x070, 0x025, 0x124, 0x064,
+            0x109, 0x049, 0x148, 0x019, 0x118, 0x058, 0x00D, 0x10C, 0x04C, 0x01C,
+            0x103, 0x043, 0x142, 0x013, 0x112, 0x052, 0x007, 0x106, 0x046, 0x016,
+            0x181, 0x0C1, 0x1C0, 0x091, 0x190, 0x0D0, 0x085, 0x184, 0x0C4, 0x0A8,
+            0x0A2, 0x08A, 0x02A, 0x094
+    };
+    private static final int CODE39_WIDE = 3;
+
+    // EAN/UPC L-code digits; R-codes are their complement and G-codes the reversed R-codes
+    private static final String[] EAN_L_CODES = {
+            "0001101", "0011001", "0010011", "0111101", "0100011",
+            "0110001", "0101111", "0111011", "0110111", "0001011"
+    };
+    // Parity of the six left digits of an EAN-13 by its first digit, G where the G-code is used
+    private static final String[] EAN13_PARITY = {
+            "LLLLLL", "LLGLGG", "LLGGLG", "LLGGGL", "LGLLGG", "LGGLLG", "LGGGLL", "LGLGLG", "LGLGGL", "LGGLGL"
+    };
+    // Parity of the six UPC-E digits by check digit for number system 0; number system 1 is the inverse
+    private static final String[] UPCE_PARITY = {
+            "GGGLLL", "GGLGLL", "GGLLGL", "GGLLLG", "GLGGLL", "GLLGGL", "GLLLGG", "GLGLGL", "GLGLLG", "GLLGLG"
+    };
+
+    public boolean[] encode(Product.BarcodeType type, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Barcode value is empty");
+        }
+        return switch (type) {
+            case CODE128 -> code128(value);
+            case CODE39 -> code39(value);
+            case EAN13 -> ean13(digits(value, 13), "");
+            case EAN8 -> ean8(digits(value, 8));
+            case UPC_A -> ean13(digits(value, 12), "0");
+            case UPC_E -> upcE(digits(value, 8));
+        };
+    }
+
+    private boolean[] code128(String value) {
+        int[] symbols = new int[value.length() + 4];
+        int count = 0;
+        int i = 0;
+        boolean codeC = digitRun(value, 0) >= 4 && digitRun(value, 0) % 2 == 0;
+        symbols[count++] = codeC ? CODE128_START_C : CODE128_START_B;
+
+        while (i < value.length()) {
+            // At most a code switch and two symbols per pass
+            symbols = ensureCapacity(symbols, count + 3);
+            if (codeC) {
+                if (digitRun(value, i) >= 2) {
+                    symbols[count++] = (value.charAt(i) - '0') * 10 + (value.charAt(i + 1) - '0');
+                    i += 2;
+                    continue;
+                }
+                symbols[count++] = CODE128_CODE_B;
+                codeC = false;
+            }
+
+            // Switching to set C pays off for six digits, or four at the end of the value
+            int run = digitRun(value, i);
+            if (run >= 6 || (run >= 4 && i + run == value.length())) {
+                if (run % 2 == 1) {
+                    symbols[count++] = code128SetB(value.charAt(i++));
+                }
+                symbols[count++] = CODE128_CODE_C;
+                codeC = true;
+                continue;
+            }
+            symbols[count++] = code128SetB(value.charAt(i++));
+        }
+
+        int checksum = symbols[0];
+        for (int s = 1; s < count; s++) {
+            checksum += s * symbols[s];
+        }
+        symbols = ensureCapacity(symbols, count + 2);
+        symbols[count++] = checksum % 103;
+        symbols[count++] = CODE128_STOP;
+
+        ModuleWriter writer = new ModuleWriter(count * 11 + 2);
+        for (int s = 0; s < count; s++) {
+            writer.widths(CODE128_PATTERNS[symbols[s]]);
+        }
+        return writer.modules();
+    }
+
+    private int code128SetB(char c) {
+        if (c < 32 || c > 126) {
+            throw new IllegalArgumentException("CODE128 cannot encode character " + (int) c);
+        }
+        return c - 32;
+    }
+
+    private boolean[] code39(String value) {
+        String framed = "*" + value + "*";
+        ModuleWriter writer = new ModuleWriter(framed.length() * (6 + 3 * CODE39_WIDE + 1));
+        for (int i = 0; i < framed.length(); i++) {
+            int index = CODE39_CHARS.indexOf(framed.charAt(i));
+            if (index < 0 || (framed.charAt(i) == '*' && i != 0 && i != framed.length() - 1)) {
+                throw new IllegalArgumentException("CODE39 cannot encode character '" + framed.charAt(i) + "'");
+            }
+            int pattern = CODE39_PATTERNS[index];
+            for (int element = 8; element >= 0; element--) {
+                writer.run((pattern >> element & 1) == 1 ? CODE39_WIDE : 1);
+            }
+            if (i < framed.length() - 1) {
+                writer.run(1); // Intercharacter gap
+            }
+        }
+        return writer.modules();
+    }
+
+    // UPC-A is an EAN-13 with a leading zero
+    private boolean[] ean13(String value, String prefix) {
+        String digits = prefix + value;
+        String parity = EAN13_PARITY[digits.charAt(0) - '0'];
+        ModuleWriter writer = new ModuleWriter(95);
+        writer.bits("101");
+        for (int i = 1; i <= 6; i++) {
+            writer.bits(eanCode(digits.charAt(i), parity.charAt(i - 1)));
+        }
+        writer.bits("01010");
+        for (int i = 7; i <= 12; i++) {
+            writer.bits(eanCode(digits.charAt(i), 'R'));
+        }
+        writer.bits("101");
+        return writer.modules();
+    }
+
+    private boolean[] ean8(String digits) {
+        ModuleWriter writer = new ModuleWriter(67);
+        writer.bits("101");
+        for (int i = 0; i < 4; i++) {
+            writer.bits(eanCode(digits.charAt(i), 'L'));
+        }
+        writer.bits("01010");
+        for (int i = 4; i < 8; i++) {
+            writer.bits(eanCode(digits.charAt(i), 'R'));
+        }
+        writer.bits("101");
+        return writer.modules();
+    }
+
+    // Only the six middle digits are drawn, number system and check digit are carried by their parity
+    private boolean[] upcE(String digits) {
+        char numberSystem = digits.charAt(0);
+        if (numberSystem != '0' && numberSystem != '1') {
+            throw new IllegalArgumentException("UPC-E number system must be 0 or 1: " + digits);
+        }
+        String parity = UPCE_PARITY[digits.charAt(7) - '0'];
+        ModuleWriter writer = new ModuleWriter(51);
+        writer.bits("101");
+        for (int i = 1; i <= 6; i++) {
+            char p = parity.charAt(i - 1);
+            writer.bits(eanCode(digits.charAt(i), numberSystem == '0' ? p : (p == 'G' ? 'L' : 'G')));
+        }
+        writer.bits("010101");
+        return writer.modules();
+    }
+
+    private String eanCode(char digit, char set) {
+        String l = EAN_L_CODES[digit - '0'];
+        if (set == 'L') {
+            return l;
+        }
+        StringBuilder r = new StringBuilder(7);
+        for (int i = 0; i < 7; i++) {
+            r.append(l.charAt(i) == '0' ? '1' : '0');
+        }
+        return set == 'R' ? r.toString() : r.reverse().toString();
+    }
+
+    private String digits(String value, int length) {
+        if (value.length() != length || digitRun(value, 0) != length) {
+            throw new IllegalArgumentException("Expected " + length + " digits: " + value);
+        }
+        return value;
+    }
+
+    private int digitRun(String value, int from) {
+        int i = from;
+        while (i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+            i++;
+        }
+        return i - from;
+    }
+
+    private int[] ensureCapacity(int[] symbols, int size) {
+        return size <= symbols.length ? symbols : Arrays.copyOf(symbols, Math.max(size, symbols.length * 2));
+    }
+
+    // Appends alternating bar and space runs, starting with a bar
+    private static final class ModuleWriter {
+
+        private boolean[] modules;
+        private int length;
+        private boolean bar = true;
+
+        ModuleWriter(int capacity) {
+            this.modules = new boolean[capacity];
+        }
+
+        void run(int width) {
+            if (length + width > modules.length) {
+                modules = Arrays.copyOf(modules, Math.max(length + width, modules.length * 2));
+            }
+            for (int i = 0; i < width; i++) {
+                modules[length++] = bar;
+            }
+            bar = !bar;
+        }
+
+        void widths(String widths) {
+            for (int i = 0; i < widths.length(); i++) {
+                run(widths.charAt(i) - '0');
+            }
+        }
+
+        // Explicit module bits; leaves the bar/space alternation untouched
+        void bits(String bits) {
+            if (length + bits.length() > modules.length) {
+                modules = Arrays.copyOf(modules, length + bits.length());
+            }
+            for (int i = 0; i < bits.length(); i++) {
+                modules[length++] = bits.charAt(i) == '1';
+            }
+        }
+
+        boolean[] modules() {
+            return length == modules.length ? modules : Arrays.copyOf(modules, length);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.platform.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BarcodeGenerationJob {
+    private UUID id;
+    private UUID orgId; // Null when started for an explicit list of products
+    private Product.BarcodeType barcodeType;
+    private Status status;
+    private int totalProducts;
+    private int productsProcessed;
+    private int barcodesGenerated;
+    private int productsSkipped; // Got a barcode elsewhere while the job was running
+    private String errorMessage;
+    private Instant startedAt;
+    private Instant completedAt;
+    private Instant updatedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static BarcodeGenerationJob start(UUID orgId, Product.BarcodeType type, int totalProducts) {
+        Instant now = Instant.now();
+        return BarcodeGenerationJob.builder()
+                .id(UUID.randomUUID())
+                .orgId(orgId)
+                .barcodeType(type)
+                .status(Status.RUNNING)
+                .totalProducts(totalProducts)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public void recordChunk(int processed, int generated) {
+        this.productsProcessed += processed;
+        this.barcodesGenerated += generated;
+        this.productsSkipped += processed - generated;
+        this.updatedAt = Instant.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.completedAt = Instant.now();
+        this.updatedAt = this.completedAt;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = Status.FAILED;
+        this.errorMessage = errorMessage;
+        this.updatedAt = Instant.now();
+    }
+}
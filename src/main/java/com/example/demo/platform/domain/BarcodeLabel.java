@@ -0,0 +1,20 @@
+package com.example.demo.platform.domain;
+
+// A rendered label, addressed by the hash of everything that went into rendering it
+public record BarcodeLabel(String hash, Format format, byte[] content, int width, int height) {
+
+    public enum Format {
+        SVG("image/svg+xml"),
+        PNG("image/png");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+    }
+}
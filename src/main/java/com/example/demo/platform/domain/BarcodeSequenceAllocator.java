@@ -0,0 +1,76 @@
+package com.example.demo.platform.domain;
+
+import com.example.demo.platform.configuration.BarcodeProperties;
+import com.example.demo.platform.port.out.BarcodeSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out barcode sequence numbers from blocks reserved in the database (hi-lo).
+ * <p>
+ * Numbers within a block are taken with a single atomic increment; only the thread that exhausts a block
+ * goes back to the database for the next one. Every node reserves its own blocks, so numbers are unique
+ * across the cluster without checking existing barcodes.
+ */
+@Component
+@Slf4j
+public class BarcodeSequenceAllocator {
+
+    private final BarcodeSequenceRepository sequenceRepository;
+    private final BarcodeProperties properties;
+
+    private final Map<Product.BarcodeType, AtomicReference<Block>> blocks = new EnumMap<>(Product.BarcodeType.class);
+
+    public BarcodeSequenceAllocator(BarcodeSequenceRepository sequenceRepository, BarcodeProperties properties) {
+        this.sequenceRepository = sequenceRepository;
+        this.properties = properties;
+        for (Product.BarcodeType type : Product.BarcodeType.values()) {
+            blocks.put(type, new AtomicReference<>(new Block(0, 0)));
+        }
+    }
+
+    public long next(Product.BarcodeType type) {
+        AtomicReference<Block> current = blocks.get(type);
+        while (true) {
+            Block block = current.get();
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            refill(type, current, block);
+        }
+    }
+
+    // Reserves count consecutive numbers directly, for bulk generation; returns the first
+    public long nextRange(Product.BarcodeType type, int count) {
+        return sequenceRepository.reserveBlock(type, count);
+    }
+
+    private void refill(Product.BarcodeType type, AtomicReference<Block> current, Block exhausted) {
+        synchronized (current) {
+            // Another thread may have refilled while this one waited
+            if (current.get() != exhausted) {
+                return;
+            }
+            int size = properties.getAllocationBlockSize();
+            long start = sequenceRepository.reserveBlock(type, size);
+            log.debug("Reserved {} barcode numbers [{}, {})", type, start, start + size);
+            current.set(new Block(start, start + size));
+        }
+    }
+
+    private static final class Block {
+        final AtomicLong next;
+        final long end;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.platform.domain;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Validates barcode values without allocating: lengths, character sets and check digits are looked up in
+ * per-type tables and read straight from the {@link CharSequence}. Leading and trailing whitespace is ignored.
+ */
+@Component
+public class BarcodeValidator {
+
+    private enum Charset { PRINTABLE, CODE39, DIGITS }
+
+    private enum Check { NONE, GS1, UPC_E }
+
+    // Indexed by BarcodeType ordinal: CODE128, CODE39, EAN13, EAN8, UPC_A, UPC_E
+    private static final int[] MIN_LENGTH = {1, 1, 13, 8, 12, 8};
+    private static final int[] MAX_LENGTH = {20, 20, 13, 8, 12, 8};
+    private static final Charset[] CHARSETS = {
+            Charset.PRINTABLE, Charset.CODE39, Charset.DIGITS, Charset.DIGITS, Charset.DIGITS, Charset.DIGITS
+    };
+    private static final Check[] CHECKS = {Check.NONE, Check.NONE, Check.GS1, Check.GS1, Check.GS1, Check.UPC_E};
+
+    private static final boolean[] CODE39_CHARS = new boolean[128];
+
+    static {
+        for (char c : "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 -.$/+%".toCharArray()) {
+            CODE39_CHARS[c] = true;
+        }
+    }
+
+    public boolean isValid(CharSequence code, Product.BarcodeType type) {
+        if (code == null) {
+            return false;
+        }
+
+        int start = 0;
+        int end = code.length();
+        while (start < end && Character.isWhitespace(code.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(code.charAt(end - 1))) {
+            end--;
+        }
+
+        int t = type.ordinal();
+        int length = end - start;
+        if (length < MIN_LENGTH[t] || length > MAX_LENGTH[t]) {
+            return false;
+        }
+
+        Charset charset = CHARSETS[t];
+        for (int i = start; i < end; i++) {
+            if (!accepts(charset, code.charAt(i))) {
+                return false;
+            }
+        }
+
+        return switch (CHECKS[t]) {
+            case NONE -> true;
+            case GS1 -> CheckDigits.gs1(code, start, end - 1) == CheckDigits.digit(code, end - 1);
+            case UPC_E -> CheckDigits.upcE(code, start) == CheckDigits.digit(code, end - 1);
+        };
+    }
+
+    private static boolean accepts(Charset charset, char c) {
+        return switch (charset) {
+            case PRINTABLE -> c >= 32 && c <= 126;
+            case CODE39 -> c < 128 && CODE39_CHARS[c];
+            case DIGITS -> c >= '0' && c <= '9';
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.platform.domain;
+
+/**
+ * GS1 check digits, read straight from a {@link CharSequence} of ASCII digits so validation can use them without
+ * allocating.
+ */
+final class CheckDigits {
+
+    // UPC-A expansion of a UPC-E by its last data digit: positions of the UPC-E digits, -1 for an inserted zero
+    private static final int[][] UPC_E_EXPANSION = {
+            {0, 1, 2, 6, -1, -1, -1, -1, 3, 4, 5},
+            {0, 1, 2, 6, -1, -1, -1, -1, 3, 4, 5},
+            {0, 1, 2, 6, -1, -1, -1, -1, 3, 4, 5},
+            {0, 1, 2, 3, -1, -1, -1, -1, -1, 4, 5},
+            {0, 1, 2, 3, 4, -1, -1, -1, -1, -1, 5},
+            {0, 1, 2, 3, 4, 5, -1, -1, -1, -1, 6},
+            {0, 1, 2, 3, 4, 5, -1, -1, -1, -1, 6},
+            {0, 1, 2, 3, 4, 5, -1, -1, -1, -1, 6},
+            {0, 1, 2, 3, 4, 5, -1, -1, -1, -1, 6},
+            {0, 1, 2, 3, 4, 5, -1, -1, -1, -1, 6}
+    };
+
+    private CheckDigits() {
+    }
+
+    // Mod 10 of the digits from start to end, exclusive: weights 3 and 1 alternate starting from the rightmost
+    static int gs1(CharSequence digits, int start, int end) {
+        int sum = 0;
+        for (int i = end - 1, weight = 3; i >= start; i--, weight = 4 - weight) {
+            sum += digit(digits, i) * weight;
+        }
+        return (10 - (sum % 10)) % 10;
+    }
+
+    // A UPC-E carries the check digit of its UPC-A expansion; reads the number system and the six data digits from
+    // start and returns -1 for number systems other than 0 and 1, which do not exist
+    static int upcE(CharSequence digits, int start) {
+        int numberSystem = digit(digits, start);
+        if (numberSystem > 1) {
+            return -1;
+        }
+
+        int[] expansion = UPC_E_EXPANSION[digit(digits, start + 6)];
+        int sum = 0;
+        for (int i = expansion.length - 1, weight = 3; i >= 0; i--, weight = 4 - weight) {
+            sum += (expansion[i] < 0 ? 0 : digit(digits, start + expansion[i])) * weight;
+        }
+        return (10 - (sum % 10)) % 10;
+    }
+
+    static int digit(CharSequence digits, int index) {
+        return digits.charAt(index) - '0';
+    }
+}
@@ -8,7 +8,6 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
 
 @Getter
@@ -29,7 +28,7 @@ public class PlatformProduct {
     private String platformStatus;
     private String platformUrl;
     private String platformBarcode; // Platform's own barcode/SKU if exists
-    private Map<String, Object> platformData;
+    private String platformData; // Raw platform JSON, if retained
     private Instant lastSyncedAt;
     private SyncStatus syncStatus;
     private Instant createdAt;
@@ -59,7 +58,7 @@ public class PlatformProduct {
         this.updatedAt = Instant.now();
     }
 
-    public void updateFromPlatform(String platformName, BigDecimal price, Integer stock, String status, Map<String, Object> data) {
+    public void updateFromPlatform(String platformName, BigDecimal price, Integer stock, String status, String data) {
         this.platformName = platformName;
         this.platformPrice = price;
         this.stockQuantity = stock;
@@ -1,5 +1,6 @@
 package com.example.demo.platform.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
 @Setter
@@ -17,6 +19,8 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Product {
+    private static final Map<String, String[]> MATCH_FIELD_PATHS = new ConcurrentHashMap<>();
+
     private UUID id;
     private UUID orgId;
     private String masterSku;
@@ -38,6 +42,10 @@ public class Product {
     private List<ProductImage> images;
     private List<PlatformProduct> platformMappings;
 
+    // Normalized match field values, reused while the underlying value is unchanged
+    @Getter(AccessLevel.NONE)
+    private final Map<String, NormalizedValue> normalizedMatchFields = new ConcurrentHashMap<>();
+
     public enum ProductStatus {
         ACTIVE,
         INACTIVE,
@@ -71,6 +79,9 @@ public class Product {
         }
     }
 
+    private record NormalizedValue(Object source, String value) {
+    }
+
     public boolean hasAttribute(String key) {
         return attributes != null && attributes.containsKey(key);
     }
@@ -84,6 +95,53 @@ public class Product {
         return value != null ? value.toString() : null;
     }
 
+    // Resolves a matching rule field path such as "name", "sku" or "attributes.color"
+    public Object getMatchFieldValue(String fieldPath) {
+        String[] parts = MATCH_FIELD_PATHS.computeIfAbsent(fieldPath, path -> {
+            String[] split = path.split("\\.");
+            split[0] = split[0].toLowerCase();
+            return split;
+        });
+
+        switch (parts[0]) {
+            case "name":
+            case "productname":
+                return productName;
+            case "sku":
+            case "mastersku":
+                return masterSku;
+            case "description":
+                return description;
+            case "category":
+                return category;
+            case "brand":
+                return brand;
+            case "attributes":
+                if (parts.length > 1 && attributes != null) {
+                    return attributes.get(parts[1]);
+                }
+                break;
+        }
+        return null;
+    }
+
+    // Lowercased and trimmed match field value, as compared by ProductMatcher
+    public String getNormalizedMatchFieldValue(String fieldPath) {
+        Object value = getMatchFieldValue(fieldPath);
+        if (value == null) {
+            return null;
+        }
+
+        NormalizedValue cached = normalizedMatchFields.get(fieldPath);
+        if (cached != null && cached.source() == value) {
+            return cached.value();
+        }
+
+        String normalized = value.toString().toLowerCase().trim();
+        normalizedMatchFields.put(fieldPath, new NormalizedValue(value, normalized));
+        return normalized;
+    }
+
     public void deactivate() {
         this.status = ProductStatus.INACTIVE;
         this.updatedAt = Instant.now();
@@ -13,6 +13,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProductMatcher {
 
+    private static final double DEFAULT_THRESHOLD = 0.8;
+
+    // Marks a rule or field score that was cut off below the target without being computed exactly
+    private static final double PRUNED = -1.0;
+
+    private static final double EPSILON = 1e-9;
+
+    // Reusable Levenshtein rows, grown on demand
+    private static final ThreadLocal<int[][]> DISTANCE_ROWS = ThreadLocal.withInitial(() -> new int[2][64]);
+
     public Optional<Product> findBestMatch(Product candidate, List<Product> existingProducts, List<ProductMatchingRule> rules) {
         if (existingProducts.isEmpty()) {
             return Optional.empty();
@@ -29,25 +39,30 @@ public class ProductMatcher {
             return Optional.empty();
         }
 
+        // Minimum threshold from any rule
+        double minThreshold = activeRules.stream()
+                .map(ProductMatchingRule::getSimilarityThreshold)
+                .filter(Objects::nonNull)
+                .mapToDouble(BigDecimal::doubleValue)
+                .min()
+                .orElse(DEFAULT_THRESHOLD);
+
         Product bestMatch = null;
-        BigDecimal bestScore = BigDecimal.ZERO;
+        double bestScore = 0.0;
+        double[] ruleScores = new double[activeRules.size()];
 
         for (Product existing : existingProducts) {
-            BigDecimal totalScore = calculateMatchScore(candidate, existing, activeRules);
+            // A product only matters if it can reach the threshold and beat the current best
+            double target = Math.max(bestScore, minThreshold);
+            double totalScore = calculateMatchScore(candidate, existing, activeRules, target, ruleScores);
 
-            if (totalScore.compareTo(bestScore) > 0) {
+            if (totalScore > bestScore) {
                 bestScore = totalScore;
                 bestMatch = existing;
             }
         }
 
-        // Check if best match exceeds minimum threshold from any rule
-        BigDecimal minThreshold = activeRules.stream()
-                .map(ProductMatchingRule::getSimilarityThreshold)
-                .min(BigDecimal::compareTo)
-                .orElse(BigDecimal.valueOf(0.8));
-
-        if (bestScore.compareTo(minThreshold) >= 0) {
+        if (bestMatch != null && bestScore >= minThreshold) {
             log.info("Found product match: {} -> {} (score: {})",
                     candidate.getMasterSku(), bestMatch.getMasterSku(), bestScore);
             return Optional.of(bestMatch);
@@ -58,121 +73,142 @@ public class ProductMatcher {
         return Optional.empty();
     }
 
-    private BigDecimal calculateMatchScore(Product candidate, Product existing, List<ProductMatchingRule> rules) {
-        BigDecimal totalScore = BigDecimal.ZERO;
+    private double calculateMatchScore(Product candidate, Product existing, List<ProductMatchingRule> rules,
+                                       double target, double[] ruleScores) {
+        // The total is an average of rule scores, so it can only reach the target if some rule does
+        boolean reachable = false;
+        for (int i = 0; i < rules.size(); i++) {
+            ruleScores[i] = calculateRuleScore(candidate, existing, rules.get(i), target);
+            if (ruleScores[i] >= target) {
+                reachable = true;
+            }
+        }
+
+        if (!reachable) {
+            return 0.0;
+        }
+
+        double totalScore = 0.0;
         int ruleCount = 0;
 
-        for (ProductMatchingRule rule : rules) {
-            BigDecimal ruleScore = calculateRuleScore(candidate, existing, rule);
-            if (ruleScore.compareTo(BigDecimal.ZERO) > 0) {
-                totalScore = totalScore.add(ruleScore);
+        for (int i = 0; i < rules.size(); i++) {
+            double ruleScore = ruleScores[i] == PRUNED
+                    ? calculateRuleScore(candidate, existing, rules.get(i), 0.0)
+                    : ruleScores[i];
+            if (ruleScore > 0) {
+                totalScore += ruleScore;
                 ruleCount++;
             }
         }
 
-        return ruleCount > 0 ? totalScore.divide(BigDecimal.valueOf(ruleCount), 4, BigDecimal.ROUND_HALF_UP) : BigDecimal.ZERO;
+        return ruleCount > 0 ? totalScore / ruleCount : 0.0;
     }
 
-    private BigDecimal calculateRuleScore(Product candidate, Product existing, ProductMatchingRule rule) {
-        List<BigDecimal> fieldScores = new ArrayList<>();
-
-        for (String field : rule.getMatchFields()) {
-            BigDecimal fieldScore = calculateFieldScore(candidate, existing, field);
-            fieldScores.add(fieldScore);
+    private double calculateRuleScore(Product candidate, Product existing, ProductMatchingRule rule, double target) {
+        List<String> fields = rule.getMatchFields();
+        if (fields == null || fields.isEmpty()) {
+            return 0.0;
         }
 
-        if (fieldScores.isEmpty()) {
-            return BigDecimal.ZERO;
+        // Total dissimilarity the rule can absorb while its field average still reaches the target
+        double slack = fields.size() * (1.0 - target);
+        double sum = 0.0;
+
+        for (String field : fields) {
+            double fieldScore = calculateFieldScore(candidate, existing, field, slack);
+            if (fieldScore == PRUNED) {
+                return PRUNED;
+            }
+
+            sum += fieldScore;
+            slack -= 1.0 - fieldScore;
+            if (slack < -EPSILON) {
+                return PRUNED;
+            }
         }
 
         // Average all field scores for this rule
-        BigDecimal sum = fieldScores.stream()
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return sum.divide(BigDecimal.valueOf(fieldScores.size()), 4, BigDecimal.ROUND_HALF_UP);
+        return sum / fields.size();
     }
 
-    private BigDecimal calculateFieldScore(Product candidate, Product existing, String fieldPath) {
-        Object candidateValue = getFieldValue(candidate, fieldPath);
-        Object existingValue = getFieldValue(existing, fieldPath);
+    private double calculateFieldScore(Product candidate, Product existing, String fieldPath, double maxDissimilarity) {
+        String candidateValue = candidate.getNormalizedMatchFieldValue(fieldPath);
+        String existingValue = existing.getNormalizedMatchFieldValue(fieldPath);
 
         if (candidateValue == null || existingValue == null) {
-            return BigDecimal.ZERO;
+            return 0.0;
         }
 
-        return calculateSimilarity(candidateValue.toString(), existingValue.toString());
-    }
-
-    private Object getFieldValue(Product product, String fieldPath) {
-        String[] parts = fieldPath.split("\\.");
-
-        switch (parts[0].toLowerCase()) {
-            case "name":
-            case "productname":
-                return product.getProductName();
-            case "sku":
-            case "mastersku":
-                return product.getMasterSku();
-            case "description":
-                return product.getDescription();
-            case "category":
-                return product.getCategory();
-            case "brand":
-                return product.getBrand();
-            case "attributes":
-                if (parts.length > 1 && product.getAttributes() != null) {
-                    return product.getAttributes().get(parts[1]);
-                }
-                break;
+        if (candidateValue.equals(existingValue)) {
+            return 1.0;
         }
-        return null;
-    }
 
-    private BigDecimal calculateSimilarity(String str1, String str2) {
-        if (str1 == null || str2 == null) {
-            return BigDecimal.ZERO;
+        int maxLength = Math.max(candidateValue.length(), existingValue.length());
+        int maxDistance = (int) Math.min(maxLength, Math.floor(maxDissimilarity * maxLength + EPSILON));
+
+        int distance = boundedLevenshteinDistance(candidateValue, existingValue, maxDistance);
+        if (distance > maxDistance) {
+            return PRUNED;
         }
 
-        str1 = str1.toLowerCase().trim();
-        str2 = str2.toLowerCase().trim();
+        return 1.0 - (double) distance / maxLength;
+    }
 
-        if (str1.equals(str2)) {
-            return BigDecimal.ONE;
+    // Returns the edit distance, or any value above maxDistance once it is known to exceed it
+    private int boundedLevenshteinDistance(String s1, String s2, int maxDistance) {
+        if (Math.abs(s1.length() - s2.length()) > maxDistance) {
+            return maxDistance + 1;
         }
 
-        // Use Levenshtein distance for similarity calculation
-        int distance = levenshteinDistance(str1, str2);
-        int maxLength = Math.max(str1.length(), str2.length());
-
-        if (maxLength == 0) {
-            return BigDecimal.ONE;
+        // Keep the rows sized by the shorter string
+        if (s1.length() < s2.length()) {
+            String tmp = s1;
+            s1 = s2;
+            s2 = tmp;
         }
 
-        double similarity = 1.0 - (double) distance / maxLength;
-        return BigDecimal.valueOf(Math.max(0.0, similarity));
-    }
+        int columns = s2.length() + 1;
+        int[][] rows = DISTANCE_ROWS.get();
+        if (rows[0].length < columns) {
+            rows[0] = new int[columns];
+            rows[1] = new int[columns];
+        }
 
-    private int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+        int[] previous = rows[0];
+        int[] current = rows[1];
 
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
-        }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
+        for (int j = 0; j < columns; j++) {
+            previous[j] = j;
         }
 
         for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                int cost = s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1;
-                dp[i][j] = Math.min(Math.min(
-                    dp[i - 1][j] + 1,
-                    dp[i][j - 1] + 1),
-                    dp[i - 1][j - 1] + cost
+            char c = s1.charAt(i - 1);
+            current[0] = i;
+            int rowMin = i;
+
+            for (int j = 1; j < columns; j++) {
+                int cost = c == s2.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(
+                        previous[j] + 1,
+                        current[j - 1] + 1),
+                        previous[j - 1] + cost
                 );
+                current[j] = value;
+                if (value < rowMin) {
+                    rowMin = value;
+                }
+            }
+
+            // Row minimums never decrease, so the distance can no longer fit the bound
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
             }
+
+            int[] tmp = previous;
+            previous = current;
+            current = tmp;
         }
 
-        return dp[s1.length()][s2.length()];
+        return previous[columns - 1];
     }
-}
\ No newline at end of file
+}
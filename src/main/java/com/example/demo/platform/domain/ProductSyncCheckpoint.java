@@ -0,0 +1,83 @@
+package com.example.demo.platform.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSyncCheckpoint {
+    private UUID integrationId;
+    private Status status;
+    private String nextCursor; // Cursor of the first page not yet committed
+    private int chunksCommitted;
+    private int productsProcessed;
+    private int productsCreated;
+    private int productsMatched;
+    private int productsUpdated;
+    private int productsFailed;
+    private String errorMessage;
+    private Instant startedAt;
+    private Instant completedAt;
+    private Instant updatedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static ProductSyncCheckpoint start(UUID integrationId) {
+        Instant now = Instant.now();
+        return ProductSyncCheckpoint.builder()
+                .integrationId(integrationId)
+                .status(Status.RUNNING)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    // An interrupted sync with committed chunks continues after the last committed page
+    public boolean isResumable() {
+        return status != Status.COMPLETED && nextCursor != null;
+    }
+
+    public void resume() {
+        this.status = Status.RUNNING;
+        this.errorMessage = null;
+        this.completedAt = null;
+        this.updatedAt = Instant.now();
+    }
+
+    public void recordChunk(String nextCursor, int created, int matched, int updated, int failed) {
+        this.nextCursor = nextCursor;
+        this.chunksCommitted++;
+        this.productsProcessed += created + matched + updated + failed;
+        this.productsCreated += created;
+        this.productsMatched += matched;
+        this.productsUpdated += updated;
+        this.productsFailed += failed;
+        this.updatedAt = Instant.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.nextCursor = null;
+        this.completedAt = Instant.now();
+        this.updatedAt = this.completedAt;
+    }
+
+    public void fail(String errorMessage) {
+        this.status = Status.FAILED;
+        this.errorMessage = errorMessage;
+        this.updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.platform.domain;
+
+import com.example.demo.shared.domain.Platform;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookInboxEntry {
+    private UUID id;
+    private Platform platform;
+    private String integrationId;
+    private String payload; // Raw request body as received
+    private Map<String, String> headers;
+    private String itemId; // Set for product-update events, which are coalesced per item
+    private String dedupeKey;
+    private Status status;
+    private int attempts;
+    private Instant availableAt;
+    private Instant lockedAt;
+    private String lastError;
+    private Instant receivedAt;
+    private Instant processedAt;
+
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        DONE,
+        DEAD
+    }
+
+    public static WebhookInboxEntry received(Platform platform, String integrationId, String payload, Map<String, String> headers) {
+        Instant now = Instant.now();
+        return WebhookInboxEntry.builder()
+                .id(UUID.randomUUID())
+                .platform(platform)
+                .integrationId(integrationId)
+                .payload(payload)
+                .headers(headers)
+                .status(Status.PENDING)
+                .availableAt(now)
+                .receivedAt(now)
+                .build();
+    }
+
+    // Holds the entry back for the window so later updates of the same item collapse into it
+    public void coalesceAs(String itemId, Duration window) {
+        this.itemId = itemId;
+        this.dedupeKey = platform + ":" + integrationId + ":" + itemId;
+        this.availableAt = receivedAt.plus(window);
+    }
+
+    public boolean isProductUpdate() {
+        return itemId != null;
+    }
+}
@@ -1,5 +1,5 @@
 @ApplicationModule(
-    allowedDependencies = {"shared", "users", "order", "recording"}
+    allowedDependencies = {"shared", "users", "order :: reconciliation", "recording"}
 )
 package com.example.demo.platform;
 
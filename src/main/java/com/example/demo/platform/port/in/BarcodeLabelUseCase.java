@@ -0,0 +1,16 @@
+package com.example.demo.platform.port.in;
+
+import com.example.demo.platform.domain.BarcodeLabel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BarcodeLabelUseCase {
+    // Empty when the product does not exist or has no barcode yet
+    Optional<BarcodeLabel> renderProductLabel(UUID productId, BarcodeLabel.Format format);
+    // Writes an SVG sheet with one label per product, in the given order, while the products are being loaded
+    void writeLabelSheet(List<UUID> productIds, OutputStream out) throws IOException;
+}
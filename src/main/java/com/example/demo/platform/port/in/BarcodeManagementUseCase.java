@@ -1,8 +1,12 @@
 package com.example.demo.platform.port.in;
 
+import com.example.demo.platform.domain.BarcodeBatchValidation;
+import com.example.demo.platform.domain.BarcodeGenerationJob;
 import com.example.demo.platform.domain.BarcodeGenerationLog;
 import com.example.demo.platform.domain.Product;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,7 +18,13 @@ public interface BarcodeManagementUseCase {
     Optional<Product> findProductByBarcode(String barcode);
     List<Product> findProductsWithoutBarcodes(UUID orgId);
     void generateBarcodesForProducts(List<UUID> productIds);
+    BarcodeGenerationJob startBarcodeGeneration(List<UUID> productIds, Product.BarcodeType type);
+    BarcodeGenerationJob startBarcodeGenerationForOrganization(UUID orgId, Product.BarcodeType type);
+    Optional<BarcodeGenerationJob> getBarcodeGenerationJob(UUID jobId);
     List<BarcodeGenerationLog> getBarcodeHistory(UUID productId);
     boolean isValidBarcode(String barcode, Product.BarcodeType type);
     boolean isBarcodeUnique(String barcode);
+    // Validates the first column of a CSV, one code per line, and reports invalid, repeated and assigned codes
+    BarcodeBatchValidation validateBarcodes(InputStream csv, Product.BarcodeType type, boolean skipHeader)
+            throws IOException;
 }
\ No newline at end of file
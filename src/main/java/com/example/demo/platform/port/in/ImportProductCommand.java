@@ -24,5 +24,5 @@ public class ImportProductCommand {
     private final String platformBarcode; // Platform's own barcode if exists
     private final List<String> imageUrls;
     private final Map<String, Object> attributes;
-    private final Map<String, Object> platformData;
+    private final String platformData; // Raw platform JSON, if retained
 }
\ No newline at end of file
@@ -3,13 +3,18 @@ package com.example.demo.platform.port.in;
 import com.example.demo.platform.domain.Product;
 import com.example.demo.platform.domain.PlatformProduct;
 import com.example.demo.platform.domain.ProductMatchingRule;
+import com.example.demo.platform.domain.ProductSyncCheckpoint;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProductSyncUseCase {
     void syncAllProducts(UUID integrationId);
+    Optional<ProductSyncCheckpoint> getSyncProgress(UUID integrationId);
     void syncProductById(UUID integrationId, String platformProductId);
+    void syncProductsByIds(UUID integrationId, Collection<String> platformProductIds);
     Product importPlatformProduct(ImportProductCommand command);
     List<Product> getOrganizationProducts(UUID orgId);
     Product getProduct(UUID productId);
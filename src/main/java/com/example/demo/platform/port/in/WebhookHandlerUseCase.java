@@ -3,8 +3,15 @@ package com.example.demo.platform.port.in;
 import com.example.demo.shared.domain.Platform;
 
 import java.util.Map;
+import java.util.Set;
 
 public interface WebhookHandlerUseCase {
+    // Verifies the signature over the raw body and stores the webhook in the inbox for asynchronous processing;
+    // throws WebhookRejectedException when the integration is unknown or the signature does not match
+    void receiveWebhook(Platform platform, String integrationId, String requestUrl, byte[] body,
+                        Map<String, String> headers);
     void processWebhook(Platform platform, String integrationId, Map<String, Object> payload, Map<String, String> headers);
+    // Syncs product-update webhooks that were collapsed per item in the inbox with one batched fetch
+    void processProductUpdates(Platform platform, String integrationId, Set<String> itemIds);
     void retryFailedWebhooks();
 }
\ No newline at end of file
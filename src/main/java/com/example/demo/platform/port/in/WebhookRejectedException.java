@@ -0,0 +1,9 @@
+package com.example.demo.platform.port.in;
+
+// The webhook is not stored: its integration is unknown or its signature does not match
+public class WebhookRejectedException extends RuntimeException {
+
+    public WebhookRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.platform.domain.BarcodeGenerationLog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface BarcodeBatchRepository {
+    // Ids of the given products that are active and have no barcode yet
+    List<UUID> findIdsNeedingBarcode(Collection<UUID> productIds);
+    List<UUID> findIdsNeedingBarcode(UUID orgId);
+    // Assigns each logged barcode to its product and inserts the log row, skipping products that got a barcode meanwhile;
+    // returns the number of barcodes assigned
+    int assignBarcodes(List<BarcodeGenerationLog> assignments);
+    // Barcodes on products plus every barcode ever logged; may repeat a barcode
+    long countIssuedBarcodes();
+    void forEachIssuedBarcode(Consumer<String> consumer);
+    // The given barcodes that are on a product or in the generation log
+    Set<String> findIssuedBarcodes(Collection<String> barcodes);
+}
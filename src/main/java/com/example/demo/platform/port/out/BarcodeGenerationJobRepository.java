@@ -0,0 +1,16 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.platform.domain.BarcodeGenerationJob;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BarcodeGenerationJobRepository {
+    BarcodeGenerationJob save(BarcodeGenerationJob job);
+    Optional<BarcodeGenerationJob> findById(UUID id);
+    // Saves progress and status only while the stored job is still RUNNING; false once it was failed elsewhere
+    boolean saveIfRunning(BarcodeGenerationJob job);
+    // Fails running jobs whose progress was last saved before the given instant; returns how many were failed
+    int failRunningNotUpdatedSince(Instant updatedBefore, String errorMessage);
+}
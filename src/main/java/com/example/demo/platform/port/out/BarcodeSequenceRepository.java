@@ -0,0 +1,8 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.platform.domain.Product;
+
+public interface BarcodeSequenceRepository {
+    // Reserves the next blockSize numbers of the type and returns the first; the block is committed immediately
+    long reserveBlock(Product.BarcodeType type, long blockSize);
+}
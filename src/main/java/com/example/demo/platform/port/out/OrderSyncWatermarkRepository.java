@@ -0,0 +1,11 @@
+package com.example.demo.platform.port.out;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderSyncWatermarkRepository {
+    // End of the last update time window whose orders were all reconciled
+    Optional<Instant> findSyncedUntil(UUID integrationId);
+    void saveSyncedUntil(UUID integrationId, Instant syncedUntil);
+}
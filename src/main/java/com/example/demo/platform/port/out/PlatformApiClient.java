@@ -1,11 +1,45 @@
 package com.example.demo.platform.port.out;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface PlatformApiClient {
-    List<PlatformProductData> fetchAllProducts();
+
+    // Lazily fetches the catalog page by page; close the stream to stop prefetching
+    Stream<PlatformProductPage> streamProductPages(String startCursor);
+
+    default List<PlatformProductData> fetchAllProducts() {
+        try (Stream<PlatformProductPage> pages = streamProductPages(null)) {
+            return pages.flatMap(page -> page.getItems().stream())
+                    .collect(Collectors.toList());
+        }
+    }
+
     PlatformProductData fetchProductById(String productId);
-    List<PlatformOrderData> fetchOrders(String since);
+
+    // Products that no longer exist on the platform are left out of the result
+    default List<PlatformProductData> fetchProductsByIds(List<String> productIds) {
+        return productIds.stream()
+                .map(this::fetchProductById)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // Lazily fetches every order updated in [updatedFrom, updatedTo) page by page; close the stream to stop prefetching
+    Stream<PlatformOrderPage> streamOrderPages(Instant updatedFrom, Instant updatedTo);
+
+    // since is in epoch seconds
+    default List<PlatformOrderData> fetchOrders(String since) {
+        try (Stream<PlatformOrderPage> pages = streamOrderPages(Instant.ofEpochSecond(Long.parseLong(since)),
+                Instant.now())) {
+            return pages.flatMap(page -> page.getItems().stream())
+                    .collect(Collectors.toList());
+        }
+    }
+
     PlatformOrderData fetchOrderById(String orderId);
     boolean validateWebhookSignature(String payload, String signature, String secret);
-}
\ No newline at end of file
+}
@@ -3,6 +3,11 @@ package com.example.demo.platform.port.out;
 import com.example.demo.platform.domain.PlatformIntegration;
 import com.example.demo.shared.domain.Platform;
 
+import java.util.UUID;
+
 public interface PlatformApiClientFactory {
     PlatformApiClient createClient(Platform platform, PlatformIntegration integration);
+
+    // Drops any client built from the integration's previous credentials
+    void invalidate(UUID integrationId);
 }
\ No newline at end of file
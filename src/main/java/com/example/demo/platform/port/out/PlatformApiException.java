@@ -0,0 +1,21 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.shared.domain.Platform;
+import lombok.Getter;
+
+// Marketplace API call that failed or was not attempted
+@Getter
+public class PlatformApiException extends RuntimeException {
+
+    private final Platform platform;
+
+    public PlatformApiException(Platform platform, String message) {
+        super(message);
+        this.platform = platform;
+    }
+
+    public PlatformApiException(Platform platform, String message, Throwable cause) {
+        super(message, cause);
+        this.platform = platform;
+    }
+}
@@ -13,6 +13,7 @@ public interface PlatformIntegrationRepository {
     Optional<PlatformIntegration> findByOAuthState(String state);
     List<PlatformIntegration> findByOrgId(UUID orgId);
     List<PlatformIntegration> findAuthorizedByOrgId(UUID orgId);
+    List<PlatformIntegration> findAllAuthorized();
     List<PlatformIntegration> findByOrgIdAndPlatform(UUID orgId, Platform platform);
     Optional<PlatformIntegration> findByOrgIdAndPlatformAndSellerId(UUID orgId, Platform platform, String sellerId);
     List<PlatformIntegration> findTokensNeedingRefresh();
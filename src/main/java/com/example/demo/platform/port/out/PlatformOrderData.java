@@ -15,6 +15,8 @@ public class PlatformOrderData {
     private final String sellerId;
     private final String status;
     private final Instant orderDate;
+    // Last change on the platform, what order reconciliation watermarks are based on
+    private final Instant updatedAt;
     private final String customerName;
     private final String customerPhone;
     private final String customerEmail;
@@ -23,7 +25,8 @@ public class PlatformOrderData {
     private final String currency;
     private final List<PlatformOrderItem> items;
     private final String specialInstructions;
-    private final Map<String, Object> rawData;
+    // Raw JSON of the item as returned by the platform, only set when raw data retention is enabled
+    private final byte[] rawData;
 
     @Getter
     @Builder
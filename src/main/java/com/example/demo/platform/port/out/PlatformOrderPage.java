@@ -0,0 +1,20 @@
+package com.example.demo.platform.port.out;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class PlatformOrderPage {
+    private final List<PlatformOrderData> items;
+    // Cursor this page was fetched with, null for the first page
+    private final String cursor;
+    // Cursor of the following page, null when this is the last page
+    private final String nextCursor;
+
+    public boolean isLast() {
+        return nextCursor == null;
+    }
+}
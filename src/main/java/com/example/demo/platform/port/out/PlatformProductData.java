@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -22,5 +23,10 @@ public class PlatformProductData {
     private final String status;
     private final List<String> imageUrls;
     private final Map<String, Object> attributes;
-    private final Map<String, Object> rawData;
-}
\ No newline at end of file
+    // Raw JSON of the item as returned by the platform, only set when raw data retention is enabled
+    private final byte[] rawData;
+
+    public String getRawJson() {
+        return rawData != null ? new String(rawData, StandardCharsets.UTF_8) : null;
+    }
+}
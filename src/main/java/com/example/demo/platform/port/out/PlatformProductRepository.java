@@ -2,6 +2,7 @@ package com.example.demo.platform.port.out;
 
 import com.example.demo.platform.domain.PlatformProduct;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,6 +13,7 @@ public interface PlatformProductRepository {
     List<PlatformProduct> findByProductId(UUID productId);
     List<PlatformProduct> findByPlatformIntegrationId(UUID integrationId);
     Optional<PlatformProduct> findByIntegrationIdAndPlatformProductId(UUID integrationId, String platformProductId);
+    List<PlatformProduct> findByIntegrationIdAndPlatformProductIds(UUID integrationId, Collection<String> platformProductIds);
     List<PlatformProduct> findByIntegrationIdAndSyncStatus(UUID integrationId, PlatformProduct.SyncStatus syncStatus);
     void deleteById(UUID id);
     void deleteByProductId(UUID productId);
@@ -0,0 +1,15 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.shared.domain.Platform;
+
+// The platform rejected the call for exceeding its quota, or no permit was available in time
+public class PlatformRateLimitException extends PlatformApiException {
+
+    public PlatformRateLimitException(Platform platform, String message) {
+        super(platform, message);
+    }
+
+    public PlatformRateLimitException(Platform platform, String message, Throwable cause) {
+        super(platform, message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.shared.domain.Platform;
+
+// Calls for the integration are short-circuited after repeated platform failures
+public class PlatformUnavailableException extends PlatformApiException {
+
+    public PlatformUnavailableException(Platform platform, String message) {
+        super(platform, message);
+    }
+}
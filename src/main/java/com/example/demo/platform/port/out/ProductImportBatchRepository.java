@@ -0,0 +1,25 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.platform.domain.PlatformProduct;
+import com.example.demo.platform.domain.Product;
+import com.example.demo.platform.domain.ProductImage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductImportBatchRepository {
+
+    // Batch inserts new products, skipping rows whose master SKU already exists in the organization.
+    // Returns the id stored for each master SKU, which is the existing product's id for skipped rows.
+    Map<String, UUID> insertProducts(UUID orgId, List<Product> products);
+
+    // Batch inserts the images of newly created products
+    void insertProductImages(List<ProductImage> images);
+
+    // Batch upserts mappings keyed by integration and platform product id
+    void upsertPlatformProducts(List<PlatformProduct> platformProducts);
+
+    Map<String, UUID> findProductIdsByMasterSku(UUID orgId, Collection<String> masterSkus);
+}
@@ -2,13 +2,17 @@ package com.example.demo.platform.port.out;
 
 import com.example.demo.platform.domain.Product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ProductRepository {
     Product save(Product product);
+    // Writes the product straight away, so a violated constraint is raised to the caller
+    Product saveAndFlush(Product product);
     Optional<Product> findById(UUID id);
+    List<Product> findAllById(Collection<UUID> ids);
     List<Product> findByOrgId(UUID orgId);
     List<Product> findByOrgIdAndStatus(UUID orgId, Product.ProductStatus status);
     Optional<Product> findByOrgIdAndMasterSku(UUID orgId, String masterSku);
@@ -0,0 +1,11 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.platform.domain.ProductSyncCheckpoint;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProductSyncCheckpointRepository {
+    ProductSyncCheckpoint save(ProductSyncCheckpoint checkpoint);
+    Optional<ProductSyncCheckpoint> findByIntegrationId(UUID integrationId);
+}
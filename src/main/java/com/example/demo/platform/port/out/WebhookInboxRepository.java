@@ -0,0 +1,26 @@
+package com.example.demo.platform.port.out;
+
+import com.example.demo.platform.domain.WebhookInboxEntry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface WebhookInboxRepository {
+    // Returns false when a pending entry with the same dedupe key already absorbs this one
+    boolean enqueue(WebhookInboxEntry entry);
+
+    // Atomically moves up to limit due entries to PROCESSING, skipping rows claimed by other workers
+    List<WebhookInboxEntry> claimBatch(int limit);
+
+    void markDone(UUID id);
+    void markRetry(UUID id, Instant availableAt, String error);
+    void markDead(UUID id, String error);
+
+    // Returns entries left in PROCESSING longer than the timeout (e.g. after a crash) to PENDING
+    int recoverStuck(Duration processingTimeout);
+
+    int requeueDead();
+    int deleteProcessedBefore(Instant cutoff);
+}
@@ -0,0 +1,131 @@
+package com.example.demo.shared.adapter.in.web;
+
+import com.example.demo.shared.configuration.WebhookSignatureProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the body of webhook requests once and keeps the raw bytes, so signatures are checked against exactly what
+ * the platform signed while the controllers still bind the body as usual. Bodies over
+ * {@code webhook.signature.max-body-size} are rejected.
+ */
+@Component
+@RequiredArgsConstructor
+public class CachedBodyFilter extends OncePerRequestFilter {
+
+    private static final String BODY_ATTRIBUTE = CachedBodyFilter.class.getName() + ".body";
+
+    private final WebhookSignatureProperties properties;
+
+    // Raw body of a webhook request as received
+    public static byte[] body(HttpServletRequest request) {
+        Object body = request.getAttribute(BODY_ATTRIBUTE);
+        if (!(body instanceof byte[] bytes)) {
+            throw new IllegalStateException("Request body was not cached for " + request.getRequestURI());
+        }
+        return bytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // Covers both /api/webhook/** and /api/webhooks/**
+        return !request.getRequestURI().startsWith("/api/webhook");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        int maxBodyBytes = (int) Math.min(properties.getMaxBodySize().toBytes(), Integer.MAX_VALUE - 1);
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+
+        request.setAttribute(BODY_ATTRIBUTE, body);
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is available and read in one go
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.shared.adapter.in.web;
+
+/**
+ * Concurrency limit that follows latency: while requests take about as long as they usually do the limit grows by
+ * roughly its square root, and once they slow down it shrinks in proportion to how much slower they got.
+ * <p>
+ * Latency is averaged over windows of about as many requests as the limit allows, and the limit moves once per
+ * window. The usual latency tracks the unloaded latency: it follows faster windows straight away, but rises only
+ * once the limit is at its minimum and requests are still slow, so latency that creeps up under load is never
+ * mistaken for the norm. The limit only grows while at least half of it was in use during the window.
+ */
+class GradientConcurrencyLimit {
+
+    // Latency may rise this much over the usual before the limit shrinks
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    // Windows over which the usual latency follows faster and, at the minimum limit, slower windows
+    private static final double FASTER_WINDOWS = 2;
+    private static final double SLOWER_WINDOWS = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+
+    private double limit;
+    private int inFlight;
+    private double usualRtt;
+
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        return true;
+    }
+
+    // Failed requests pass no sample: their latency says nothing about how loaded the service is
+    synchronized void release(long rttNanos, boolean sample) {
+        inFlight--;
+        if (!sample || rttNanos <= 0) {
+            return;
+        }
+
+        windowRttSum += rttNanos;
+        windowSamples++;
+        if (windowSamples < Math.max(MIN_WINDOW_SAMPLES, (int) limit)) {
+            return;
+        }
+        double rtt = (double) windowRttSum / windowSamples;
+        int used = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = inFlight;
+
+        if (usualRtt == 0) {
+            usualRtt = rtt;
+            return;
+        }
+        if (rtt < usualRtt) {
+            usualRtt += (rtt - usualRtt) / FASTER_WINDOWS;
+        } else if (limit <= minLimit) {
+            usualRtt += (rtt - usualRtt) / SLOWER_WINDOWS;
+        }
+        if (rtt <= TOLERANCE * usualRtt && used < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(TOLERANCE * usualRtt / rtt, MIN_GRADIENT, 1.0);
+        double estimate = limit * gradient + Math.sqrt(limit);
+        limit = Math.clamp(limit * (1 - smoothing) + estimate * smoothing, minLimit, maxLimit);
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.demo.shared.adapter.in.web;
+
+import com.example.demo.shared.adapter.out.ConnectionBudget;
+import com.example.demo.shared.configuration.WebhookConcurrencyProperties;
+import com.example.demo.shared.domain.Platform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sheds webhook requests before they can exhaust the database connection pool.
+ * <p>
+ * Each platform gets its own {@link GradientConcurrencyLimit}, so a burst from one platform cannot starve the
+ * others. Each request also takes a permit of the {@link ConnectionBudget} it shares with the inbox workers and
+ * order lanes, which keeps {@code webhook.concurrency.reserved-connections} free for the packing station endpoints.
+ * Requests over either limit are answered with 503 and a Retry-After header straight away, before the body is read;
+ * the platforms redeliver them.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class WebhookConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final String WEBHOOK_PATH = "/api/webhook";
+
+    private final WebhookConcurrencyProperties properties;
+    private final ConnectionBudget sharedBudget;
+    private final Map<Platform, GradientConcurrencyLimit> limits = new EnumMap<>(Platform.class);
+    private final Map<Platform, Counter> limitRejections = new EnumMap<>(Platform.class);
+    private final Map<Platform, Counter> budgetRejections = new EnumMap<>(Platform.class);
+
+    public WebhookConcurrencyFilter(WebhookConcurrencyProperties properties, MeterRegistry meterRegistry,
+                                    ConnectionBudget sharedBudget) {
+        this.properties = properties;
+        this.sharedBudget = sharedBudget;
+
+        for (Platform platform : Platform.values()) {
+            GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties.getInitialLimit(),
+                    properties.getMinLimit(), properties.getMaxLimit(), properties.getSmoothing());
+            limits.put(platform, limit);
+
+            String tag = platform.name().toLowerCase();
+            Gauge.builder("webhook.concurrency.limit", limit, GradientConcurrencyLimit::limit)
+                    .tag("platform", tag)
+                    .register(meterRegistry);
+            Gauge.builder("webhook.concurrency.in.flight", limit, GradientConcurrencyLimit::inFlight)
+                    .tag("platform", tag)
+                    .register(meterRegistry);
+            limitRejections.put(platform, meterRegistry.counter("webhook.concurrency.rejected",
+                    "platform", tag, "reason", "limit"));
+            budgetRejections.put(platform, meterRegistry.counter("webhook.concurrency.rejected",
+                    "platform", tag, "reason", "reserved"));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // Covers both /api/webhook/** and /api/webhooks/**
+        return !request.getRequestURI().startsWith(WEBHOOK_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Platform platform = platform(request.getRequestURI());
+        if (platform == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!sharedBudget.tryAcquire()) {
+            reject(response, platform, budgetRejections);
+            return;
+        }
+        GradientConcurrencyLimit limit = limits.get(platform);
+        if (!limit.tryAcquire()) {
+            sharedBudget.release();
+            reject(response, platform, limitRejections);
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            filterChain.doFilter(request, response);
+            succeeded = response.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            limit.release(System.nanoTime() - started, succeeded);
+            sharedBudget.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, Platform platform, Map<Platform, Counter> rejections) {
+        rejections.get(platform).increment();
+        log.debug("Shedding {} webhook, limit {}", platform, limits.get(platform).limit());
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(properties.getRetryAfter().toSeconds()));
+    }
+
+    // The platform is the path segment after /api/webhook/ or /api/webhooks/
+    private Platform platform(String uri) {
+        int start = uri.indexOf('/', WEBHOOK_PATH.length());
+        if (start < 0) {
+            return null;
+        }
+        int end = uri.indexOf('/', start + 1);
+        String segment = uri.substring(start + 1, end < 0 ? uri.length() : end);
+        for (Platform platform : Platform.values()) {
+            if (platform.name().equalsIgnoreCase(segment)) {
+                return platform;
+            }
+        }
+        return null;
+    }
+}
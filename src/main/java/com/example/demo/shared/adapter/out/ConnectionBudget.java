@@ -0,0 +1,49 @@
+package com.example.demo.shared.adapter.out;
+
+import com.example.demo.shared.configuration.WebhookConcurrencyProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * The database connections that webhook requests and the inbox workers and order lanes may hold together: the pool
+ * size minus {@code webhook.concurrency.reserved-connections}, which stay free for the packing station endpoints.
+ * <p>
+ * Webhook requests take one permit for their whole duration and are shed when none is left. Inbox workers and order
+ * lanes wait for one per task instead. Other connections, such as migrations and scheduled jobs, are not charged.
+ */
+@Component
+public class ConnectionBudget {
+
+    private final Semaphore permits;
+    private final int capacity;
+
+    public ConnectionBudget(WebhookConcurrencyProperties properties,
+                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.capacity = Math.max(1, poolSize - properties.getReservedConnections());
+        this.permits = new Semaphore(capacity);
+    }
+
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    // For tasks that hold one connection at a time; waits for a permit rather than failing the task
+    public void run(Runnable task) {
+        permits.acquireUninterruptibly();
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
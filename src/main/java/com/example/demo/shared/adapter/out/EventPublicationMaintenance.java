@@ -0,0 +1,99 @@
+package com.example.demo.shared.adapter.out;
+
+import com.example.demo.shared.configuration.EventPublicationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Keeps the event publication registry moving under load.
+ * <p>
+ * Publications left incomplete by a crash or a failed listener are resubmitted oldest first, a bounded batch per
+ * run, by one instance at a time. Completed publications are moved to {@code event_publication_archive} by
+ * Spring Modulith and deleted from there in chunks once they are past their retention.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventPublicationMaintenance {
+
+    // Advisory lock key held by the instance currently resubmitting
+    private static final long RESUBMISSION_LOCK = 0x6576656e74L;
+
+    private static final Duration CLOCK_MARGIN = Duration.ofMillis(1);
+
+    // Served from the partial index on incomplete publications
+    private static final String FIND_OLDEST_INCOMPLETE = """
+            SELECT publication_date
+            FROM event_publication
+            WHERE completion_date IS NULL AND publication_date < ?
+            ORDER BY publication_date
+            LIMIT ?
+            """;
+
+    private static final String DELETE_ARCHIVED = """
+            DELETE FROM event_publication_archive
+            WHERE id IN (SELECT id FROM event_publication_archive WHERE completion_date < ? LIMIT ?)
+            """;
+
+    private final IncompleteEventPublications incompletePublications;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventPublicationProperties properties;
+
+    @Scheduled(fixedDelayString = "${events.publication.resubmit-interval:PT1M}")
+    @Transactional
+    public void resubmitIncomplete() {
+        // Released with the transaction; another instance already holding it is resubmitting
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                RESUBMISSION_LOCK);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        // Only the batch is loaded: past it, the cutoff moves back to the first publication left out
+        Instant cutoff = Instant.now().minus(properties.getResubmitAfter());
+        int batchSize = properties.getResubmitBatchSize();
+        List<OffsetDateTime> waiting = jdbcTemplate.queryForList(FIND_OLDEST_INCOMPLETE, OffsetDateTime.class,
+                OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC), batchSize + 1);
+        if (waiting.isEmpty()) {
+            return;
+        }
+        if (waiting.size() > batchSize) {
+            cutoff = waiting.get(batchSize).toInstant();
+        }
+
+        // The registry takes an age, measured from its own clock a moment later; the margin keeps it inside the cutoff
+        Duration olderThan = Duration.between(cutoff, Instant.now()).plus(CLOCK_MARGIN);
+        incompletePublications.resubmitIncompletePublicationsOlderThan(olderThan);
+        log.warn("Resubmitted {} incomplete event publications", Math.min(waiting.size(), batchSize));
+    }
+
+    @Scheduled(fixedDelayString = "${events.publication.archive-cleanup-interval:PT1H}")
+    public void deleteArchived() {
+        OffsetDateTime before = OffsetDateTime.ofInstant(
+                Instant.now().minus(properties.getArchiveRetention()), ZoneOffset.UTC);
+        int batchSize = properties.getArchiveDeleteBatchSize();
+
+        // Short statements keep locks and WAL bursts small while a large backlog is worked off
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_ARCHIVED, before, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.debug("Deleted {} archived event publications", total);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.shared.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "events.publication")
+public class EventPublicationProperties {
+
+    // Incomplete publications younger than this are assumed to be still in flight
+    private Duration resubmitAfter = Duration.ofMinutes(5);
+
+    // Maximum publications resubmitted per run
+    private int resubmitBatchSize = 500;
+
+    // How long completed publications are kept in the archive
+    private Duration archiveRetention = Duration.ofDays(7);
+
+    // Archived publications deleted per statement
+    private int archiveDeleteBatchSize = 10_000;
+}
@@ -41,6 +41,9 @@ public class SecurityConfiguration {
                         // Platform OAuth callback (needs to be public for OAuth redirect)
                         .requestMatchers("/platform/callback").permitAll()
 
+                        // Platform webhooks (authenticated by their signature)
+                        .requestMatchers("/api/webhook/**", "/api/webhooks/**").permitAll()
+
                         // Swagger UI and API docs
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
@@ -0,0 +1,29 @@
+package com.example.demo.shared.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "webhook.concurrency")
+public class WebhookConcurrencyProperties {
+
+    // Concurrent webhook requests per platform before any latency has been measured
+    private int initialLimit = 8;
+
+    // Bounds the adaptive per-platform limit moves within
+    private int minLimit = 2;
+    private int maxLimit = 64;
+
+    // Database connections neither webhooks nor background work take, kept for packing station requests
+    private int reservedConnections = 4;
+
+    // Weight of each new limit estimate; lower values react slower but steadier
+    private double smoothing = 0.2;
+
+    // Sent as Retry-After with shed requests
+    private Duration retryAfter = Duration.ofSeconds(5);
+}
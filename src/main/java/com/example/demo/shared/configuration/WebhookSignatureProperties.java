@@ -0,0 +1,18 @@
+package com.example.demo.shared.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "webhook.signature")
+public class WebhookSignatureProperties {
+
+    // Development only: accept webhooks whose platform secret is not configured instead of rejecting them
+    private boolean allowUnsigned = false;
+
+    // Webhook bodies are buffered in memory to verify their signature; larger ones are rejected with 413
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
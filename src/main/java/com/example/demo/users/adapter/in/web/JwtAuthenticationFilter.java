@@ -100,6 +100,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                requestPath.startsWith("/api/users/signup") ||
                requestPath.startsWith("/api/users/login") ||
                requestPath.startsWith("/platform/callback") ||
+               requestPath.startsWith("/api/webhook") ||
                requestPath.startsWith("/swagger-ui/") ||
                requestPath.startsWith("/v3/api-docs/") ||
                requestPath.startsWith("/webjars/") ||
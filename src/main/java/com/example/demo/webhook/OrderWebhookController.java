@@ -1,19 +1,15 @@
 package com.example.demo.webhook;
 
 import com.example.demo.TiktokConfiguration;
-import com.example.demo.webhook.events.LazadaReverseOrderEvent;
-import com.example.demo.webhook.events.LazadaTradeOrderEvent;
-import com.example.demo.webhook.events.ShopeeOrderEvent;
-import com.example.demo.webhook.events.TiktokOrderStatusEvent;
+import com.example.demo.shared.adapter.in.web.CachedBodyFilter;
+import com.example.demo.shared.adapter.in.web.WebhookSignatureVerifier;
+import com.example.demo.shared.domain.Platform;
 import com.example.demo.webhook.internal.*;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.Map;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.NotImplementedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -26,50 +22,41 @@ public class OrderWebhookController {
 
     private final @NonNull HandleWebhook handleWebhook;
     private final @NonNull TiktokConfiguration tiktokConfiguration;
-    private final @NonNull ObjectMapper objectMapper;
+    private final @NonNull OrderWebhookProperties webhookProperties;
+    private final @NonNull WebhookSignatureVerifier signatureVerifier;
+    private final @NonNull WebhookEventDecoder eventDecoder;
+    private final @NonNull WebhookReceipts webhookReceipts;
 
     @PostMapping("/lazada")
     @ResponseStatus(HttpStatus.OK)
     public String lazadaWebhook(
         @RequestHeader("Authorization") String authorizationHeader,
-        @RequestBody LazadaWebhookData<Map<String, Object>> webhookData
+        HttpServletRequest request
     ) {
         log.debug("Lazada webhook received");
-        Map<String, Object> data = webhookData.data();
-        data.put("sellerId", webhookData.sellerId());
-        log.info(webhookData.toString());
-        switch (webhookData.messageType()) {
-            case TRADE_ORDER_NOTIFICATION -> handleWebhook.handle(
-                data,
-                LazadaTradeOrderEvent.class
-            );
-            case REVERSE_ORDER -> handleWebhook.handle(
-                data,
-                LazadaReverseOrderEvent.class
-            );
-            default -> throw new NotImplementedException(
-                "Unsupported message type: " + webhookData.messageType()
-            );
-        }
+        OrderWebhookProperties.Lazada lazada = webhookProperties.getLazada();
+        requireSignature("Lazada", lazada.getAppSecret(),
+            WebhookSignatureVerifier.signedPrefix(Platform.LAZADA, lazada.getAppKey(), null),
+            request, authorizationHeader);
+        handle(Platform.LAZADA, decode("Lazada", request, eventDecoder::decodeLazada));
         return "Lazada webhook received";
     }
 
     @PostMapping("/shopee")
     @ResponseStatus(HttpStatus.OK)
     public String shopee(
-        @RequestBody ShopeeWebhookData<Map<String, Object>> webhookData
+        @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+        HttpServletRequest request
     ) {
         log.debug("Shopee webhook received");
-        Map<String, Object> data = webhookData.data();
-        switch (webhookData.code()) {
-            case ORDER_STATUS_PUSH -> handleWebhook.handle(
-                data,
-                ShopeeOrderEvent.class
-            );
-            default -> throw new NotImplementedException(
-                "Unsupported message type: " + webhookData.code()
-            );
-        }
+        OrderWebhookProperties.Shopee shopee = webhookProperties.getShopee();
+        String callbackUrl = shopee.getCallbackUrl() != null && !shopee.getCallbackUrl().isEmpty()
+            ? shopee.getCallbackUrl()
+            : request.getRequestURL().toString();
+        requireSignature("Shopee", shopee.getPartnerKey(),
+            WebhookSignatureVerifier.signedPrefix(Platform.SHOPEE, null, callbackUrl),
+            request, authorizationHeader);
+        handle(Platform.SHOPEE, decode("Shopee", request, eventDecoder::decodeShopee));
         return "Shopee webhook received";
     }
 
@@ -77,38 +64,63 @@ public class OrderWebhookController {
     @ResponseStatus(HttpStatus.OK)
     public String tiktok(
         @RequestHeader("Authorization") String signature,
-        @RequestBody String payload
+        HttpServletRequest request
     ) {
         log.debug("TikTok webhook received");
+        requireSignature("TikTok", tiktokConfiguration.getAppSecret(),
+            WebhookSignatureVerifier.signedPrefix(Platform.TIKTOK, tiktokConfiguration.getAppKey(), null),
+            request, signature);
+        handle(Platform.TIKTOK, decode("TikTok", request, eventDecoder::decodeTiktok));
+        return "TikTok webhook received";
+    }
 
-        if (!tiktokConfiguration.verifySignature(signature, payload)) {
-            log.error("Invalid TikTok webhook signature");
-            throw new ResponseStatusException(
-                HttpStatus.UNAUTHORIZED,
-                "Invalid signature"
-            );
+    // Redeliveries seen recently are acknowledged before a transaction is opened
+    private void handle(Platform platform, DecodedWebhook webhook) {
+        if (webhook == DecodedWebhook.UNHANDLED) {
+            // Acknowledged so the platform does not redeliver a notification nobody consumes
+            log.debug("Ignoring unhandled {} webhook", platform);
+            return;
+        }
+        if (webhookReceipts.isKnownDuplicate(platform, webhook.receiptKey())) {
+            log.debug("Skipping redelivered {} webhook {}", platform, webhook.receiptKey());
+            return;
         }
+        handleWebhook.handle(platform, webhook);
+    }
+
+    private DecodedWebhook decode(String platform, HttpServletRequest request, Decoder decoder) {
         try {
-            TiktokWebhookData<Map<String, Object>> webhookData =
-                objectMapper.readValue(payload, new TypeReference<>() {});
-            log.info("Received TikTok webhook data: {}", webhookData);
-            // Handle webhook data here
-            switch (webhookData.type()) {
-                case ORDER_STATUS -> handleWebhook.handle(
-                    webhookData.data(),
-                    TiktokOrderStatusEvent.class
-                );
-                default -> throw new NotImplementedException(
-                    "Unsupported TikTok message type: " + webhookData.type()
-                );
-            }
-            return "TikTok webhook received";
-        } catch (JsonProcessingException e) {
-            log.error("Error processing TikTok webhook", e);
+            return decoder.decode(CachedBodyFilter.body(request));
+        } catch (IOException | IllegalArgumentException e) {
+            // Malformed JSON or a message type the platform does not define
+            log.error("Error processing {} webhook", platform, e);
             throw new ResponseStatusException(
                 HttpStatus.BAD_REQUEST,
                 "Invalid payload"
             );
         }
     }
+
+    @FunctionalInterface
+    private interface Decoder {
+        DecodedWebhook decode(byte[] body) throws IOException;
+    }
+
+    // Checked against the raw body; pushes are rejected while the platform's secret is not configured
+    private void requireSignature(
+        String platform,
+        String secret,
+        String signedPrefix,
+        HttpServletRequest request,
+        String signature
+    ) {
+        byte[] body = CachedBodyFilter.body(request);
+        if (!signatureVerifier.verify(secret, signedPrefix, body, signature)) {
+            log.error("Invalid {} webhook signature", platform);
+            throw new ResponseStatusException(
+                HttpStatus.UNAUTHORIZED,
+                "Invalid signature"
+            );
+        }
+    }
 }
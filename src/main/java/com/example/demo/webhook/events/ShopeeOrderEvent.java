@@ -9,5 +9,6 @@ public record ShopeeOrderEvent(
     @JsonAlias("ordersn") String orderId,
     @JsonAlias("status") String orderStatus,
     @JsonAlias("completed_scenario") String completedScenario,
-    @JsonAlias("update_time") Long updateTime
+    @JsonAlias("update_time") Long updateTime,
+    @JsonAlias("shop_id") String shopId
 ) implements DomainEvent {}
@@ -0,0 +1,8 @@
+package com.example.demo.webhook.internal;
+
+// The event to publish and the key under which redeliveries of the same notification are recognised
+public record DecodedWebhook(Object event, String receiptKey) {
+
+    // A notification type that is acknowledged without publishing anything
+    public static final DecodedWebhook UNHANDLED = new DecodedWebhook(null, null);
+}
@@ -1,11 +1,12 @@
 package com.example.demo.webhook.internal;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.demo.shared.domain.Platform;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
@@ -13,13 +14,17 @@ import org.springframework.stereotype.Service;
 public class HandleWebhook {
 
     private final @NonNull ApplicationEventPublisher eventPublisher;
-    private final ObjectMapper mapper;
+    private final @NonNull WebhookReceipts webhookReceipts;
 
-    public <T, U> void handle(T data, Class<U> castType) {
-        // Logic to handle the webhook payload
-
-        U tradeOrder = mapper.convertValue(data, castType);
-        log.info("Handling Webhook Data: {}", tradeOrder);
-        eventPublisher.publishEvent(tradeOrder);
+    // Publishing inside a transaction records the event in the publication registry before listeners run,
+    // and commits the receipt together with it
+    @Transactional
+    public void handle(Platform platform, DecodedWebhook webhook) {
+        if (!webhookReceipts.record(platform, webhook.receiptKey())) {
+            log.debug("Skipping redelivered {} webhook {}", platform, webhook.receiptKey());
+            return;
+        }
+        log.info("Handling Webhook Data: {}", webhook.event());
+        eventPublisher.publishEvent(webhook.event());
     }
 }
@@ -0,0 +1,30 @@
+package com.example.demo.webhook.internal;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "integration")
+public class OrderWebhookProperties {
+
+    private Lazada lazada = new Lazada();
+
+    private Shopee shopee = new Shopee();
+
+    // Pushes are signed with the app secret over the app key followed by the body
+    @Data
+    public static class Lazada {
+        private String appKey;
+        private String appSecret;
+    }
+
+    // Pushes are signed with the partner key over the push URL, a '|' and the body
+    @Data
+    public static class Shopee {
+        private String partnerKey;
+        // Push URL as registered with Shopee; the request URL is used when unset
+        private String callbackUrl;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.webhook.internal;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "webhook.deduplication")
+public class WebhookDeduplicationProperties {
+
+    // How long receipts are kept in webhook_receipts; redeliveries after this are processed again
+    private Duration retention = Duration.ofDays(3);
+
+    // Recent receipts answered from memory without a database round trip
+    private Duration memoryWindow = Duration.ofHours(1);
+
+    // Slices of the memory window; the oldest slice is dropped as a whole
+    private int memoryBuckets = 12;
+
+    // Expired receipts deleted per statement
+    private int deleteBatchSize = 10_000;
+}
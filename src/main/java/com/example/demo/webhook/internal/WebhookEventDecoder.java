@@ -0,0 +1,166 @@
+package com.example.demo.webhook.internal;
+
+import com.example.demo.webhook.events.LazadaReverseOrderEvent;
+import com.example.demo.webhook.events.LazadaTradeOrderEvent;
+import com.example.demo.webhook.events.ShopeeOrderEvent;
+import com.example.demo.webhook.events.TiktokOrderStatusEvent;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Decodes raw webhook bodies straight into the published event records.
+ * <p>
+ * The envelope is read once with a streaming parser: the message type picks the event class and {@code data} is
+ * bound directly into it. Only when {@code data} comes before the message type is it buffered as tokens until
+ * the type is known. The seller or shop id from the envelope is carried into the events that have one.
+ * <p>
+ * The receipt key identifies the notification across redeliveries: TikTok's {@code tts_notification_id}, or
+ * otherwise the sender, message type, push timestamp and the order fields of the event.
+ * <p>
+ * Message types the platform defines but that carry nothing to act on decode to {@link DecodedWebhook#UNHANDLED}
+ * without binding their {@code data}.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebhookEventDecoder {
+
+    private static final String DATA = "data";
+    private static final String TIMESTAMP = "timestamp";
+    private static final String NOTIFICATION_ID = "tts_notification_id";
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private record Envelope(Object event, int type, String ownerId, long timestamp, String notificationId) {
+    }
+
+    public DecodedWebhook decodeLazada(byte[] body) throws IOException {
+        Envelope envelope = read(body, "message_type", "seller_id",
+                type -> switch (LazadaMessageType.fromMessageType(type)) {
+                    case TRADE_ORDER_NOTIFICATION -> LazadaTradeOrderEvent.class;
+                    case REVERSE_ORDER -> LazadaReverseOrderEvent.class;
+                });
+        Object event = envelope.event();
+        if (event instanceof LazadaTradeOrderEvent trade && envelope.ownerId() != null) {
+            event = new LazadaTradeOrderEvent(trade.orderStatus(), trade.statusUpdateTime(), trade.tradeOrderId(),
+                    trade.tradeOrderLineId(), envelope.ownerId());
+        }
+        return new DecodedWebhook(event, receiptKey(envelope, event));
+    }
+
+    public DecodedWebhook decodeShopee(byte[] body) throws IOException {
+        Envelope envelope = read(body, "code", "shop_id",
+                code -> switch (ShopeeMessageCode.fromCode(code)) {
+                    case ORDER_STATUS_PUSH -> ShopeeOrderEvent.class;
+                    case TRACKING_NUMBER_PUSH, SHIPPING_DOCUMENT_STATUS_PUSH, PACKAGE_FULFILLMENT_STATUS_PUSH -> null;
+                });
+        Object event = envelope.event();
+        if (event == null) {
+            return DecodedWebhook.UNHANDLED;
+        }
+        if (event instanceof ShopeeOrderEvent order && envelope.ownerId() != null) {
+            event = new ShopeeOrderEvent(order.orderId(), order.orderStatus(), order.completedScenario(),
+                    order.updateTime(), envelope.ownerId());
+        }
+        return new DecodedWebhook(event, receiptKey(envelope, event));
+    }
+
+    public DecodedWebhook decodeTiktok(byte[] body) throws IOException {
+        Envelope envelope = read(body, "type", "shop_id",
+                type -> switch (TiktokMessageType.fromType(type)) {
+                    case ORDER_STATUS -> TiktokOrderStatusEvent.class;
+                });
+        return new DecodedWebhook(envelope.event(), receiptKey(envelope, envelope.event()));
+    }
+
+    private String receiptKey(Envelope envelope, Object event) {
+        if (envelope.notificationId() != null) {
+            return envelope.notificationId();
+        }
+        String order = switch (event) {
+            case LazadaTradeOrderEvent e -> String.join("|",
+                    e.tradeOrderId(), e.tradeOrderLineId(), e.orderStatus());
+            case LazadaReverseOrderEvent e -> String.join("|",
+                    e.reverseOrderId(), e.reverseOrderLineId(), e.orderStatus());
+            case ShopeeOrderEvent e -> String.join("|", e.orderId(), e.orderStatus());
+            case TiktokOrderStatusEvent e -> String.join("|", e.orderId(), e.orderStatus());
+            default -> throw new IllegalArgumentException("Unknown webhook event " + event.getClass());
+        };
+        return envelope.ownerId() + "|" + envelope.type() + "|" + envelope.timestamp() + "|" + order;
+    }
+
+    private Envelope read(byte[] body, String typeField, String ownerField, IntFunction<Class<?>> eventType)
+            throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Webhook payload is not a JSON object");
+            }
+
+            boolean typed = false;
+            Class<?> type = null;
+            int typeCode = 0;
+            String ownerId = null;
+            long timestamp = 0;
+            String notificationId = null;
+            Object event = null;
+            TokenBuffer bufferedData = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals(typeField)) {
+                    typeCode = parser.getValueAsInt();
+                    type = eventType.apply(typeCode);
+                    typed = true;
+                } else if (field.equals(ownerField)) {
+                    ownerId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else if (field.equals(TIMESTAMP)) {
+                    timestamp = parser.getValueAsLong();
+                } else if (field.equals(NOTIFICATION_ID)) {
+                    notificationId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                } else if (field.equals(DATA) && !(typed && type == null)) {
+                    if (type != null) {
+                        event = reader(type).readValue(parser);
+                    } else {
+                        bufferedData = new TokenBuffer(parser);
+                        bufferedData.copyCurrentStructure(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (!typed) {
+                throw MismatchedInputException.from(parser, (Class<?>) null,
+                        "Webhook payload has no '" + typeField + "'");
+            }
+            if (type == null) {
+                return new Envelope(null, typeCode, ownerId, timestamp, notificationId);
+            }
+            if (bufferedData != null) {
+                try (JsonParser data = bufferedData.asParser()) {
+                    event = reader(type).readValue(data);
+                }
+            }
+            if (event == null) {
+                throw MismatchedInputException.from(parser, type, "Webhook payload has no '" + DATA + "'");
+            }
+            return new Envelope(event, typeCode, ownerId, timestamp, notificationId);
+        }
+    }
+
+    private ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.demo.webhook.internal;
+
+import com.example.demo.shared.domain.Platform;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remembers which webhook notifications have been processed so platform redeliveries are acknowledged without
+ * publishing their events again.
+ * <p>
+ * A receipt is written to {@code webhook_receipts} in the transaction that publishes the event, so a failed
+ * attempt leaves no receipt and the platform's retry is processed. Committed receipts are also kept in memory for
+ * {@code webhook.deduplication.memory-window}, in time buckets that are dropped whole as they age out, so most
+ * redeliveries are answered without touching the database. Receipts are deleted after {@code retention}.
+ */
+@Component
+@Slf4j
+public class WebhookReceipts {
+
+    private static final String INSERT = """
+            INSERT INTO webhook_receipts (platform, receipt_key, received_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM webhook_receipts
+            WHERE (platform, receipt_key) IN (
+                SELECT platform, receipt_key FROM webhook_receipts WHERE received_at < ? LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WebhookDeduplicationProperties properties;
+
+    private final long bucketMillis;
+    private final Set<String>[] buckets;
+    // Time slot each bucket currently holds, in bucketMillis since the epoch
+    private final AtomicLongArray bucketSlots;
+
+    private final Map<Platform, Counter> accepted = new EnumMap<>(Platform.class);
+    private final Map<Platform, Counter> duplicates = new EnumMap<>(Platform.class);
+
+    @SuppressWarnings("unchecked")
+    public WebhookReceipts(JdbcTemplate jdbcTemplate, WebhookDeduplicationProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        int bucketCount = properties.getMemoryBuckets();
+        this.bucketMillis = Math.max(1, properties.getMemoryWindow().toMillis() / bucketCount);
+        this.buckets = new Set[bucketCount];
+        this.bucketSlots = new AtomicLongArray(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+            bucketSlots.set(i, -1);
+        }
+
+        for (Platform platform : Platform.values()) {
+            String tag = platform.name().toLowerCase();
+            accepted.put(platform, meterRegistry.counter("webhook.receipts", "platform", tag, "result", "accepted"));
+            duplicates.put(platform, meterRegistry.counter("webhook.receipts", "platform", tag, "result", "duplicate"));
+        }
+    }
+
+    // Memory only: a miss does not mean the notification is new, record() decides that
+    public boolean isKnownDuplicate(Platform platform, String receiptKey) {
+        String key = memoryKey(platform, receiptKey);
+        long slot = currentSlot();
+        for (int i = 0; i < buckets.length; i++) {
+            if (slot - bucketSlots.get(i) < buckets.length && buckets[i].contains(key)) {
+                duplicates.get(platform).increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Must run in the transaction that publishes the event; false when the notification was already processed
+    public boolean record(Platform platform, String receiptKey) {
+        int inserted = jdbcTemplate.update(INSERT, platform.name(), receiptKey,
+                OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
+        if (inserted == 0) {
+            duplicates.get(platform).increment();
+            return false;
+        }
+
+        accepted.get(platform).increment();
+        String key = memoryKey(platform, receiptKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(key);
+                }
+            });
+        } else {
+            remember(key);
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${webhook.deduplication.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        OffsetDateTime before = OffsetDateTime.ofInstant(
+                Instant.now().minus(properties.getRetention()), ZoneOffset.UTC);
+        int batchSize = properties.getDeleteBatchSize();
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, before, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.debug("Deleted {} expired webhook receipts", total);
+        }
+    }
+
+    private void remember(String key) {
+        long slot = currentSlot();
+        int index = (int) (slot % buckets.length);
+        long held = bucketSlots.get(index);
+        // The first writer of a new slot empties the bucket; a key lost to the race is still in the database
+        if (held != slot && bucketSlots.compareAndSet(index, held, slot)) {
+            buckets[index].clear();
+        }
+        buckets[index].add(key);
+    }
+
+    private long currentSlot() {
+        return System.currentTimeMillis() / bucketMillis;
+    }
+
+    private String memoryKey(Platform platform, String receiptKey) {
+        return platform.name() + ':' + receiptKey;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.order.application;
+
+import com.example.demo.order.domain.Order;
+import com.example.demo.order.port.in.FetchedOrder;
+import com.example.demo.order.port.out.OrderRepository;
+import com.example.demo.shared.domain.Platform;
+import com.example.demo.webhook.events.LazadaTradeOrderEvent;
+import com.example.demo.webhook.events.ShopeeOrderEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderReconciliationServiceTest {
+
+    private static final String SHOP_ID = "880001";
+    private static final long UPDATED = 1_760_000_000L;
+    private static final Instant RECONCILED = Instant.ofEpochSecond(UPDATED);
+
+    private final InMemoryOrderRepository repository = new InMemoryOrderRepository();
+    private final OrderReconciliationService service = new OrderReconciliationService(repository);
+
+    @Test
+    void webhookUpdateAfterReconcileIsApplied() {
+        service.reconcile(SHOP_ID, List.of(fetched(SHOP_ID, "SN1", "READY_TO_SHIP", RECONCILED)));
+
+        Order pushed = OrderManagement.toOrder(
+                new ShopeeOrderEvent("SN1", "SHIPPED", null, UPDATED + 60, SHOP_ID));
+
+        assertThat(repository.upsert(pushed)).isTrue();
+        assertThat(repository.find(SHOP_ID, "SN1").getStatus()).isEqualTo("SHIPPED");
+    }
+
+    @Test
+    void lazadaWebhookUpdateAfterReconcileIsApplied() {
+        service.reconcile("LZ1", List.of(fetched("LZ1", "T1", "pending", RECONCILED)));
+
+        Order pushed = OrderManagement.toOrder(
+                new LazadaTradeOrderEvent("ready_to_ship", UPDATED + 60, "T1", null, "LZ1"));
+
+        assertThat(repository.upsert(pushed)).isTrue();
+        assertThat(repository.find("LZ1", "T1").getStatus()).isEqualTo("ready_to_ship");
+    }
+
+    @Test
+    void staleWebhookDoesNotOverwriteReconciledOrder() {
+        service.reconcile(SHOP_ID, List.of(fetched(SHOP_ID, "SN1", "SHIPPED", RECONCILED)));
+
+        Order pushed = OrderManagement.toOrder(
+                new ShopeeOrderEvent("SN1", "READY_TO_SHIP", null, UPDATED - 60, SHOP_ID));
+
+        assertThat(repository.upsert(pushed)).isFalse();
+        assertThat(repository.find(SHOP_ID, "SN1").getStatus()).isEqualTo("SHIPPED");
+    }
+
+    @Test
+    void pushUpdateTimeIsReadAsEpochSeconds() {
+        Order pushed = OrderManagement.toOrder(new ShopeeOrderEvent("SN1", "SHIPPED", null, UPDATED, SHOP_ID));
+
+        assertThat(pushed.getUpdatedAt()).isEqualTo(Instant.ofEpochSecond(UPDATED));
+    }
+
+    @Test
+    void unchangedOrdersAreNotWritten() {
+        service.reconcile(SHOP_ID, List.of(fetched(SHOP_ID, "SN1", "SHIPPED", RECONCILED)));
+
+        int written = service.reconcile(SHOP_ID,
+                List.of(fetched(SHOP_ID, "SN1", "SHIPPED", Instant.ofEpochSecond(UPDATED + 60))));
+
+        assertThat(written).isZero();
+    }
+
+    private static FetchedOrder fetched(String sellerId, String platformOrderId, String status, Instant updatedAt) {
+        return new FetchedOrder(Platform.SHOPEE, sellerId, platformOrderId, status, null, updatedAt);
+    }
+
+    // Same conflict rule as the INSERT ... ON CONFLICT upsert: only a strictly newer update replaces the stored one
+    private static class InMemoryOrderRepository implements OrderRepository {
+
+        private final Map<String, Order> orders = new HashMap<>();
+
+        Order find(String sellerId, String platformOrderId) {
+            return orders.get(sellerId + "|" + platformOrderId);
+        }
+
+        @Override
+        public boolean upsert(Order order) {
+            String key = order.getSellerId() + "|" + order.getPlatformOrderId();
+            Order stored = orders.get(key);
+            if (stored != null && !order.getUpdatedAt().isAfter(stored.getUpdatedAt())) {
+                return false;
+            }
+            orders.put(key, order);
+            return true;
+        }
+
+        @Override
+        public int upsertAll(Collection<Order> batch) {
+            int written = 0;
+            for (Order order : batch) {
+                written += upsert(order) ? 1 : 0;
+            }
+            return written;
+        }
+
+        @Override
+        public List<Order> findBySellerIdAndPlatformOrderIds(String sellerId, Collection<String> platformOrderIds) {
+            List<Order> found = new ArrayList<>();
+            for (String platformOrderId : platformOrderIds) {
+                Order order = find(sellerId, platformOrderId);
+                if (order != null) {
+                    found.add(order);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public Order findById(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Order> findAll() {
+            return List.copyOf(orders.values());
+        }
+
+        @Override
+        public Order save(Order order) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
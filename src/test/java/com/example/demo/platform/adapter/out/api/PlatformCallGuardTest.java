@@ -0,0 +1,143 @@
+package com.example.demo.platform.adapter.out.api;
+
+import com.example.demo.platform.configuration.PlatformApiProperties;
+import com.example.demo.platform.domain.PlatformIntegration;
+import com.example.demo.platform.port.out.PlatformApiException;
+import com.example.demo.platform.port.out.PlatformRateLimitException;
+import com.example.demo.platform.port.out.PlatformUnavailableException;
+import com.example.demo.shared.domain.Platform;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class PlatformCallGuardTest {
+
+    private static final String URL = "https://partner.shopeemobile.com/api/v2/product/get_item_list";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlatformIntegration integration = PlatformIntegration.builder()
+            .id(UUID.randomUUID())
+            .platform(Platform.SHOPEE)
+            .shopId("880001")
+            .build();
+
+    @Test
+    void throttledCallLowersTheRateAndDelaysTheNextPermit() {
+        PlatformCallGuard guard = new PlatformCallGuard(properties(Duration.ofSeconds(30)), meterRegistry);
+        server.expect(once(), requestTo(URL)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        server.expect(once(), requestTo(URL)).andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> get(guard)).isInstanceOf(PlatformRateLimitException.class);
+        assertThat(get(guard)).isEqualTo("{}");
+
+        // The burst is dropped on a 429, so the second call waits for a token at the halved rate of 50/s
+        server.verify();
+        assertThat(meterRegistry.counter("platform.api.throttled", "platform", "SHOPEE").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("platform.api.permit.wait", "platform", "SHOPEE").max(TimeUnit.MILLISECONDS))
+                .isGreaterThan(0);
+    }
+
+    @Test
+    void rateIsCutOncePerBurstOfThrottlesAndRecoversOnSuccess() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(properties(Duration.ofSeconds(30)).getRateLimit());
+
+        limiter.onThrottle();
+        limiter.onThrottle();
+        assertThat(limiter.getRate()).isEqualTo(50.0);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.getRate()).isGreaterThan(50.9).isLessThan(51.0);
+    }
+
+    @Test
+    void serverErrorsOpenTheCircuit() {
+        PlatformCallGuard guard = new PlatformCallGuard(properties(Duration.ofMinutes(5)), meterRegistry);
+        server.expect(times(3), requestTo(URL)).andRespond(withServerError());
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> get(guard))
+                    .isInstanceOf(PlatformApiException.class)
+                    .isNotInstanceOf(PlatformUnavailableException.class);
+        }
+
+        // Short-circuited without reaching the server
+        assertThatThrownBy(() -> get(guard)).isInstanceOf(PlatformUnavailableException.class);
+        server.verify();
+        assertThat(meterRegistry.counter("platform.api.circuit.rejected", "platform", "SHOPEE").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void successfulTrialCallClosesTheCircuit() {
+        PlatformCallGuard guard = new PlatformCallGuard(properties(Duration.ZERO), meterRegistry);
+        server.expect(times(3), requestTo(URL)).andRespond(withServerError());
+        server.expect(times(2), requestTo(URL)).andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> get(guard)).isInstanceOf(PlatformApiException.class);
+        }
+
+        // The open duration has passed, so the next call is the half-open trial
+        assertThat(get(guard)).isEqualTo("{}");
+        assertThat(get(guard)).isEqualTo("{}");
+        server.verify();
+    }
+
+    @Test
+    void failedTrialCallReopensTheCircuit() {
+        PlatformApiProperties.CircuitBreaker config = new PlatformApiProperties.CircuitBreaker();
+        config.setFailureThreshold(2);
+        config.setOpenDuration(Duration.ZERO);
+        CircuitBreaker breaker = new CircuitBreaker(config);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        // Only one trial call at a time
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private String get(PlatformCallGuard guard) {
+        return guard.call(integration, () -> restTemplate.getForObject(URL, String.class));
+    }
+
+    private static PlatformApiProperties properties(Duration openDuration) {
+        PlatformApiProperties properties = new PlatformApiProperties();
+        properties.getRateLimit().setInitialRate(100.0);
+        properties.getRateLimit().setMaxRate(200.0);
+        properties.getRateLimit().setMaxWait(Duration.ofSeconds(1));
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        properties.getCircuitBreaker().setOpenDuration(openDuration);
+        return properties;
+    }
+}
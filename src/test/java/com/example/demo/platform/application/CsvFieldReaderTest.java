@@ -0,0 +1,70 @@
+package com.example.demo.platform.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvFieldReaderTest {
+
+    @Test
+    void readsFirstFieldOfEachLine() throws IOException {
+        assertThat(fields("barcode,sku\n4006381333931,A-1\r\n036000291452")).isEqualTo(
+                List.of("barcode", "4006381333931", "036000291452"));
+    }
+
+    @Test
+    void skipsByteOrderMark() throws IOException {
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] csv = "4006381333931,A-1\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[bom.length + csv.length];
+        System.arraycopy(bom, 0, body, 0, bom.length);
+        System.arraycopy(csv, 0, body, bom.length, csv.length);
+
+        assertThat(fields(new ByteArrayInputStream(body))).isEqualTo(List.of("4006381333931"));
+        // Delivered a byte at a time, as a slow upload may be
+        assertThat(fields(new OneByteInputStream(body))).isEqualTo(List.of("4006381333931"));
+    }
+
+    @Test
+    void keepsCommasAndQuotesOfQuotedFields() throws IOException {
+        assertThat(fields("\"VB,001\",x\n\"say \"\"hi\"\"\"\n\"\",y\n")).isEqualTo(
+                List.of("VB,001", "say \"hi\"", ""));
+    }
+
+    @Test
+    void keepsLineBreaksOfQuotedFields() throws IOException {
+        assertThat(fields("\"a\nb\",x\nc\n")).isEqualTo(List.of("a\nb", "c"));
+    }
+
+    private static List<String> fields(String csv) throws IOException {
+        return fields(new ByteArrayInputStream(csv.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static List<String> fields(InputStream in) throws IOException {
+        CsvFieldReader reader = new CsvFieldReader(in);
+        List<String> fields = new ArrayList<>();
+        while (reader.next()) {
+            fields.add(reader.toString());
+        }
+        return fields;
+    }
+
+    private static final class OneByteInputStream extends ByteArrayInputStream {
+
+        OneByteInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
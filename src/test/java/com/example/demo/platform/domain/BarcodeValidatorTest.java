@@ -0,0 +1,51 @@
+package com.example.demo.platform.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BarcodeValidatorTest {
+
+    private final BarcodeValidator validator = new BarcodeValidator();
+    private final BarcodeGenerator generator = new BarcodeGenerator(null);
+
+    @Test
+    void acceptsPublishedCheckDigits() {
+        assertThat(validator.isValid("4006381333931", Product.BarcodeType.EAN13)).isTrue();
+        assertThat(validator.isValid("96385074", Product.BarcodeType.EAN8)).isTrue();
+        assertThat(validator.isValid("036000291452", Product.BarcodeType.UPC_A)).isTrue();
+        assertThat(validator.isValid("04252614", Product.BarcodeType.UPC_E)).isTrue();
+    }
+
+    @Test
+    void rejectsWrongCheckDigits() {
+        assertThat(validator.isValid("4006381333932", Product.BarcodeType.EAN13)).isFalse();
+        assertThat(validator.isValid("036000291453", Product.BarcodeType.UPC_A)).isFalse();
+        assertThat(validator.isValid("04252615", Product.BarcodeType.UPC_E)).isFalse();
+    }
+
+    @Test
+    void rejectsUpcENumberSystemsOtherThanZeroAndOne() {
+        assertThat(validator.isValid("24252614", Product.BarcodeType.UPC_E)).isFalse();
+    }
+
+    @Test
+    void acceptsEveryGeneratedCheckDigit() {
+        Product.BarcodeType[] types = {
+                Product.BarcodeType.EAN13, Product.BarcodeType.EAN8, Product.BarcodeType.UPC_A, Product.BarcodeType.UPC_E
+        };
+        for (Product.BarcodeType type : types) {
+            // Covers every last digit, which picks the UPC-E expansion
+            for (long sequence = 0; sequence < 2_000; sequence += 7) {
+                String barcode = generator.format(type, sequence);
+                assertThat(validator.isValid(barcode, type)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void generatesPublishedCheckDigits() {
+        assertThat(CheckDigits.gs1("400638133393", 0, 12)).isEqualTo(1);
+        assertThat(CheckDigits.upcE("0425261", 0)).isEqualTo(4);
+    }
+}
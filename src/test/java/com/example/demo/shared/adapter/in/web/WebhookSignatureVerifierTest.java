@@ -0,0 +1,111 @@
+package com.example.demo.shared.adapter.in.web;
+
+import com.example.demo.shared.configuration.WebhookSignatureProperties;
+import com.example.demo.shared.domain.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookSignatureVerifierTest {
+
+    // RFC 4231 test case 2
+    private static final String KEY = "Jefe";
+    private static final String DATA = "what do ya want for nothing?";
+    private static final String DIGEST = "5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843";
+
+    private final WebhookSignatureVerifier verifier = new WebhookSignatureVerifier(new WebhookSignatureProperties());
+
+    @Test
+    void acceptsKnownVector() {
+        assertThat(verifier.verify(KEY, "", bytes(DATA), DIGEST)).isTrue();
+    }
+
+    @Test
+    void acceptsUpperCaseHex() {
+        assertThat(verifier.verify(KEY, "", bytes(DATA), DIGEST.toUpperCase())).isTrue();
+    }
+
+    @Test
+    void signsPrefixFollowedByBody() {
+        assertThat(verifier.verify(KEY, "what do ya ", bytes("want for nothing?"), DIGEST)).isTrue();
+    }
+
+    @Test
+    void reusesPooledMacAcrossCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(verifier.verify(KEY, "", bytes(DATA), DIGEST)).isTrue();
+            assertThat(verifier.verify(KEY, "", bytes(DATA + "!"), DIGEST)).isFalse();
+        }
+    }
+
+    @Test
+    void rejectsTamperedBody() {
+        assertThat(verifier.verify(KEY, "", bytes("what do ya want for something?"), DIGEST)).isFalse();
+    }
+
+    @Test
+    void rejectsWrongKey() {
+        assertThat(verifier.verify("jefe", "", bytes(DATA), DIGEST)).isFalse();
+    }
+
+    @Test
+    void rejectsMissingOrMalformedSignature() {
+        assertThat(verifier.verify(KEY, "", bytes(DATA), null)).isFalse();
+        assertThat(verifier.verify(KEY, "", bytes(DATA), "not-hex")).isFalse();
+        assertThat(verifier.verify(KEY, "", bytes(DATA), DIGEST.substring(2))).isFalse();
+    }
+
+    @Test
+    void rejectsWhenSecretIsNotConfigured() {
+        assertThat(verifier.verify(null, "", bytes(DATA), DIGEST)).isFalse();
+        assertThat(verifier.verify("", "", bytes(DATA), null)).isFalse();
+    }
+
+    @Test
+    void acceptsUnsignedOnlyWhenExplicitlyAllowed() {
+        WebhookSignatureProperties properties = new WebhookSignatureProperties();
+        properties.setAllowUnsigned(true);
+        WebhookSignatureVerifier lenient = new WebhookSignatureVerifier(properties);
+
+        assertThat(lenient.verify("", "", bytes(DATA), null)).isTrue();
+        assertThat(lenient.verify(KEY, "", bytes(DATA), "00")).isFalse();
+    }
+
+    @Test
+    void verifiesAppKeySignedPush() {
+        String body = "{\"message_type\":0,\"data\":{}}";
+        String signature = "1e4a7a27da337a330f043468d27e3baae00222bf5b3fd046bd5ada4ef4040bca";
+        String prefix = WebhookSignatureVerifier.signedPrefix(Platform.LAZADA, "100001", null);
+
+        assertThat(prefix).isEqualTo("100001");
+        assertThat(verifier.verify("lazada-secret", prefix, bytes(body), signature)).isTrue();
+        assertThat(verifier.verify("lazada-secret", "", bytes(body), signature)).isFalse();
+    }
+
+    @Test
+    void verifiesUrlSignedShopeePush() {
+        String body = "{\"code\":3,\"data\":{}}";
+        String signature = "aa68c8467e162113125c8cc670caececba653443632f895790cab3b0d9841666";
+        String prefix = WebhookSignatureVerifier.signedPrefix(
+                Platform.SHOPEE, null, "https://shop.example.com/api/webhook/shopee");
+
+        assertThat(prefix).isEqualTo("https://shop.example.com/api/webhook/shopee|");
+        assertThat(verifier.verify("partner-key", prefix, bytes(body), signature)).isTrue();
+        // Behind a TLS-terminating proxy the request URL is http:// and must not be what is verified
+        assertThat(verifier.verify("partner-key", "http://shop.example.com/api/webhook/shopee|", bytes(body),
+                signature)).isFalse();
+    }
+
+    @Test
+    void usesAppKeyForTiktokAndLazadaAlike() {
+        assertThat(WebhookSignatureVerifier.signedPrefix(Platform.TIKTOK, "key", "ignored"))
+                .isEqualTo(WebhookSignatureVerifier.signedPrefix(Platform.LAZADA, "key", "ignored"))
+                .isEqualTo("key");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}